@@ -8,12 +8,14 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Calendar;
 import java.util.Date;
 
 @SpringBootApplication
 @EntityScan(basePackages = "com.company.gym.entity")
+@EnableScheduling
 public class GymCrmApplication {
 
 	private static final Logger logger = LoggerFactory.getLogger(GymCrmApplication.class);
@@ -2,6 +2,7 @@ package com.company.gym.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
@@ -12,7 +13,11 @@ import org.springframework.jms.support.converter.MessageType;
 public class JmsConfig {
 
     @Bean
-    public MessageConverter jacksonJmsMessageConverter() {
+    public MessageConverter jmsMessageConverter(@Value("${workload.message.format:json}") String workloadMessageFormat) {
+        return new WorkloadMessageConverter(jacksonJmsMessageConverter(), "binary".equalsIgnoreCase(workloadMessageFormat));
+    }
+
+    private MessageConverter jacksonJmsMessageConverter() {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
         converter.setTargetType(MessageType.TEXT);
         converter.setTypeIdPropertyName("_type");
@@ -1,9 +1,12 @@
 package com.company.gym.config;
 
 import com.company.gym.security.JwtRequestFilter;
+import com.company.gym.service.PasswordHashingService;
 import com.company.gym.service.LoginAttemptService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +16,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -40,8 +42,11 @@ public class SecurityConfig {
     private UserDetailsService userDetailsService;
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordHashingService passwordEncoder(@Value("${security.password-hashing.threads:0}") int threads,
+                                           @Value("${security.password-hashing.bulk-threads:0}") int bulkThreads,
+                                           @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        return new PasswordHashingService(new BCryptPasswordEncoder(), threads, bulkThreads, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,142 @@
+package com.company.gym.config;
+
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.ActionType;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Converts workload events either to the JSON text messages of the delegate converter or to a compact,
+ * versioned binary {@link BytesMessage}. Binary messages carry the {@value #FORMAT_PROPERTY} property,
+ * consumers use it to pick the decoder, so both formats can be in flight during a rollout.
+ * The event id is not part of the binary layout, it travels in the {@value #EVENT_ID_PROPERTY} property.
+ * Any other payload type is always handled by the delegate.
+ */
+public class WorkloadMessageConverter implements MessageConverter {
+
+    public static final String FORMAT_PROPERTY = "X-Workload-Format";
+    public static final String BINARY_V1 = "binary-v1";
+    public static final String EVENT_ID_PROPERTY = "X-Event-ID";
+
+    private static final byte VERSION_1 = 1;
+
+    private final MessageConverter jsonConverter;
+    private final boolean binary;
+
+    public WorkloadMessageConverter(MessageConverter jsonConverter, boolean binary) {
+        this.jsonConverter = jsonConverter;
+        this.binary = binary;
+    }
+
+    @Override
+    public Message toMessage(Object object, Session session) throws JMSException {
+        if (!binary || !(object instanceof TrainerWorkloadRequest request)) {
+            return jsonConverter.toMessage(object, session);
+        }
+        BytesMessage message = session.createBytesMessage();
+        message.writeBytes(encode(request));
+        message.setStringProperty(FORMAT_PROPERTY, BINARY_V1);
+        if (request.getEventId() != null) {
+            message.setStringProperty(EVENT_ID_PROPERTY, request.getEventId());
+        }
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws JMSException {
+        if (!BINARY_V1.equals(message.getStringProperty(FORMAT_PROPERTY))) {
+            return jsonConverter.fromMessage(message);
+        }
+        if (!(message instanceof BytesMessage bytesMessage)) {
+            throw new MessageConversionException("Binary workload message must be a BytesMessage");
+        }
+        byte[] payload = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(payload);
+        TrainerWorkloadRequest request = decode(payload);
+        request.setEventId(message.getStringProperty(EVENT_ID_PROPERTY));
+        return request;
+    }
+
+    public static byte[] encode(TrainerWorkloadRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION_1);
+            writeString(out, request.getTrainerUsername());
+            writeString(out, request.getTrainerFirstName());
+            writeString(out, request.getTrainerLastName());
+            out.writeBoolean(request.isActive());
+            out.writeBoolean(request.getTrainingDate() != null);
+            if (request.getTrainingDate() != null) {
+                out.writeInt((int) request.getTrainingDate().toEpochDay());
+            }
+            out.writeInt(request.getTrainingDuration());
+            out.writeByte(actionCode(request.getActionType()));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to encode workload event", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static TrainerWorkloadRequest decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION_1) {
+                throw new MessageConversionException("Unsupported workload message version: " + version);
+            }
+            TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+            request.setTrainerUsername(readString(in));
+            request.setTrainerFirstName(readString(in));
+            request.setTrainerLastName(readString(in));
+            request.setActive(in.readBoolean());
+            if (in.readBoolean()) {
+                request.setTrainingDate(LocalDate.ofEpochDay(in.readInt()));
+            }
+            request.setTrainingDuration(in.readInt());
+            request.setActionType(actionType(in.readByte()));
+            return request;
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode workload event", e);
+        }
+    }
+
+    private static byte actionCode(ActionType actionType) {
+        if (actionType == null) {
+            return 0;
+        }
+        return switch (actionType) {
+            case ADD -> 1;
+            case DELETE -> 2;
+        };
+    }
+
+    private static ActionType actionType(byte code) {
+        return switch (code) {
+            case 0 -> null;
+            case 1 -> ActionType.ADD;
+            case 2 -> ActionType.DELETE;
+            default -> throw new MessageConversionException("Unknown workload action code: " + code);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
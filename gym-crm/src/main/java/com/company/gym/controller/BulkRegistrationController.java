@@ -0,0 +1,206 @@
+package com.company.gym.controller;
+
+import com.company.gym.dto.request.TraineeRegistrationRequest;
+import com.company.gym.dto.request.TrainerRegistrationRequest;
+import com.company.gym.dto.response.BulkRegistrationResult;
+import com.company.gym.service.BulkRegistrationService;
+import com.company.gym.util.CsvReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Bulk Registration", description = "Endpoints for importing many trainee or trainer profiles at once")
+@RestController
+public class BulkRegistrationController {
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegistrationController.class);
+
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final BulkRegistrationService bulkRegistrationService;
+    private final ObjectMapper objectMapper;
+    private final Counter traineeRegistrationCounter;
+    private final Counter trainerRegistrationCounter;
+
+    @Value("${registration.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${registration.bulk.max-rows:10000}")
+    private int maxRows;
+
+    @Autowired
+    public BulkRegistrationController(BulkRegistrationService bulkRegistrationService, ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.objectMapper = objectMapper;
+        this.traineeRegistrationCounter = Counter.builder("trainee.registrations.total")
+                .description("Total number of new trainee registrations")
+                .tag("entity", "trainee")
+                .register(meterRegistry);
+        this.trainerRegistrationCounter = Counter.builder("trainer.registrations.total")
+                .description("Total number of new trainer registrations")
+                .tag("entity", "trainer")
+                .register(meterRegistry);
+    }
+
+    @Operation(summary = "Register many trainees",
+            description = "Creates one trainee profile per array element and streams one NDJSON line with the " +
+                    "generated credentials or the error per element.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-row results"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Empty or oversized import"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials")
+    })
+    @PostMapping(value = "/trainees/register/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> registerTrainees(@RequestBody List<TraineeRegistrationRequest> requests) {
+        checkSize(requests.size());
+        return stream(requests, bulkRegistrationService::registerTrainees, traineeRegistrationCounter);
+    }
+
+    @Operation(summary = "Register many trainees from CSV",
+            description = "Same as the JSON import, the header must name the columns firstName, lastName, " +
+                    "dateOfBirth (yyyy-MM-dd) and address.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-row results"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Malformed, empty or oversized import"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials")
+    })
+    @PostMapping(value = "/trainees/register/bulk", consumes = TEXT_CSV, produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> registerTraineesCsv(@RequestBody String csv) {
+        List<Map<String, String>> rows = CsvReader.read(csv);
+        checkSize(rows.size());
+        List<TraineeRegistrationRequest> requests = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> row = rows.get(i);
+            TraineeRegistrationRequest request = new TraineeRegistrationRequest();
+            request.setFirstName(row.get("firstName"));
+            request.setLastName(row.get("lastName"));
+            request.setDateOfBirth(parseDate(row.get("dateOfBirth"), i + 1));
+            request.setAddress(row.get("address"));
+            requests.add(request);
+        }
+        return stream(requests, bulkRegistrationService::registerTrainees, traineeRegistrationCounter);
+    }
+
+    @Operation(summary = "Register many trainers",
+            description = "Creates one trainer profile per array element and streams one NDJSON line with the " +
+                    "generated credentials or the error per element.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-row results"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Empty or oversized import"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials")
+    })
+    @PostMapping(value = "/trainers/register/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> registerTrainers(@RequestBody List<TrainerRegistrationRequest> requests) {
+        checkSize(requests.size());
+        return stream(requests, bulkRegistrationService::registerTrainers, trainerRegistrationCounter);
+    }
+
+    @Operation(summary = "Register many trainers from CSV",
+            description = "Same as the JSON import, the header must name the columns firstName, lastName and specializationId.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-row results"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Malformed, empty or oversized import"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials")
+    })
+    @PostMapping(value = "/trainers/register/bulk", consumes = TEXT_CSV, produces = APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> registerTrainersCsv(@RequestBody String csv) {
+        List<Map<String, String>> rows = CsvReader.read(csv);
+        checkSize(rows.size());
+        List<TrainerRegistrationRequest> requests = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> row = rows.get(i);
+            TrainerRegistrationRequest request = new TrainerRegistrationRequest();
+            request.setFirstName(row.get("firstName"));
+            request.setLastName(row.get("lastName"));
+            request.setSpecializationId(parseId(row.get("specializationId"), i + 1));
+            requests.add(request);
+        }
+        return stream(requests, bulkRegistrationService::registerTrainers, trainerRegistrationCounter);
+    }
+
+    private <R> ResponseEntity<StreamingResponseBody> stream(List<R> requests, ChunkRegistration<R> registration,
+                                                             Counter registrationCounter) {
+        StreamingResponseBody body = outputStream -> {
+            int created = 0;
+            for (int from = 0; from < requests.size(); from += chunkSize) {
+                List<R> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+                for (BulkRegistrationResult result : registration.register(chunk, from + 1)) {
+                    write(outputStream, result);
+                    if (result.getError() == null) {
+                        created++;
+                    }
+                }
+                outputStream.flush();
+            }
+            registrationCounter.increment(created);
+            logger.info("Bulk registration created {} of {} profiles", created, requests.size());
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON)).body(body);
+    }
+
+    private void write(OutputStream outputStream, BulkRegistrationResult result) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(result));
+        outputStream.write('\n');
+    }
+
+    private void checkSize(int rows) {
+        if (rows == 0) {
+            throw new IllegalArgumentException("The import contains no profiles");
+        }
+        if (rows > maxRows) {
+            throw new IllegalArgumentException("The import contains " + rows + " profiles, at most " + maxRows + " are allowed");
+        }
+    }
+
+    private static Date parseDate(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Date.from(LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Row " + row + " has an invalid dateOfBirth: " + value);
+        }
+    }
+
+    private static Long parseId(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Row " + row + " has an invalid specializationId: " + value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkRegistration<R> {
+        List<BulkRegistrationResult> register(List<R> requests, int firstRow);
+    }
+}
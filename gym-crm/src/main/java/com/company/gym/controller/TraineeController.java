@@ -104,14 +104,14 @@ public class TraineeController {
     @GetMapping("/profile")
     public ResponseEntity<TraineeProfileResponse> getTraineeProfile(Principal principal) {
         String username = principal.getName();
-        Trainee trainee = traineeService.getByUsername(username)
+        Trainee trainee = traineeService.getProfileByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("Trainee with username '" + username + "' not found."));
 
         TraineeProfileResponse response = mapTraineeToProfileResponse(trainee);
         trainersPerTrainee.record(response.getTrainersList().size());
 
         logger.info("Successfully fetched profile for trainee: {}", username);
-        return ResponseEntity.ok(mapTraineeToProfileResponse(trainee));
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Update a trainee's profile", description = "Updates the profile information for an existing trainee.")
@@ -137,7 +137,7 @@ public class TraineeController {
                 traineeService.updateStatus(new Credentials(username, null));
             }
 
-            Trainee finalTrainee = traineeService.getByUsername(username)
+            Trainee finalTrainee = traineeService.getProfileByUsername(username)
                     .orElseThrow(() -> new EntityNotFoundException("Trainee with username '" + username + "' not found after update."));
 
             TraineeProfileResponse response = mapTraineeToProfileResponse(finalTrainee);
@@ -174,17 +174,7 @@ public class TraineeController {
     public ResponseEntity<List<UnassignedTrainerResponse>> getUnassignedTrainers(
             Principal principal) {
         String username = principal.getName();
-        List<Trainer> unassignedTrainers = trainerService.getUnassignedTrainers(username);
-
-        List<UnassignedTrainerResponse> response = unassignedTrainers.stream()
-                .filter(trainer -> trainer.getUser().getIsActive())
-                .map(trainer -> new UnassignedTrainerResponse(
-                        trainer.getUser().getUsername(),
-                        trainer.getUser().getFirstName(),
-                        trainer.getUser().getLastName(),
-                        trainer.getSpecialization().getTrainingTypeName()
-                ))
-                .collect(Collectors.toList());
+        List<UnassignedTrainerResponse> response = trainerService.getUnassignedTrainerViews(username);
 
         logger.info("Successfully fetched unassigned, active trainers for trainee: {}", username);
         return ResponseEntity.ok(response);
@@ -2,11 +2,11 @@ package com.company.gym.controller;
 
 import com.company.gym.dao.TrainingTypeDAO;
 import com.company.gym.dto.request.AddTrainingRequest;
+import com.company.gym.dto.response.TraineeTrainingPageResponse;
 import com.company.gym.dto.response.TraineeTrainingResponse;
 import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.dto.response.TrainingTypeResponse;
 import com.company.gym.entity.Credentials;
-import com.company.gym.entity.Training;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.exception.EntityNotFoundException;
 import com.company.gym.service.TrainingService;
@@ -30,6 +30,9 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/trainings")
 public class TrainingController {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TrainingService trainingService;
     private final TrainingTypeDAO trainingTypeDAO;
     private final TrainingTypeService trainingTypeService;
@@ -70,29 +73,57 @@ public class TrainingController {
             @RequestParam(required = false) String trainingType) {
         String username = principal.getName();
         return trainingListFetchTimer.record(() -> {
-            Long trainingTypeId = null;
-            if (trainingType != null && !trainingType.isEmpty()) {
-                TrainingType type = trainingTypeDAO.findByName(trainingType)
-                        .orElseThrow(() -> new EntityNotFoundException("Training type not found: " + trainingType));
-                trainingTypeId = type.getId();
-            }
-
-            List<Training> trainings = trainingService.getTraineeTrainings(
-                    new Credentials(username, null), periodFrom, periodTo, trainerUsername, trainingTypeId);
+            Long trainingTypeId = resolveTrainingTypeId(trainingType);
 
-            List<TraineeTrainingResponse> response = trainings.stream().map(t -> new TraineeTrainingResponse(
-                    t.getId(),
-                    t.getTrainingName(),
-                    t.getTrainingDate(),
-                    t.getTrainingType().getTrainingTypeName(),
-                    t.getDuration(),
-                    t.getTrainer().getUser().getFirstName() + " " + t.getTrainer().getUser().getLastName()
-            )).collect(Collectors.toList());
+            List<TraineeTrainingResponse> response = trainingService.getTraineeTrainingViews(
+                    new Credentials(username, null), periodFrom, periodTo, trainerUsername, trainingTypeId);
 
             return ResponseEntity.ok(response);
         });
     }
 
+    @Operation(summary = "Get a page of a trainee's training sessions",
+            description = "Retrieves trainings for a trainee ordered by date, one page at a time. " +
+                    "Pass nextAfterDate/nextAfterId from the previous page to continue.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved trainings page"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Invalid cursor or page size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials"),
+            @ApiResponse(responseCode = "404", description = "Not Found - Resource not found"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    @GetMapping("/trainee/page")
+    public ResponseEntity<TraineeTrainingPageResponse> getTraineeTrainingsPage(
+            Principal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodTo,
+            @RequestParam(required = false) String trainerUsername,
+            @RequestParam(required = false) String trainingType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        String username = principal.getName();
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        return trainingListFetchTimer.record(() -> {
+            Long trainingTypeId = resolveTrainingTypeId(trainingType);
+
+            List<TraineeTrainingResponse> trainings = trainingService.getTraineeTrainingsPage(
+                    new Credentials(username, null), periodFrom, periodTo, trainerUsername, trainingTypeId,
+                    afterDate, afterId, pageSize + 1);
+
+            boolean hasMore = trainings.size() > pageSize;
+            List<TraineeTrainingResponse> page = hasMore ? List.copyOf(trainings.subList(0, pageSize)) : trainings;
+            TraineeTrainingResponse last = hasMore ? page.getLast() : null;
+
+            return ResponseEntity.ok(new TraineeTrainingPageResponse(page,
+                    last != null ? last.getTrainingDate() : null,
+                    last != null ? last.getId() : null));
+        });
+    }
+
     @Operation(summary = "Get a trainer's training sessions", description = "Retrieves a list of trainings for a specific trainer, with optional filters.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved trainings list"),
@@ -108,18 +139,9 @@ public class TrainingController {
             @RequestParam(required = false) String traineeUsername) {
         String username = principal.getName();
         return trainingListFetchTimer.record(() -> {
-            List<Training> trainings = trainingService.getTrainerTrainings(
+            List<TrainerTrainingResponse> response = trainingService.getTrainerTrainingViews(
                     new Credentials(username, null), periodFrom, periodTo, traineeUsername);
 
-            List<TrainerTrainingResponse> response = trainings.stream().map(t -> new TrainerTrainingResponse(
-                    t.getId(),
-                    t.getTrainingName(),
-                    t.getTrainingDate(),
-                    t.getTrainingType().getTrainingTypeName(),
-                    t.getDuration(),
-                    t.getTrainee().getUser().getFirstName() + " " + t.getTrainee().getUser().getLastName()
-            )).collect(Collectors.toList());
-
             return ResponseEntity.ok(response);
         });
     }
@@ -170,4 +192,13 @@ public class TrainingController {
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
+
+    private Long resolveTrainingTypeId(String trainingType) {
+        if (trainingType == null || trainingType.isEmpty()) {
+            return null;
+        }
+        TrainingType type = trainingTypeDAO.findByName(trainingType)
+                .orElseThrow(() -> new EntityNotFoundException("Training type not found: " + trainingType));
+        return type.getId();
+    }
 }
@@ -0,0 +1,62 @@
+package com.company.gym.controller;
+
+import com.company.gym.dto.response.WorkloadRebuildResponse;
+import com.company.gym.entity.WorkloadRebuild;
+import com.company.gym.exception.EntityNotFoundException;
+import com.company.gym.service.WorkloadRebuildService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Workload Rebuild", description = "Endpoints for rebuilding trainer workload summaries from the training history")
+@RestController
+@RequestMapping("/workload/rebuild")
+public class WorkloadRebuildController {
+
+    private final WorkloadRebuildService workloadRebuildService;
+
+    @Autowired
+    public WorkloadRebuildController(WorkloadRebuildService workloadRebuildService) {
+        this.workloadRebuildService = workloadRebuildService;
+    }
+
+    @Operation(summary = "Start a workload rebuild",
+            description = "Starts rebuilding all trainer workload summaries in the background, " +
+                    "or returns the rebuild that is already running.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rebuild started or already running"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    @PostMapping
+    public ResponseEntity<WorkloadRebuildResponse> startRebuild() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(workloadRebuildService.startRebuild()));
+    }
+
+    @Operation(summary = "Get the latest workload rebuild", description = "Returns the progress of the most recent rebuild.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved rebuild progress"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid credentials"),
+            @ApiResponse(responseCode = "404", description = "Not Found - No rebuild has been started"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    @GetMapping
+    public ResponseEntity<WorkloadRebuildResponse> getLatestRebuild() {
+        WorkloadRebuild rebuild = workloadRebuildService.getLatestRebuild()
+                .orElseThrow(() -> new EntityNotFoundException("No workload rebuild found"));
+        return ResponseEntity.ok(toResponse(rebuild));
+    }
+
+    private WorkloadRebuildResponse toResponse(WorkloadRebuild rebuild) {
+        return new WorkloadRebuildResponse(rebuild.getId(), rebuild.getStatus(), rebuild.getLastTrainerUsername(),
+                rebuild.getTrainersSent(), rebuild.getChunksSent(), rebuild.getStartedAt(), rebuild.getCompletedAt());
+    }
+}
@@ -2,6 +2,9 @@ package com.company.gym.dao;
 
 import com.company.gym.entity.Trainee;
 
+import java.util.Optional;
+
 public interface TraineeDAO extends BaseUserDAO<Trainee> {
     void delete(Long id);
+    Optional<Trainee> findProfileByUsername(String username);
 }
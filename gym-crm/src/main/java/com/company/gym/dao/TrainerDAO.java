@@ -1,10 +1,16 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.entity.Trainer;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TrainerDAO extends BaseUserDAO<Trainer> {
     List<Trainer> findBySpecialization(Long trainingTypeId);
     List<Trainer> findTrainersNotAssignedToTrainee(Long traineeId);
+    List<UnassignedTrainerResponse> findUnassignedTrainerViews(Long traineeId);
+    List<Trainer> findTrainersAssignedToTrainee(Long traineeId);
+    List<Trainer> findByUsernames(Collection<String> usernames);
+    List<String> findUsernamesAfter(String afterUsername, int limit);
 }
@@ -1,14 +1,34 @@
 package com.company.gym.dao;
 
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.Training;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TrainingDAO extends BaseDAO<Training> {
+    List<Training> findByIds(Collection<Long> ids);
     List<Training> findTrainingsByTraineeAndCriteria(Long traineeId, LocalDate fromDate,
                                                      LocalDate toDate, String trainerUsername,
                                                      Long trainingTypeId);
+    List<TraineeTrainingResponse> findTraineeTrainingViews(Long traineeId, LocalDate fromDate,
+                                                           LocalDate toDate, String trainerUsername,
+                                                           Long trainingTypeId);
+    List<TraineeTrainingResponse> findTraineeTrainingsPage(Long traineeId, LocalDate fromDate, LocalDate toDate,
+                                                           String trainerUsername, Long trainingTypeId,
+                                                           LocalDate afterDate, Long afterId, int limit);
+    Stream<Training> streamTrainingsByTraineeAndCriteria(Long traineeId, LocalDate fromDate,
+                                                         LocalDate toDate, String trainerUsername,
+                                                         Long trainingTypeId);
     List<Training> findTrainingsByTrainerAndCriteria(Long trainerId, LocalDate fromDate,
                                                      LocalDate toDate, String traineeUsername);
+    List<TrainerTrainingResponse> findTrainerTrainingViews(Long trainerId, LocalDate fromDate,
+                                                           LocalDate toDate, String traineeUsername);
+    List<TrainerMonthlyWorkload> findMonthlyWorkloadByTrainee(Long traineeId);
+    List<TrainerMonthlyWorkload> findMonthlyWorkloadByTrainers(Collection<String> trainerUsernames);
+    int deleteByTraineeId(Long traineeId);
 }
@@ -0,0 +1,11 @@
+package com.company.gym.dao;
+
+import com.company.gym.entity.WorkloadOutboxEvent;
+
+import java.util.List;
+
+public interface WorkloadOutboxDAO {
+    void save(WorkloadOutboxEvent event);
+    List<WorkloadOutboxEvent> lockNextBatch(int batchSize);
+    int deleteByIds(List<Long> ids);
+}
@@ -0,0 +1,12 @@
+package com.company.gym.dao;
+
+import com.company.gym.entity.WorkloadRebuild;
+
+import java.util.Optional;
+
+public interface WorkloadRebuildDAO {
+    void save(WorkloadRebuild rebuild);
+    void update(WorkloadRebuild rebuild);
+    Optional<WorkloadRebuild> lockRunning();
+    Optional<WorkloadRebuild> findLatest();
+}
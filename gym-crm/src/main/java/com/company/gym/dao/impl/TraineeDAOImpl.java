@@ -7,6 +7,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
@@ -20,6 +22,8 @@ public class TraineeDAOImpl extends BaseUserDAOImpl<Trainee> implements TraineeD
 
     private static final String FIND_BY_USERNAME = "SELECT t FROM Trainee t JOIN t.user u WHERE u.username = :username";
 
+    private static final String FIND_PROFILE_BY_USERNAME = "SELECT t FROM Trainee t WHERE t.user.username = :username";
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -76,4 +80,22 @@ public class TraineeDAOImpl extends BaseUserDAOImpl<Trainee> implements TraineeD
             return Optional.empty();
         }
     }
+
+    /**
+     * Loads the trainee together with its user and the trainers of its trainings, including their users and
+     * specializations, in a single statement using the {@value Trainee#PROFILE_GRAPH} entity graph.
+     */
+    @Override
+    public Optional<Trainee> findProfileByUsername(String username) {
+        try {
+            TypedQuery<Trainee> query = entityManager.createQuery(FIND_PROFILE_BY_USERNAME, Trainee.class);
+            query.setParameter("username", username);
+            query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Trainee.PROFILE_GRAPH));
+            query.setHint(HibernateHints.HINT_READ_ONLY, true);
+            return query.getResultList().stream().findFirst();
+        } catch (Exception e) {
+            logger.error("Error finding trainee profile by username: {}", username, e);
+            return Optional.empty();
+        }
+    }
 }
@@ -2,12 +2,14 @@ package com.company.gym.dao.impl;
 
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.entity.Trainee;
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.entity.Trainer;
 import com.company.gym.exception.DAOException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
@@ -23,9 +25,23 @@ public class TrainerDAOImpl extends BaseUserDAOImpl<Trainer> implements TrainerD
 
     private static final String FIND_BY_SPECIALIZATION_QUERY =
             "SELECT t FROM Trainer t WHERE t.specialization.id = :trainingTypeId";
+    private static final String NOT_ASSIGNED_TO_TRAINEE_CLAUSE =
+            " NOT EXISTS (SELECT 1 FROM Training tr WHERE tr.trainer = t AND tr.trainee.id = :traineeId)";
     private static final String FIND_UNASSIGNED_TRAINERS_QUERY =
-            "SELECT t FROM Trainer t WHERE t.id NOT IN " +
+            "SELECT t FROM Trainer t JOIN FETCH t.user JOIN FETCH t.specialization WHERE" + NOT_ASSIGNED_TO_TRAINEE_CLAUSE;
+    private static final String FIND_UNASSIGNED_TRAINER_VIEWS_QUERY =
+            "SELECT new com.company.gym.dto.response.UnassignedTrainerResponse(" +
+                    "u.username, u.firstName, u.lastName, s.trainingTypeName) " +
+                    "FROM Trainer t JOIN t.user u JOIN t.specialization s " +
+                    "WHERE u.isActive = true AND" + NOT_ASSIGNED_TO_TRAINEE_CLAUSE;
+    private static final String FIND_ASSIGNED_TRAINERS_QUERY =
+            "SELECT t FROM Trainer t JOIN FETCH t.user JOIN FETCH t.specialization WHERE t.id IN " +
                     "(SELECT tr.trainer.id FROM Training tr WHERE tr.trainee.id = :traineeId)";
+    private static final String FIND_BY_USERNAMES_QUERY =
+            "SELECT t FROM Trainer t JOIN FETCH t.user u JOIN FETCH t.specialization WHERE u.username IN :usernames";
+    private static final String USERNAMES_BASE_QUERY = "SELECT u.username FROM Trainer t JOIN t.user u";
+    private static final String USERNAME_AFTER_CLAUSE = " WHERE u.username > :afterUsername";
+    private static final String USERNAME_ORDER = " ORDER BY u.username";
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -77,6 +93,60 @@ public class TrainerDAOImpl extends BaseUserDAOImpl<Trainer> implements TrainerD
         return query.getResultList();
     }
 
+    /**
+     * Returns the active trainers without trainings with the trainee as a read-only projection. The anti-join
+     * probes the trainee's trainings through {@code idx_trainings_trainee_date}, which covers {@code trainer_id}.
+     */
+    @Override
+    public List<UnassignedTrainerResponse> findUnassignedTrainerViews(Long traineeId) {
+        try {
+            return entityManager.createQuery(FIND_UNASSIGNED_TRAINER_VIEWS_QUERY, UnassignedTrainerResponse.class)
+                    .setParameter("traineeId", traineeId)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+        } catch (Exception e) {
+            logger.error("Error finding unassigned trainers of trainee with ID: {}", traineeId, e);
+            throw new DAOException("Error finding unassigned trainers", e);
+        }
+    }
+
+    @Override
+    public List<Trainer> findTrainersAssignedToTrainee(Long traineeId) {
+        TypedQuery<Trainer> query = entityManager.createQuery(FIND_ASSIGNED_TRAINERS_QUERY, Trainer.class);
+        query.setParameter("traineeId", traineeId);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Trainer> findByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        try {
+            TypedQuery<Trainer> query = entityManager.createQuery(FIND_BY_USERNAMES_QUERY, Trainer.class);
+            query.setParameter("usernames", usernames);
+            return query.getResultList();
+        } catch (Exception e) {
+            logger.error("Error finding {} trainers by username", usernames.size(), e);
+            throw new DAOException("Error finding trainers by username", e);
+        }
+    }
+
+    /**
+     * Returns the next page of trainer usernames in ascending order, starting after the given username
+     * or from the first trainer when it is null. Keyset paging keeps every page an index range scan.
+     */
+    @Override
+    public List<String> findUsernamesAfter(String afterUsername, int limit) {
+        String queryString = USERNAMES_BASE_QUERY + (afterUsername != null ? USERNAME_AFTER_CLAUSE : "") + USERNAME_ORDER;
+        TypedQuery<String> query = entityManager.createQuery(queryString, String.class);
+        if (afterUsername != null) {
+            query.setParameter("afterUsername", afterUsername);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
     @Override
     public Optional<Trainer> findByUsername(String username) {
         try {
@@ -1,18 +1,23 @@
 package com.company.gym.dao.impl;
 
 import com.company.gym.dao.TrainingDAO;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.Training;
 import com.company.gym.exception.DAOException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional
@@ -20,15 +25,54 @@ public class TrainingDAOImpl implements TrainingDAO {
     private static final Logger logger = LoggerFactory.getLogger(TrainingDAOImpl.class);
 
     private static final String FIND_ALL_QUERY = "FROM Training";
+    private static final String FIND_BY_IDS_QUERY =
+            "SELECT t FROM Training t JOIN FETCH t.trainee JOIN FETCH t.trainer WHERE t.id IN :ids";
     private static final String TRAINEE_CRITERIA_BASE_QUERY =
             "SELECT t FROM Training t WHERE t.trainee.id = :traineeId";
     private static final String TRAINER_CRITERIA_BASE_QUERY =
             "SELECT t FROM Training t WHERE t.trainer.id = :trainerId";
+    private static final String TRAINEE_VIEW_BASE_QUERY =
+            "SELECT new com.company.gym.dto.response.TraineeTrainingResponse(" +
+                    "t.id, t.trainingName, t.trainingDate, tt.trainingTypeName, t.duration, " +
+                    "CONCAT(trainerUser.firstName, ' ', trainerUser.lastName)) " +
+                    "FROM Training t JOIN t.trainingType tt JOIN t.trainer tr JOIN tr.user trainerUser " +
+                    "WHERE t.trainee.id = :traineeId";
+    private static final String TRAINER_VIEW_BASE_QUERY =
+            "SELECT new com.company.gym.dto.response.TrainerTrainingResponse(" +
+                    "t.id, t.trainingName, t.trainingDate, tt.trainingTypeName, t.duration, " +
+                    "CONCAT(traineeUser.firstName, ' ', traineeUser.lastName)) " +
+                    "FROM Training t JOIN t.trainingType tt JOIN t.trainee te JOIN te.user traineeUser " +
+                    "WHERE t.trainer.id = :trainerId";
     private static final String DATE_FROM_CLAUSE = " AND t.trainingDate >= :fromDate";
     private static final String DATE_TO_CLAUSE = " AND t.trainingDate <= :toDate";
     private static final String TRAINING_TYPE_CLAUSE = " AND t.trainingType.id = :trainingTypeId";
     private static final String TRAINER_USERNAME_CLAUSE = " AND t.trainer.user.username = :trainerUsername";
     private static final String TRAINEE_USERNAME_CLAUSE = " AND t.trainee.user.username = :traineeUsername";
+    private static final String TRAINER_VIEW_USERNAME_CLAUSE = " AND trainerUser.username = :trainerUsername";
+    private static final String TRAINEE_VIEW_USERNAME_CLAUSE = " AND traineeUser.username = :traineeUsername";
+    private static final String KEYSET_CLAUSE =
+            " AND (t.trainingDate > :afterDate OR (t.trainingDate = :afterDate AND t.id > :afterId))";
+    private static final String KEYSET_ORDER = " ORDER BY t.trainingDate, t.id";
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String MONTHLY_WORKLOAD_BY_TRAINEE_QUERY =
+            "SELECT new com.company.gym.dto.projection.TrainerMonthlyWorkload(" +
+                    "u.username, u.firstName, u.lastName, u.isActive, " +
+                    "YEAR(t.trainingDate), MONTH(t.trainingDate), SUM(t.duration)) " +
+                    "FROM Training t JOIN t.trainer tr JOIN tr.user u " +
+                    "WHERE t.trainee.id = :traineeId " +
+                    "GROUP BY u.username, u.firstName, u.lastName, u.isActive, " +
+                    "YEAR(t.trainingDate), MONTH(t.trainingDate)";
+    private static final String MONTHLY_WORKLOAD_BY_TRAINERS_QUERY =
+            "SELECT new com.company.gym.dto.projection.TrainerMonthlyWorkload(" +
+                    "u.username, u.firstName, u.lastName, u.isActive, " +
+                    "COALESCE(YEAR(t.trainingDate), 0), COALESCE(MONTH(t.trainingDate), 0), COALESCE(SUM(t.duration), 0L)) " +
+                    "FROM Trainer tr JOIN tr.user u LEFT JOIN tr.trainings t " +
+                    "WHERE u.username IN :trainerUsernames " +
+                    "GROUP BY u.username, u.firstName, u.lastName, u.isActive, " +
+                    "YEAR(t.trainingDate), MONTH(t.trainingDate) " +
+                    "ORDER BY u.username";
+    private static final String DELETE_BY_TRAINEE_QUERY =
+            "DELETE FROM Training t WHERE t.trainee.id = :traineeId";
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -50,6 +94,21 @@ public class TrainingDAOImpl implements TrainingDAO {
         return Optional.ofNullable(training);
     }
 
+    @Override
+    public List<Training> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return entityManager.createQuery(FIND_BY_IDS_QUERY, Training.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+        } catch (Exception e) {
+            logger.error("Error finding {} trainings by ID", ids.size(), e);
+            throw new DAOException("Error finding trainings by ID", e);
+        }
+    }
+
     @Override
     public List<Training> findAll() {
         TypedQuery<Training> query = entityManager.createQuery(FIND_ALL_QUERY, Training.class);
@@ -66,6 +125,52 @@ public class TrainingDAOImpl implements TrainingDAO {
         return query.getResultList();
     }
 
+    @Override
+    public List<TraineeTrainingResponse> findTraineeTrainingViews(Long traineeId, LocalDate fromDate,
+                                                                  LocalDate toDate, String trainerUsername,
+                                                                  Long trainingTypeId) {
+        String queryString = buildTraineeCriteriaQuery(TRAINEE_VIEW_BASE_QUERY, TRAINER_VIEW_USERNAME_CLAUSE,
+                fromDate, toDate, trainerUsername, trainingTypeId);
+        TypedQuery<TraineeTrainingResponse> query = entityManager.createQuery(queryString, TraineeTrainingResponse.class);
+        setTraineeCriteriaParameters(query, traineeId, fromDate, toDate, trainerUsername, trainingTypeId);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TraineeTrainingResponse> findTraineeTrainingsPage(Long traineeId, LocalDate fromDate, LocalDate toDate,
+                                                                  String trainerUsername, Long trainingTypeId,
+                                                                  LocalDate afterDate, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(buildTraineeCriteriaQuery(TRAINEE_VIEW_BASE_QUERY,
+                TRAINER_VIEW_USERNAME_CLAUSE, fromDate, toDate, trainerUsername, trainingTypeId));
+        boolean hasCursor = afterDate != null && afterId != null;
+        if (hasCursor) jpql.append(KEYSET_CLAUSE);
+        jpql.append(KEYSET_ORDER);
+
+        TypedQuery<TraineeTrainingResponse> query = entityManager.createQuery(jpql.toString(), TraineeTrainingResponse.class);
+        setTraineeCriteriaParameters(query, traineeId, fromDate, toDate, trainerUsername, trainingTypeId);
+        if (hasCursor) {
+            query.setParameter("afterDate", afterDate);
+            query.setParameter("afterId", afterId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Training> streamTrainingsByTraineeAndCriteria(Long traineeId, LocalDate fromDate,
+                                                                LocalDate toDate, String trainerUsername,
+                                                                Long trainingTypeId) {
+        String queryString = buildTraineeCriteriaQuery(fromDate, toDate, trainerUsername, trainingTypeId) + KEYSET_ORDER;
+        TypedQuery<Training> query = entityManager.createQuery(queryString, Training.class);
+        setTraineeCriteriaParameters(query, traineeId, fromDate, toDate, trainerUsername, trainingTypeId);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream().map(training -> {
+            entityManager.detach(training);
+            return training;
+        });
+    }
+
     @Override
     public List<Training> findTrainingsByTrainerAndCriteria(Long trainerId, LocalDate fromDate,
                                                             LocalDate toDate, String traineeUsername) {
@@ -75,19 +180,36 @@ public class TrainingDAOImpl implements TrainingDAO {
         return query.getResultList();
     }
 
+    @Override
+    public List<TrainerTrainingResponse> findTrainerTrainingViews(Long trainerId, LocalDate fromDate,
+                                                                  LocalDate toDate, String traineeUsername) {
+        String queryString = buildTrainerCriteriaQuery(TRAINER_VIEW_BASE_QUERY, TRAINEE_VIEW_USERNAME_CLAUSE,
+                fromDate, toDate, traineeUsername);
+        TypedQuery<TrainerTrainingResponse> query = entityManager.createQuery(queryString, TrainerTrainingResponse.class);
+        setTrainerCriteriaParameters(query, trainerId, fromDate, toDate, traineeUsername);
+        return query.getResultList();
+    }
+
     private String buildTraineeCriteriaQuery(LocalDate fromDate, LocalDate toDate,
                                              String trainerUsername, Long trainingTypeId) {
-        StringBuilder jpql = new StringBuilder(TRAINEE_CRITERIA_BASE_QUERY);
+        return buildTraineeCriteriaQuery(TRAINEE_CRITERIA_BASE_QUERY, TRAINER_USERNAME_CLAUSE,
+                fromDate, toDate, trainerUsername, trainingTypeId);
+    }
+
+    private String buildTraineeCriteriaQuery(String baseQuery, String trainerUsernameClause,
+                                             LocalDate fromDate, LocalDate toDate,
+                                             String trainerUsername, Long trainingTypeId) {
+        StringBuilder jpql = new StringBuilder(baseQuery);
 
         if (fromDate != null) jpql.append(DATE_FROM_CLAUSE);
         if (toDate != null) jpql.append(DATE_TO_CLAUSE);
-        if (trainerUsername != null && !trainerUsername.isEmpty()) jpql.append(TRAINER_USERNAME_CLAUSE);
+        if (trainerUsername != null && !trainerUsername.isEmpty()) jpql.append(trainerUsernameClause);
         if (trainingTypeId != null) jpql.append(TRAINING_TYPE_CLAUSE);
 
         return jpql.toString();
     }
 
-    private void setTraineeCriteriaParameters(TypedQuery<Training> query, Long traineeId,
+    private void setTraineeCriteriaParameters(TypedQuery<?> query, Long traineeId,
                                               LocalDate fromDate, LocalDate toDate,
                                               String trainerUsername, Long trainingTypeId) {
         query.setParameter("traineeId", traineeId);
@@ -101,16 +223,22 @@ public class TrainingDAOImpl implements TrainingDAO {
     }
 
     private String buildTrainerCriteriaQuery(LocalDate fromDate, LocalDate toDate, String traineeUsername) {
-        StringBuilder jpql = new StringBuilder(TRAINER_CRITERIA_BASE_QUERY);
+        return buildTrainerCriteriaQuery(TRAINER_CRITERIA_BASE_QUERY, TRAINEE_USERNAME_CLAUSE,
+                fromDate, toDate, traineeUsername);
+    }
+
+    private String buildTrainerCriteriaQuery(String baseQuery, String traineeUsernameClause,
+                                             LocalDate fromDate, LocalDate toDate, String traineeUsername) {
+        StringBuilder jpql = new StringBuilder(baseQuery);
 
         if (fromDate != null) jpql.append(DATE_FROM_CLAUSE);
         if (toDate != null) jpql.append(DATE_TO_CLAUSE);
-        if (traineeUsername != null && !traineeUsername.isEmpty()) jpql.append(TRAINEE_USERNAME_CLAUSE);
+        if (traineeUsername != null && !traineeUsername.isEmpty()) jpql.append(traineeUsernameClause);
 
         return jpql.toString();
     }
 
-    private void setTrainerCriteriaParameters(TypedQuery<Training> query, Long trainerId,
+    private void setTrainerCriteriaParameters(TypedQuery<?> query, Long trainerId,
                                               LocalDate fromDate, LocalDate toDate, String traineeUsername) {
         query.setParameter("trainerId", trainerId);
 
@@ -121,6 +249,47 @@ public class TrainingDAOImpl implements TrainingDAO {
         }
     }
 
+    @Override
+    public List<TrainerMonthlyWorkload> findMonthlyWorkloadByTrainee(Long traineeId) {
+        return entityManager.createQuery(MONTHLY_WORKLOAD_BY_TRAINEE_QUERY, TrainerMonthlyWorkload.class)
+                .setParameter("traineeId", traineeId)
+                .getResultList();
+    }
+
+    /**
+     * Sums the training durations of the given trainers per year and month in the database. Trainers without
+     * trainings are returned once with year and month 0, so their details are still available.
+     */
+    @Override
+    public List<TrainerMonthlyWorkload> findMonthlyWorkloadByTrainers(Collection<String> trainerUsernames) {
+        if (trainerUsernames.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return entityManager.createQuery(MONTHLY_WORKLOAD_BY_TRAINERS_QUERY, TrainerMonthlyWorkload.class)
+                    .setParameter("trainerUsernames", trainerUsernames)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+        } catch (Exception e) {
+            logger.error("Error aggregating monthly workload of {} trainers", trainerUsernames.size(), e);
+            throw new DAOException("Error aggregating trainer monthly workload", e);
+        }
+    }
+
+    @Override
+    public int deleteByTraineeId(Long traineeId) {
+        try {
+            int deleted = entityManager.createQuery(DELETE_BY_TRAINEE_QUERY)
+                    .setParameter("traineeId", traineeId)
+                    .executeUpdate();
+            logger.info("Deleted {} trainings of trainee with ID: {}", deleted, traineeId);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting trainings of trainee with ID: {}", traineeId, e);
+            throw new DAOException("Error deleting trainee trainings", e);
+        }
+    }
+
     @Override
     public void update(Training training) {
         try {
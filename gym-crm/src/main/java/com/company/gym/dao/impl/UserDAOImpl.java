@@ -7,6 +7,9 @@ import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +17,8 @@ import java.util.Optional;
 public class UserDAOImpl extends BaseUserDAOImpl<User> {
 
     private static final String FIND_BY_USERNAME = "SELECT u FROM User u WHERE u.username = :username";
+    private static final String USERNAMES_BASE_QUERY = "SELECT u.username FROM User u WHERE ";
+    private static final String USERNAME_PREFIX_CLAUSE = "u.username LIKE :prefix%d ESCAPE '\\'";
 
     @Override
     protected Class<User> getEntityClass() {
@@ -55,4 +60,34 @@ public class UserDAOImpl extends BaseUserDAOImpl<User> {
             throw new DAOException("Error updating user", e);
         }
     }
+
+    /**
+     * Returns every username starting with one of the given prefixes, all prefixes are matched by one query.
+     * Each prefix is an index range scan on {@code idx_users_username_prefix}.
+     */
+    public List<String> findUsernamesStartingWith(Collection<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+        List<String> clauses = new ArrayList<>(prefixes.size());
+        for (int i = 0; i < prefixes.size(); i++) {
+            clauses.add(USERNAME_PREFIX_CLAUSE.formatted(i));
+        }
+        try {
+            TypedQuery<String> query = entityManager.createQuery(
+                    USERNAMES_BASE_QUERY + String.join(" OR ", clauses), String.class);
+            int i = 0;
+            for (String prefix : prefixes) {
+                query.setParameter("prefix" + i++, escapeLike(prefix) + "%");
+            }
+            return query.getResultList();
+        } catch (Exception e) {
+            logger.error("Error finding usernames for {} prefixes", prefixes.size(), e);
+            throw new DAOException("Error finding usernames by prefix", e);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
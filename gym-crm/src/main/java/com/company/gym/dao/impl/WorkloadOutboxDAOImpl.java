@@ -0,0 +1,55 @@
+package com.company.gym.dao.impl;
+
+import com.company.gym.dao.WorkloadOutboxDAO;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.exception.DAOException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@Transactional
+public class WorkloadOutboxDAOImpl implements WorkloadOutboxDAO {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadOutboxDAOImpl.class);
+
+    private static final String LOCK_NEXT_BATCH_QUERY =
+            "SELECT * FROM workload_outbox ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_BY_IDS_QUERY =
+            "DELETE FROM WorkloadOutboxEvent e WHERE e.id IN :ids";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void save(WorkloadOutboxEvent event) {
+        try {
+            entityManager.persist(event);
+        } catch (Exception e) {
+            logger.error("Error saving workload outbox event for trainer {}", event.getTrainerUsername(), e);
+            throw new DAOException("Error saving workload outbox event", e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WorkloadOutboxEvent> lockNextBatch(int batchSize) {
+        return entityManager.createNativeQuery(LOCK_NEXT_BATCH_QUERY, WorkloadOutboxEvent.class)
+                .setParameter("batchSize", batchSize)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery(DELETE_BY_IDS_QUERY)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,70 @@
+package com.company.gym.dao.impl;
+
+import com.company.gym.dao.WorkloadRebuildDAO;
+import com.company.gym.entity.WorkloadRebuild;
+import com.company.gym.exception.DAOException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class WorkloadRebuildDAOImpl implements WorkloadRebuildDAO {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadRebuildDAOImpl.class);
+
+    private static final String LOCK_RUNNING_QUERY =
+            "SELECT * FROM workload_rebuild WHERE status = 'RUNNING' ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final String FIND_LATEST_QUERY =
+            "SELECT r FROM WorkloadRebuild r ORDER BY r.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void save(WorkloadRebuild rebuild) {
+        try {
+            entityManager.persist(rebuild);
+            logger.info("Saved new workload rebuild with ID: {}", rebuild.getId());
+        } catch (Exception e) {
+            logger.error("Error saving workload rebuild", e);
+            throw new DAOException("Error saving workload rebuild", e);
+        }
+    }
+
+    @Override
+    public void update(WorkloadRebuild rebuild) {
+        try {
+            entityManager.merge(rebuild);
+        } catch (Exception e) {
+            logger.error("Error updating workload rebuild with ID: {}", rebuild.getId(), e);
+            throw new DAOException("Error updating workload rebuild", e);
+        }
+    }
+
+    /**
+     * Locks the oldest running rebuild for the current transaction. Rows locked by another instance
+     * are skipped, so only one instance advances a rebuild at a time.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<WorkloadRebuild> lockRunning() {
+        List<WorkloadRebuild> running = entityManager.createNativeQuery(LOCK_RUNNING_QUERY, WorkloadRebuild.class)
+                .getResultList();
+        return running.stream().findFirst();
+    }
+
+    @Override
+    public Optional<WorkloadRebuild> findLatest() {
+        return entityManager.createQuery(FIND_LATEST_QUERY, WorkloadRebuild.class)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.gym.dto.projection;
+
+public class TrainerMonthlyWorkload {
+    private final String trainerUsername;
+    private final String trainerFirstName;
+    private final String trainerLastName;
+    private final boolean trainerActive;
+    private final int year;
+    private final int month;
+    private final long totalDuration;
+
+    public TrainerMonthlyWorkload(String trainerUsername, String trainerFirstName, String trainerLastName,
+                                  boolean trainerActive, int year, int month, long totalDuration) {
+        this.trainerUsername = trainerUsername;
+        this.trainerFirstName = trainerFirstName;
+        this.trainerLastName = trainerLastName;
+        this.trainerActive = trainerActive;
+        this.year = year;
+        this.month = month;
+        this.totalDuration = totalDuration;
+    }
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public String getTrainerFirstName() {
+        return trainerFirstName;
+    }
+
+    public String getTrainerLastName() {
+        return trainerLastName;
+    }
+
+    public boolean isTrainerActive() {
+        return trainerActive;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.gym.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TrainerWorkloadRebuildChunk {
+    private Long rebuildId;
+    private long chunkNumber;
+    private List<TrainerWorkloadSnapshot> trainers = new ArrayList<>();
+
+    public Long getRebuildId() {
+        return rebuildId;
+    }
+
+    public void setRebuildId(Long rebuildId) {
+        this.rebuildId = rebuildId;
+    }
+
+    public long getChunkNumber() {
+        return chunkNumber;
+    }
+
+    public void setChunkNumber(long chunkNumber) {
+        this.chunkNumber = chunkNumber;
+    }
+
+    public List<TrainerWorkloadSnapshot> getTrainers() {
+        return trainers;
+    }
+
+    public void setTrainers(List<TrainerWorkloadSnapshot> trainers) {
+        this.trainers = trainers;
+    }
+}
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.util.Date;
 
 public class TrainerWorkloadRequest {
+    private String eventId;
     private String trainerUsername;
     private String trainerFirstName;
     private String trainerLastName;
@@ -14,6 +15,14 @@ public class TrainerWorkloadRequest {
     private int trainingDuration;
     private ActionType actionType;
 
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
     public String getTrainerUsername() {
         return trainerUsername;
     }
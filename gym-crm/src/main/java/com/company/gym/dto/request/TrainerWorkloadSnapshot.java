@@ -0,0 +1,55 @@
+package com.company.gym.dto.request;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Complete workload of one trainer: per year, the total training duration of each month (January at index 0).
+ */
+public class TrainerWorkloadSnapshot {
+    private String trainerUsername;
+    private String trainerFirstName;
+    private String trainerLastName;
+    private boolean active;
+    private Map<Integer, int[]> years = new TreeMap<>();
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public void setTrainerUsername(String trainerUsername) {
+        this.trainerUsername = trainerUsername;
+    }
+
+    public String getTrainerFirstName() {
+        return trainerFirstName;
+    }
+
+    public void setTrainerFirstName(String trainerFirstName) {
+        this.trainerFirstName = trainerFirstName;
+    }
+
+    public String getTrainerLastName() {
+        return trainerLastName;
+    }
+
+    public void setTrainerLastName(String trainerLastName) {
+        this.trainerLastName = trainerLastName;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Map<Integer, int[]> getYears() {
+        return years;
+    }
+
+    public void setYears(Map<Integer, int[]> years) {
+        this.years = years;
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.gym.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRegistrationResult {
+    private int row;
+    private String username;
+    private String password;
+    private String error;
+
+    public BulkRegistrationResult() {
+    }
+
+    public static BulkRegistrationResult created(int row, String username, String password) {
+        BulkRegistrationResult result = new BulkRegistrationResult();
+        result.row = row;
+        result.username = username;
+        result.password = password;
+        return result;
+    }
+
+    public static BulkRegistrationResult failed(int row, String error) {
+        BulkRegistrationResult result = new BulkRegistrationResult();
+        result.row = row;
+        result.error = error;
+        return result;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.gym.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class TraineeTrainingPageResponse {
+    private List<TraineeTrainingResponse> trainings;
+    private LocalDate nextAfterDate;
+    private Long nextAfterId;
+
+    public TraineeTrainingPageResponse(List<TraineeTrainingResponse> trainings, LocalDate nextAfterDate, Long nextAfterId) {
+        this.trainings = trainings;
+        this.nextAfterDate = nextAfterDate;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<TraineeTrainingResponse> getTrainings() {
+        return trainings;
+    }
+
+    public void setTrainings(List<TraineeTrainingResponse> trainings) {
+        this.trainings = trainings;
+    }
+
+    public LocalDate getNextAfterDate() {
+        return nextAfterDate;
+    }
+
+    public void setNextAfterDate(LocalDate nextAfterDate) {
+        this.nextAfterDate = nextAfterDate;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+
+    public boolean isHasMore() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.company.gym.dto.response;
+
+import com.company.gym.entity.RebuildStatus;
+
+import java.time.LocalDateTime;
+
+public class WorkloadRebuildResponse {
+    private Long id;
+    private RebuildStatus status;
+    private String lastTrainerUsername;
+    private long trainersSent;
+    private long chunksSent;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public WorkloadRebuildResponse(Long id, RebuildStatus status, String lastTrainerUsername, long trainersSent,
+                                   long chunksSent, LocalDateTime startedAt, LocalDateTime completedAt) {
+        this.id = id;
+        this.status = status;
+        this.lastTrainerUsername = lastTrainerUsername;
+        this.trainersSent = trainersSent;
+        this.chunksSent = chunksSent;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RebuildStatus getStatus() {
+        return status;
+    }
+
+    public String getLastTrainerUsername() {
+        return lastTrainerUsername;
+    }
+
+    public long getTrainersSent() {
+        return trainersSent;
+    }
+
+    public long getChunksSent() {
+        return chunksSent;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
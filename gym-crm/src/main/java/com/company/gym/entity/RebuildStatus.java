@@ -0,0 +1,6 @@
+package com.company.gym.entity;
+
+public enum RebuildStatus {
+    RUNNING,
+    COMPLETED
+}
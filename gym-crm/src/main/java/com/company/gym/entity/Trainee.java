@@ -6,9 +6,24 @@ import java.util.*;
 
 @Entity
 @Table(name = "trainees")
+@NamedEntityGraph(name = Trainee.PROFILE_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "trainings", subgraph = "trainings")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "trainings", attributeNodes = @NamedAttributeNode(value = "trainer", subgraph = "trainer")),
+                @NamedSubgraph(name = "trainer", attributeNodes = {
+                        @NamedAttributeNode("user"),
+                        @NamedAttributeNode("specialization")
+                })
+        })
 public class Trainee implements UserContainer {
+    public static final String PROFILE_GRAPH = "Trainee.profile";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainees_seq")
+    @SequenceGenerator(name = "trainees_seq", sequenceName = "trainees_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "date_of_birth")
@@ -9,7 +9,8 @@ import java.util.List;
 @Table(name = "trainers")
 public class Trainer implements UserContainer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainers_seq")
+    @SequenceGenerator(name = "trainers_seq", sequenceName = "trainers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
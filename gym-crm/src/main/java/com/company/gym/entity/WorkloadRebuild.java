@@ -0,0 +1,113 @@
+package com.company.gym.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "workload_rebuild")
+public class WorkloadRebuild {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private RebuildStatus status;
+
+    @Column(name = "last_trainer_username")
+    private String lastTrainerUsername;
+
+    @Column(name = "trainers_sent", nullable = false)
+    private long trainersSent;
+
+    @Column(name = "chunks_sent", nullable = false)
+    private long chunksSent;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public WorkloadRebuild() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RebuildStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RebuildStatus status) {
+        this.status = status;
+    }
+
+    public String getLastTrainerUsername() {
+        return lastTrainerUsername;
+    }
+
+    public void setLastTrainerUsername(String lastTrainerUsername) {
+        this.lastTrainerUsername = lastTrainerUsername;
+    }
+
+    public long getTrainersSent() {
+        return trainersSent;
+    }
+
+    public void setTrainersSent(long trainersSent) {
+        this.trainersSent = trainersSent;
+    }
+
+    public long getChunksSent() {
+        return chunksSent;
+    }
+
+    public void setChunksSent(long chunksSent) {
+        this.chunksSent = chunksSent;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadRebuild{" +
+                "id=" + id +
+                ", status=" + status +
+                ", lastTrainerUsername='" + lastTrainerUsername + '\'' +
+                ", trainersSent=" + trainersSent +
+                ", chunksSent=" + chunksSent +
+                '}';
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -26,6 +27,7 @@ public class RestExceptionHandler {
     private static final String NOT_FOUND_MESSAGE = "The requested resource could not be found.";
     private static final String BAD_REQUEST_MESSAGE = "The request is invalid. Please check the provided input.";
     private static final String INTERNAL_SERVER_ERROR_MESSAGE = "An unexpected internal server error has occurred. Please try again later.";
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "The server is busy. Please try again shortly.";
     private static final String LOCKED_ERROR_MESSAGE = "Your IP has been temporarily blocked due to too many failed login attempts.";
 
     @ExceptionHandler({BadCredentialsException.class, InvalidCredentialsException.class, AccessDeniedException.class})
@@ -70,6 +72,18 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ApiErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Request rejected due to saturation: {}", ex.getMessage());
+        ApiErrorResponse apiError = new ApiErrorResponse(
+                "Too Many Requests",
+                TOO_MANY_REQUESTS_MESSAGE
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiError);
+    }
+
     @ExceptionHandler({ServiceException.class, Exception.class})
     protected ResponseEntity<ApiErrorResponse> handleInternalServerErrors(Exception ex) {
         log.error("An unexpected error occurred: {}", ex.getMessage(), ex);
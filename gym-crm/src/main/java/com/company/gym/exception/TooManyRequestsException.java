@@ -0,0 +1,7 @@
+package com.company.gym.exception;
+
+public class TooManyRequestsException extends ServiceException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,76 @@
+package com.company.gym.security;
+
+import com.company.gym.util.AsyncCaches;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class AuthenticationCache {
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationCache.class);
+
+    private final Cache<String, VerifiedToken> tokenCache;
+    private final AsyncCache<String, UserDetails> userDetailsCache;
+
+    public AuthenticationCache(@Value("${security.cache.token.max-size:10000}") long tokenMaxSize,
+                               @Value("${security.cache.token.ttl-seconds:300}") long tokenTtlSeconds,
+                               @Value("${security.cache.user-details.max-size:10000}") long userDetailsMaxSize,
+                               @Value("${security.cache.user-details.ttl-seconds:30}") long userDetailsTtlSeconds) {
+        tokenCache = Caffeine.newBuilder()
+                .maximumSize(tokenMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(tokenTtlSeconds))
+                .build();
+        userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(userDetailsMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(userDetailsTtlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * Returns an already verified token, or verifies it with the given parser.
+     * Tokens that fail verification are never cached, the parser exception is propagated instead.
+     * Cached tokens may expire while cached, callers still have to check {@link VerifiedToken#isExpired()}.
+     */
+    public VerifiedToken getVerifiedToken(String token, Function<String, VerifiedToken> parser) {
+        return tokenCache.get(token, parser);
+    }
+
+    /**
+     * Returns the cached user details or loads them on the calling thread, see {@link AsyncCaches}.
+     */
+    public UserDetails getUserDetails(String username, Function<String, UserDetails> loader) {
+        return AsyncCaches.getOrLoad(userDetailsCache, username, loader);
+    }
+
+    public void evictUser(String username) {
+        userDetailsCache.synchronous().invalidate(username);
+        logger.debug("Evicted cached user details for: {}", username);
+    }
+
+    /**
+     * Evicts the user once the surrounding transaction commits, so a concurrent request cannot
+     * re-populate the cache with the pre-commit state. Evicts immediately outside a transaction.
+     */
+    public void evictUserAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictUser(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictUser(username);
+            }
+        });
+    }
+}
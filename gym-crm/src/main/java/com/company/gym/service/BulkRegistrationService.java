@@ -0,0 +1,12 @@
+package com.company.gym.service;
+
+import com.company.gym.dto.request.TraineeRegistrationRequest;
+import com.company.gym.dto.request.TrainerRegistrationRequest;
+import com.company.gym.dto.response.BulkRegistrationResult;
+
+import java.util.List;
+
+public interface BulkRegistrationService {
+    List<BulkRegistrationResult> registerTrainees(List<TraineeRegistrationRequest> requests, int firstRow);
+    List<BulkRegistrationResult> registerTrainers(List<TrainerRegistrationRequest> requests, int firstRow);
+}
@@ -0,0 +1,119 @@
+package com.company.gym.service;
+
+import com.company.gym.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing on a bounded pool of dedicated threads, so CPU-bound hashing does not occupy request
+ * threads and cannot grow without limit. It is the application's {@link PasswordEncoder}, which routes the
+ * Spring Security login through the same pool. When the queue is full the work is rejected with a
+ * {@link TooManyRequestsException} instead of piling up.
+ * Bulk hashing runs on its own smaller pool, so an import hashing thousands of passwords never holds the
+ * threads that logins and single registrations wait for.
+ */
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param threads     hashing threads for single passwords, 0 for one per processor
+     * @param bulkThreads hashing threads for {@link #encodeAll}, 0 for half of the single password threads
+     */
+    public PasswordHashingService(PasswordEncoder delegate, int threads, int bulkThreads, int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, poolSize / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"));
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-bulk-"));
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Number of hashing tasks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of hashing threads currently hashing")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.bulk.active", bulkExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of bulk hashing threads currently hashing")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Total number of hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(submit(executor, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(executor, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Encodes the passwords in parallel on the bulk hashing threads and returns the hashes in the same order.
+     * The list is split into one slice per bulk hashing thread, so a batch of any size takes only a few queue slots.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int threads = bulkExecutor.getMaximumPoolSize();
+        int sliceSize = Math.max(1, (rawPasswords.size() + threads - 1) / threads);
+        List<CompletableFuture<List<String>>> slices = new ArrayList<>();
+        for (int from = 0; from < rawPasswords.size(); from += sliceSize) {
+            List<String> slice = rawPasswords.subList(from, Math.min(from + sliceSize, rawPasswords.size()));
+            slices.add(submit(bulkExecutor, () -> slice.stream().map(delegate::encode).toList()));
+        }
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (CompletableFuture<List<String>> slice : slices) {
+            hashes.addAll(await(slice));
+        }
+        return hashes;
+    }
+
+    private <T> CompletableFuture<T> submit(ThreadPoolExecutor executor, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Password hashing queue is full");
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+}
@@ -8,10 +8,12 @@ import com.company.gym.dto.request.UpdateTraineeTrainersRequest;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 public interface TraineeService extends BaseUserService<Trainee> {
     UserCredentialsResponse createTraineeProfile(String firstName, String lastName, Date dateOfBirth, String address);
     Trainee updateTraineeProfile(Credentials credentials, Date dateOfBirth, String address);
+    Optional<Trainee> getProfileByUsername(String username);
     void deleteTraineeProfile(Credentials credentials);
     List<Trainer> getTrainersForTrainee(String traineeUsername);
     List<Trainer> updateTrainingTrainers(Credentials credentials, List<UpdateTraineeTrainersRequest.TrainingTrainerUpdate> updates);
@@ -1,5 +1,6 @@
 package com.company.gym.service;
 
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.dto.response.UserCredentialsResponse;
 import com.company.gym.entity.Credentials;
 import com.company.gym.entity.Trainer;
@@ -11,4 +12,5 @@ public interface TrainerService extends BaseUserService<Trainer> {
     Trainer updateTrainerProfile(Credentials credentials, Long specializationId);
     List<Trainer> getTrainersBySpecialization(Long trainingTypeId);
     List<Trainer> getUnassignedTrainers(String traineeUsername);
+    List<UnassignedTrainerResponse> getUnassignedTrainerViews(String traineeUsername);
 }
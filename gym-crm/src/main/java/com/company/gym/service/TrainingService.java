@@ -1,6 +1,9 @@
 package com.company.gym.service;
 
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.Credentials;
+import com.company.gym.entity.Trainee;
 import com.company.gym.entity.Training;
 
 import java.time.LocalDate;
@@ -10,9 +13,20 @@ public interface TrainingService {
     Training createTraining(Credentials traineeCreds, Credentials trainerCreds, String trainingName,
                             Long trainingTypeId, LocalDate trainingDate, Integer duration);
     void cancelTraining(String traineeUsername, Long trainingId);
+    int cancelTraineeTrainings(Trainee trainee);
     List<Training> getTraineeTrainings(Credentials credentials, LocalDate fromDate, LocalDate toDate,
                                        String trainerUsername, Long trainingTypeId);
 
+    List<TraineeTrainingResponse> getTraineeTrainingViews(Credentials credentials, LocalDate fromDate, LocalDate toDate,
+                                                          String trainerUsername, Long trainingTypeId);
+
+    List<TraineeTrainingResponse> getTraineeTrainingsPage(Credentials credentials, LocalDate fromDate, LocalDate toDate,
+                                                          String trainerUsername, Long trainingTypeId,
+                                                          LocalDate afterDate, Long afterId, int limit);
+
     List<Training> getTrainerTrainings(Credentials credentials, LocalDate fromDate, LocalDate toDate,
                                        String traineeUsername);
+
+    List<TrainerTrainingResponse> getTrainerTrainingViews(Credentials credentials, LocalDate fromDate, LocalDate toDate,
+                                                          String traineeUsername);
 }
@@ -0,0 +1,69 @@
+package com.company.gym.service;
+
+import com.company.gym.dto.response.UnassignedTrainerResponse;
+import com.company.gym.util.AsyncCaches;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Per-trainee cache of the active trainers the trainee has no training with. Entries of a trainee are
+ * evicted when its trainings are created or reassigned, the whole cache when any trainer is created or
+ * changed. Evictions run after commit, so a concurrent request cannot re-populate a stale entry. Loads run
+ * on the calling thread, see {@link AsyncCaches}.
+ */
+@Component
+public class UnassignedTrainerCache {
+    private static final Logger logger = LoggerFactory.getLogger(UnassignedTrainerCache.class);
+
+    private final AsyncCache<String, List<UnassignedTrainerResponse>> cache;
+
+    public UnassignedTrainerCache(@Value("${trainer.unassigned-cache.max-size:10000}") long maxSize,
+                                  @Value("${trainer.unassigned-cache.ttl-seconds:300}") long ttlSeconds) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    public List<UnassignedTrainerResponse> get(String traineeUsername,
+                                               Function<String, List<UnassignedTrainerResponse>> loader) {
+        return AsyncCaches.getOrLoad(cache, traineeUsername, loader);
+    }
+
+    public void evictTraineeAfterCommit(String traineeUsername) {
+        afterCommit(() -> {
+            cache.synchronous().invalidate(traineeUsername);
+            logger.debug("Evicted cached unassigned trainers of trainee: {}", traineeUsername);
+        });
+    }
+
+    public void evictAllAfterCommit() {
+        afterCommit(() -> {
+            cache.synchronous().invalidateAll();
+            logger.debug("Evicted all cached unassigned trainers");
+        });
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -2,9 +2,12 @@ package com.company.gym.service;
 
 import com.company.gym.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserService {
     boolean usernameExists(String username);
     Optional<User> getByUsername(String username);
+    List<String> findUsernamesStartingWith(Collection<String> prefixes);
 }
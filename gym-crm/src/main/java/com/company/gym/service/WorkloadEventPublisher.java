@@ -0,0 +1,7 @@
+package com.company.gym.service;
+
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+
+public interface WorkloadEventPublisher {
+    void publish(TrainerWorkloadRequest request);
+}
@@ -0,0 +1,10 @@
+package com.company.gym.service;
+
+import com.company.gym.entity.WorkloadRebuild;
+
+import java.util.Optional;
+
+public interface WorkloadRebuildService {
+    WorkloadRebuild startRebuild();
+    Optional<WorkloadRebuild> getLatestRebuild();
+}
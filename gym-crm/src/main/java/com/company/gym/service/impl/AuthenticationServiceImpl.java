@@ -6,10 +6,10 @@ import com.company.gym.entity.User;
 import com.company.gym.exception.InactiveUserException;
 import com.company.gym.exception.InvalidCredentialsException;
 import com.company.gym.service.AuthenticationService;
+import com.company.gym.service.PasswordHashingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,7 +17,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationServiceImpl.class);
 
     private UserDAOImpl userDAO;
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     public void setUserDao(UserDAOImpl userDAO) {
@@ -25,7 +25,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Autowired
-    public void setPasswordEncoder(PasswordEncoder passwordEncoder) { this.passwordEncoder = passwordEncoder; }
+    public void setPasswordHashingService(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
 
     @Override
     public void authenticate(Credentials credentials) throws InvalidCredentialsException {
@@ -34,7 +36,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                     logger.warn("Authentication failed - user not found: {}", credentials.getUsername());
                     return new InvalidCredentialsException("Invalid username or password");
                 });
-        if (!passwordEncoder.matches(credentials.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(credentials.getPassword(), user.getPassword())) {
             logger.warn("Authentication failed - incorrect password for user: {}", credentials.getUsername());
             throw new InvalidCredentialsException("Invalid username or password");
         }
@@ -0,0 +1,194 @@
+package com.company.gym.service.impl;
+
+import com.company.gym.dao.TraineeDAO;
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.request.TraineeRegistrationRequest;
+import com.company.gym.dto.request.TrainerRegistrationRequest;
+import com.company.gym.dto.response.BulkRegistrationResult;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.entity.User;
+import com.company.gym.service.BulkRegistrationService;
+import com.company.gym.service.PasswordHashingService;
+import com.company.gym.service.UnassignedTrainerCache;
+import com.company.gym.util.PasswordGenerator;
+import com.company.gym.util.UsernameGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registers many profiles at once. Usernames of a whole chunk are resolved with one query, passwords are
+ * hashed in parallel outside the transaction, and the profiles are inserted in one transaction, so the
+ * pooled id sequences let Hibernate send them as JDBC batches. Invalid rows are reported and skipped,
+ * a rejected hashing batch or a failed insert fails every valid row of the chunk.
+ */
+@Service
+public class BulkRegistrationServiceImpl implements BulkRegistrationService {
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegistrationServiceImpl.class);
+
+    private static final String CHUNK_FAILED = "Registration failed, no profile of this chunk was saved";
+
+    private TraineeDAO traineeDAO;
+    private TrainerDAO trainerDAO;
+    private TrainingTypeDAO trainingTypeDAO;
+    private UsernameGenerator usernameGenerator;
+    private PasswordGenerator passwordGenerator;
+    private PasswordHashingService passwordHashingService;
+    private UnassignedTrainerCache unassignedTrainerCache;
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public void setTraineeDAO(TraineeDAO traineeDAO) {
+        this.traineeDAO = traineeDAO;
+    }
+
+    @Autowired
+    public void setTrainerDAO(TrainerDAO trainerDAO) {
+        this.trainerDAO = trainerDAO;
+    }
+
+    @Autowired
+    public void setTrainingTypeDAO(TrainingTypeDAO trainingTypeDAO) {
+        this.trainingTypeDAO = trainingTypeDAO;
+    }
+
+    @Autowired
+    public void setUsernameGenerator(UsernameGenerator usernameGenerator) {
+        this.usernameGenerator = usernameGenerator;
+    }
+
+    @Autowired
+    public void setPasswordGenerator(PasswordGenerator passwordGenerator) {
+        this.passwordGenerator = passwordGenerator;
+    }
+
+    @Autowired
+    public void setPasswordHashingService(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    @Autowired
+    public void setUnassignedTrainerCache(UnassignedTrainerCache unassignedTrainerCache) {
+        this.unassignedTrainerCache = unassignedTrainerCache;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<BulkRegistrationResult> registerTrainees(List<TraineeRegistrationRequest> requests, int firstRow) {
+        return register(requests, firstRow,
+                request -> validateNames(request.getFirstName(), request.getLastName()),
+                request -> UsernameGenerator.baseUsername(request.getFirstName(), request.getLastName()),
+                (request, user) -> {
+                    user.setFirstName(request.getFirstName());
+                    user.setLastName(request.getLastName());
+                    Trainee trainee = new Trainee(request.getDateOfBirth(), request.getAddress(), user);
+                    traineeDAO.save(trainee);
+                });
+    }
+
+    @Override
+    public List<BulkRegistrationResult> registerTrainers(List<TrainerRegistrationRequest> requests, int firstRow) {
+        Map<Long, TrainingType> trainingTypes = trainingTypeDAO.findAll().stream()
+                .collect(Collectors.toMap(TrainingType::getId, Function.identity()));
+
+        List<BulkRegistrationResult> results = register(requests, firstRow,
+                request -> {
+                    String error = validateNames(request.getFirstName(), request.getLastName());
+                    if (error == null && request.getSpecializationId() == null) {
+                        error = "Specialization id cannot be null";
+                    } else if (error == null && !trainingTypes.containsKey(request.getSpecializationId())) {
+                        error = "Invalid training type";
+                    }
+                    return error;
+                },
+                request -> UsernameGenerator.baseUsername(request.getFirstName(), request.getLastName()),
+                (request, user) -> {
+                    user.setFirstName(request.getFirstName());
+                    user.setLastName(request.getLastName());
+                    Trainer trainer = new Trainer();
+                    trainer.setSpecialization(trainingTypes.get(request.getSpecializationId()));
+                    trainer.setUser(user);
+                    trainerDAO.save(trainer);
+                });
+        unassignedTrainerCache.evictAllAfterCommit();
+        return results;
+    }
+
+    private <R> List<BulkRegistrationResult> register(List<R> requests, int firstRow,
+                                                      Function<R, String> validator,
+                                                      Function<R, String> baseUsername,
+                                                      BiConsumer<R, User> persister) {
+        BulkRegistrationResult[] results = new BulkRegistrationResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validator.apply(requests.get(i));
+            if (error != null) {
+                results[i] = BulkRegistrationResult.failed(firstRow + i, error);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+        if (validIndexes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        List<String> baseUsernames = validIndexes.stream()
+                .map(i -> baseUsername.apply(requests.get(i)))
+                .toList();
+        List<String> passwords = validIndexes.stream()
+                .map(i -> passwordGenerator.generatePassword())
+                .toList();
+
+        try {
+            List<String> hashes = passwordHashingService.encodeAll(passwords);
+            List<String> usernames = usernameGenerator.registerUsernames(baseUsernames, candidates -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int j = 0; j < validIndexes.size(); j++) {
+                        User user = new User();
+                        user.setUsername(candidates.get(j));
+                        user.setPassword(hashes.get(j));
+                        user.setIsActive(true);
+                        persister.accept(requests.get(validIndexes.get(j)), user);
+                    }
+                });
+                return candidates;
+            });
+            for (int j = 0; j < validIndexes.size(); j++) {
+                int index = validIndexes.get(j);
+                results[index] = BulkRegistrationResult.created(firstRow + index, usernames.get(j), passwords.get(j));
+            }
+            logger.info("Registered {} of {} profiles starting at row {}", validIndexes.size(), requests.size(), firstRow);
+        } catch (RuntimeException e) {
+            logger.error("Failed to register {} profiles starting at row {}", validIndexes.size(), firstRow, e);
+            for (int index : validIndexes) {
+                results[index] = BulkRegistrationResult.failed(firstRow + index, CHUNK_FAILED);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static String validateNames(String firstName, String lastName) {
+        if (firstName == null || firstName.isBlank() || lastName == null || lastName.isBlank()) {
+            return "FirstName and LastName must not be null";
+        }
+        return null;
+    }
+}
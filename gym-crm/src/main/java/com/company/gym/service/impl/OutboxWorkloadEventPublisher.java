@@ -0,0 +1,46 @@
+package com.company.gym.service.impl;
+
+import com.company.gym.dao.WorkloadOutboxDAO;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.service.WorkloadEventPublisher;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+public class OutboxWorkloadEventPublisher implements WorkloadEventPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxWorkloadEventPublisher.class);
+
+    private WorkloadOutboxDAO workloadOutboxDAO;
+
+    @Autowired
+    public void setWorkloadOutboxDAO(WorkloadOutboxDAO workloadOutboxDAO) {
+        this.workloadOutboxDAO = workloadOutboxDAO;
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void publish(TrainerWorkloadRequest request) {
+        WorkloadOutboxEvent event = new WorkloadOutboxEvent();
+        event.setEventId(request.getEventId());
+        event.setTrainerUsername(request.getTrainerUsername());
+        event.setTrainerFirstName(request.getTrainerFirstName());
+        event.setTrainerLastName(request.getTrainerLastName());
+        event.setTrainerActive(request.isActive());
+        event.setTrainingDate(request.getTrainingDate());
+        event.setTrainingDuration(request.getTrainingDuration());
+        event.setActionType(request.getActionType());
+        event.setTransactionId(MDC.get("transactionId"));
+        event.setCreatedAt(LocalDateTime.now());
+
+        workloadOutboxDAO.save(event);
+        logger.debug("Queued workload update for trainer {} with action {}",
+                request.getTrainerUsername(), request.getActionType());
+    }
+}
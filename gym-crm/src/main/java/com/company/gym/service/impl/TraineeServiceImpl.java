@@ -7,20 +7,26 @@ import com.company.gym.dto.request.UpdateTraineeTrainersRequest;
 import com.company.gym.dto.response.UserCredentialsResponse;
 import com.company.gym.entity.*;
 import com.company.gym.exception.EntityNotFoundException;
+import com.company.gym.security.AuthenticationCache;
 import com.company.gym.service.AbstractUserService;
+import com.company.gym.service.PasswordHashingService;
 import com.company.gym.service.TraineeService;
 import com.company.gym.service.TrainingService;
+import com.company.gym.service.UnassignedTrainerCache;
 import com.company.gym.util.PasswordGenerator;
 import com.company.gym.util.UsernameGenerator;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -32,8 +38,11 @@ public class TraineeServiceImpl extends AbstractUserService<Trainee> implements
     private TraineeDAOImpl traineeDAO;
     private TrainerDAOImpl trainerDAO;
     private TrainingDAO trainingDAO;
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    private AuthenticationCache authenticationCache;
+    private UnassignedTrainerCache unassignedTrainerCache;
     private TrainingService trainingService;
+    private TransactionTemplate transactionTemplate;
 
     @Autowired
     public void setTraineeDAO(TraineeDAOImpl traineeDAO) {
@@ -62,51 +71,76 @@ public class TraineeServiceImpl extends AbstractUserService<Trainee> implements
     }
 
     @Autowired
-    public void setPasswordEncoder(PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public void setPasswordHashingService(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    @Autowired
+    public void setAuthenticationCache(AuthenticationCache authenticationCache) {
+        this.authenticationCache = authenticationCache;
     }
 
     @Autowired
     public void setTrainingService(TrainingService trainingService) { this.trainingService = trainingService; }
 
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Autowired
+    public void setUnassignedTrainerCache(UnassignedTrainerCache unassignedTrainerCache) {
+        this.unassignedTrainerCache = unassignedTrainerCache;
+    }
+
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public UserCredentialsResponse createTraineeProfile(String firstName, String lastName, Date dateOfBirth, String address) {
         if(firstName == null || lastName == null) {
             throw new IllegalArgumentException("FirstName and LastName must not be null");
         }
 
-        String username = usernameGenerator.generateUsername(firstName, lastName);
         String password = passwordGenerator.generatePassword();
+        String hashedPassword = passwordHashingService.encode(password);
+
+        String username = usernameGenerator.registerUsername(firstName, lastName, candidate -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = new User();
+                user.setFirstName(firstName);
+                user.setLastName(lastName);
+                user.setUsername(candidate);
+                user.setPassword(hashedPassword);
+                user.setIsActive(true);
+
+                Trainee trainee = new Trainee();
+                trainee.setDateOfBirth(dateOfBirth);
+                trainee.setAddress(address);
+                trainee.setUser(user);
 
-        User user = new User();
-        user.setFirstName(firstName);
-        user.setLastName(lastName);
-        user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setIsActive(true);
-
-        Trainee trainee = new Trainee();
-        trainee.setDateOfBirth(dateOfBirth);
-        trainee.setAddress(address);
-        trainee.setUser(user);
-
-        traineeDAO.save(trainee);
+                traineeDAO.save(trainee);
+            });
+            return candidate;
+        });
         logger.info("Created trainee profile with username: {}", username);
         return new UserCredentialsResponse(username, password);
     }
 
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void changePassword(String username, String oldPassword, String newPassword) {
-        Optional<Trainee> traineeOpt = traineeDAO.findByUsername(username);
-        if (traineeOpt.isPresent()) {
-            Trainee trainee = traineeOpt.get();
-            trainee.getUser().setPassword(passwordEncoder.encode(newPassword));
-            traineeDAO.update(trainee);
-            logger.info("Password changed for trainee: {}", username);
-        } else {
+        Long traineeId = transactionTemplate.execute(status ->
+                traineeDAO.findByUsername(username).map(Trainee::getId).orElse(null));
+        if (traineeId == null) {
             logger.warn("Password change failed - trainee not found: {}", username);
             throw new SecurityException("Trainee not found");
         }
+
+        String hashedPassword = passwordHashingService.encode(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            traineeDAO.changePassword(traineeId, hashedPassword);
+            authenticationCache.evictUserAfterCommit(username);
+        });
+        logger.info("Password changed for trainee: {}", username);
     }
 
     @Override
@@ -136,6 +170,7 @@ public class TraineeServiceImpl extends AbstractUserService<Trainee> implements
         Optional<Trainee> traineeOpt = traineeDAO.findByUsername(username);
         if (traineeOpt.isPresent()) {
             Trainee trainee = traineeOpt.get();
+            authenticationCache.evictUserAfterCommit(username);
             if (trainee.getUser().getIsActive()) {
                 trainee.getUser().setIsActive(false);
                 traineeDAO.update(trainee);
@@ -158,26 +193,32 @@ public class TraineeServiceImpl extends AbstractUserService<Trainee> implements
         Trainee trainee = traineeDAO.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("Trainee not found for deletion: " + username));
 
-        List<Training> trainingsToCancel = trainingDAO.findTrainingsByTraineeAndCriteria(trainee.getId(), null, null, null, null);
-        logger.info("Found {} trainings to cancel for trainee {}", trainingsToCancel.size(), username);
-
-        for (Training training : trainingsToCancel) {
-            trainingService.cancelTraining(username, training.getId());
-        }
+        int cancelled = trainingService.cancelTraineeTrainings(trainee);
+        logger.info("Cancelled {} trainings for trainee {}", cancelled, username);
 
         traineeDAO.delete(trainee.getId());
+        authenticationCache.evictUserAfterCommit(username);
+        unassignedTrainerCache.evictTraineeAfterCommit(username);
         logger.info("Deleted trainee profile: {}", username);
     }
 
+    @Override
+    public Optional<Trainee> getProfileByUsername(String username) {
+        return traineeDAO.findProfileByUsername(username);
+    }
+
     @Override
     public List<Trainer> getTrainersForTrainee(String traineeUsername) {
         Trainee trainee = traineeDAO.findByUsername(traineeUsername)
                 .orElseThrow(() -> new EntityNotFoundException("Trainee not found with username: " + traineeUsername));
 
-        return trainee.getTrainings().stream()
-                .map(Training::getTrainer)
-                .distinct()
-                .collect(Collectors.toList());
+        try (Stream<Training> trainings = trainingDAO.streamTrainingsByTraineeAndCriteria(
+                trainee.getId(), null, null, null, null)) {
+            return trainings
+                    .map(Training::getTrainer)
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -188,30 +229,37 @@ public class TraineeServiceImpl extends AbstractUserService<Trainee> implements
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Trainee not found with username: " + credentials.getUsername()));
 
+        Map<Long, Training> trainings = trainingDAO.findByIds(updates.stream()
+                        .map(UpdateTraineeTrainersRequest.TrainingTrainerUpdate::getTrainingId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Training::getId, Function.identity()));
+        Map<String, Trainer> trainers = trainerDAO.findByUsernames(updates.stream()
+                        .map(UpdateTraineeTrainersRequest.TrainingTrainerUpdate::getTrainerUsername)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(trainer -> trainer.getUser().getUsername(), Function.identity()));
+
         for (UpdateTraineeTrainersRequest.TrainingTrainerUpdate update : updates) {
-            Training training = trainingDAO.findById(update.getTrainingId())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            "Training not found with ID: " + update.getTrainingId()));
+            Training training = trainings.get(update.getTrainingId());
+            if (training == null) {
+                throw new EntityNotFoundException("Training not found with ID: " + update.getTrainingId());
+            }
 
             if (!training.getTrainee().getId().equals(authenticatedTrainee.getId())) {
                 throw new SecurityException("Trainee " + credentials.getUsername() +
                         " doesn't own training with ID: " + update.getTrainingId());
             }
 
-            Trainer newTrainer = trainerDAO.findByUsername(update.getTrainerUsername())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            "Trainer not found with username: " + update.getTrainerUsername()));
+            Trainer newTrainer = trainers.get(update.getTrainerUsername());
+            if (newTrainer == null) {
+                throw new EntityNotFoundException("Trainer not found with username: " + update.getTrainerUsername());
+            }
 
             training.setTrainer(newTrainer);
-            trainingDAO.update(training);
         }
+        unassignedTrainerCache.evictTraineeAfterCommit(credentials.getUsername());
 
-        List<Training> updatedTrainings = trainingDAO.findTrainingsByTraineeAndCriteria(
-                authenticatedTrainee.getId(), null, null, null, null);
-
-        return updatedTrainings.stream()
-                .map(Training::getTrainer)
-                .distinct()
-                .collect(Collectors.toList());
+        return trainerDAO.findTrainersAssignedToTrainee(authenticatedTrainee.getId());
     }
 }
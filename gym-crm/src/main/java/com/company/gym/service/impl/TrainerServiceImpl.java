@@ -3,18 +3,23 @@ package com.company.gym.service.impl;
 import com.company.gym.dao.TraineeDAO;
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.dto.response.UserCredentialsResponse;
 import com.company.gym.entity.*;
+import com.company.gym.security.AuthenticationCache;
 import com.company.gym.service.AbstractUserService;
+import com.company.gym.service.PasswordHashingService;
 import com.company.gym.service.TrainerService;
+import com.company.gym.service.UnassignedTrainerCache;
 import com.company.gym.util.PasswordGenerator;
 import com.company.gym.util.UsernameGenerator;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +34,10 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
     private TrainingTypeDAO trainingTypeDAO;
     private UsernameGenerator usernameGenerator;
     private PasswordGenerator passwordGenerator;
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    private AuthenticationCache authenticationCache;
+    private UnassignedTrainerCache unassignedTrainerCache;
+    private TransactionTemplate transactionTemplate;
 
     @Autowired
     public void setTrainerDAO(TrainerDAO trainerDAO) {
@@ -58,11 +66,27 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
     }
 
     @Autowired
-    public void setPasswordEncoder(PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public void setPasswordHashingService(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    @Autowired
+    public void setAuthenticationCache(AuthenticationCache authenticationCache) {
+        this.authenticationCache = authenticationCache;
+    }
+
+    @Autowired
+    public void setUnassignedTrainerCache(UnassignedTrainerCache unassignedTrainerCache) {
+        this.unassignedTrainerCache = unassignedTrainerCache;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public UserCredentialsResponse createTrainerProfile(String firstName, String lastName, Long specializationId) {
         if(specializationId == null) {
             throw new IllegalArgumentException("Specialization id cannot be null");
@@ -76,37 +100,47 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
             logger.warn("Training type not found for ID: {}", specializationId);
             throw new IllegalArgumentException("Invalid training type");
         }
-        String username = usernameGenerator.generateUsername(firstName, lastName);
         String password = passwordGenerator.generatePassword();
-
-        User user = new User();
-        user.setFirstName(firstName);
-        user.setLastName(lastName);
-        user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setIsActive(true);
-
-        Trainer trainer = new Trainer();
-        trainer.setSpecialization(trainingTypeOpt.get());
-        trainer.setUser(user);
-
-        trainerDAO.save(trainer);
+        String hashedPassword = passwordHashingService.encode(password);
+
+        String username = usernameGenerator.registerUsername(firstName, lastName, candidate -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = new User();
+                user.setFirstName(firstName);
+                user.setLastName(lastName);
+                user.setUsername(candidate);
+                user.setPassword(hashedPassword);
+                user.setIsActive(true);
+
+                Trainer trainer = new Trainer();
+                trainer.setSpecialization(trainingTypeOpt.get());
+                trainer.setUser(user);
+
+                trainerDAO.save(trainer);
+                unassignedTrainerCache.evictAllAfterCommit();
+            });
+            return candidate;
+        });
         logger.info("Created trainer profile with username: {}", username);
         return new UserCredentialsResponse(username, password);
     }
 
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void changePassword(String username, String oldPassword, String newPassword) {
-        Optional<Trainer> trainerOpt = trainerDAO.findByUsername(username);
-        if (trainerOpt.isPresent()) {
-            Trainer trainer = trainerOpt.get();
-            trainer.getUser().setPassword(passwordEncoder.encode(newPassword));
-            trainerDAO.update(trainer);
-            logger.info("Password changed for trainer: {}", username);
-        } else {
+        Long trainerId = transactionTemplate.execute(status ->
+                trainerDAO.findByUsername(username).map(Trainer::getId).orElse(null));
+        if (trainerId == null) {
             logger.warn("Password change failed - trainer not found: {}", username);
             throw new IllegalArgumentException("Trainer not found");
         }
+
+        String hashedPassword = passwordHashingService.encode(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            trainerDAO.changePassword(trainerId, hashedPassword);
+            authenticationCache.evictUserAfterCommit(username);
+        });
+        logger.info("Password changed for trainer: {}", username);
     }
 
     @Override
@@ -121,6 +155,7 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
 
         trainer.setSpecialization(trainingType);
         trainerDAO.update(trainer);
+        unassignedTrainerCache.evictAllAfterCommit();
 
         logger.info("Updated trainer profile: {}", username);
         return trainer;
@@ -137,6 +172,8 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
         boolean newStatus = !trainer.getUser().getIsActive();
         trainer.getUser().setIsActive(newStatus);
         trainerDAO.update(trainer);
+        authenticationCache.evictUserAfterCommit(username);
+        unassignedTrainerCache.evictAllAfterCommit();
         logger.info("Updated trainer {} status to: {}", username, newStatus);
     }
 
@@ -153,4 +190,13 @@ public class TrainerServiceImpl extends AbstractUserService<Trainer> implements
         }
         throw new IllegalArgumentException("Trainee not found");
     }
+
+    @Override
+    public List<UnassignedTrainerResponse> getUnassignedTrainerViews(String traineeUsername) {
+        return unassignedTrainerCache.get(traineeUsername, username -> {
+            Trainee trainee = traineeDAO.findByUsername(username)
+                    .orElseThrow(() -> new IllegalArgumentException("Trainee not found"));
+            return List.copyOf(trainerDAO.findUnassignedTrainerViews(trainee.getId()));
+        });
+    }
 }
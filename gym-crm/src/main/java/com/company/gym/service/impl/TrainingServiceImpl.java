@@ -1,36 +1,37 @@
 package com.company.gym.service.impl;
 
 import com.company.gym.dao.*;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
 import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.*;
 import com.company.gym.exception.EntityNotFoundException;
 import com.company.gym.service.AbstractBaseService;
 import com.company.gym.service.TrainingService;
+import com.company.gym.service.UnassignedTrainerCache;
+import com.company.gym.service.WorkloadEventPublisher;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @Transactional
 public class TrainingServiceImpl extends AbstractBaseService<Training> implements TrainingService {
     private static final Logger logger = LoggerFactory.getLogger(TrainingServiceImpl.class);
 
-    @Value("${queue.trainer.workload}")
-    private String trainerWorkloadQueue;
-
     private TrainingDAO trainingDAO;
     private TraineeDAO traineeDAO;
     private TrainerDAO trainerDAO;
     private TrainingTypeDAO trainingTypeDAO;
-    private JmsTemplate jmsTemplate;
+    private WorkloadEventPublisher workloadEventPublisher;
+    private UnassignedTrainerCache unassignedTrainerCache;
 
     @Autowired
     public void setTrainingDAO(TrainingDAO trainingDAO) {
@@ -54,8 +55,13 @@ public class TrainingServiceImpl extends AbstractBaseService<Training> implement
     }
 
     @Autowired
-    public void setJmsTemplate(JmsTemplate jmsTemplate) {
-        this.jmsTemplate = jmsTemplate;
+    public void setWorkloadEventPublisher(WorkloadEventPublisher workloadEventPublisher) {
+        this.workloadEventPublisher = workloadEventPublisher;
+    }
+
+    @Autowired
+    public void setUnassignedTrainerCache(UnassignedTrainerCache unassignedTrainerCache) {
+        this.unassignedTrainerCache = unassignedTrainerCache;
     }
 
     @Override
@@ -82,6 +88,7 @@ public class TrainingServiceImpl extends AbstractBaseService<Training> implement
         training.setDuration(duration);
 
         trainingDAO.save(training);
+        unassignedTrainerCache.evictTraineeAfterCommit(trainee.getUser().getUsername());
 
         sendTrainerWorkloadUpdate(trainer, trainingDate, duration, ActionType.ADD);
 
@@ -100,6 +107,24 @@ public class TrainingServiceImpl extends AbstractBaseService<Training> implement
         logger.info("Cancel training with ID: {}", training.getId());
     }
 
+    @Override
+    public int cancelTraineeTrainings(Trainee trainee) {
+        String traineeUsername = trainee.getUser().getUsername();
+        List<TrainerMonthlyWorkload> workloads = trainingDAO.findMonthlyWorkloadByTrainee(trainee.getId());
+
+        for (TrainerMonthlyWorkload workload : workloads) {
+            sendTrainerWorkloadUpdate(workload.getTrainerUsername(), workload.getTrainerFirstName(),
+                    workload.getTrainerLastName(), workload.isTrainerActive(),
+                    LocalDate.of(workload.getYear(), workload.getMonth(), 1),
+                    Math.toIntExact(workload.getTotalDuration()), ActionType.DELETE);
+        }
+
+        int cancelled = trainingDAO.deleteByTraineeId(trainee.getId());
+        logger.info("Cancelled {} trainings of trainee {} with {} workload updates",
+                cancelled, traineeUsername, workloads.size());
+        return cancelled;
+    }
+
     @Override
     public List<Training> getTraineeTrainings(Credentials credentials, LocalDate fromDate, LocalDate toDate,
                                               String trainerUsername, Long trainingTypeId) {
@@ -111,6 +136,37 @@ public class TrainingServiceImpl extends AbstractBaseService<Training> implement
                 trainee.getId(), fromDate, toDate, trainerUsername, trainingTypeId);
     }
 
+    @Override
+    public List<TraineeTrainingResponse> getTraineeTrainingViews(Credentials credentials, LocalDate fromDate,
+                                                                 LocalDate toDate, String trainerUsername,
+                                                                 Long trainingTypeId) {
+
+        Trainee trainee = traineeDAO.findByUsername(credentials.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Trainee not found"));
+
+        return trainingDAO.findTraineeTrainingViews(
+                trainee.getId(), fromDate, toDate, trainerUsername, trainingTypeId);
+    }
+
+    @Override
+    public List<TraineeTrainingResponse> getTraineeTrainingsPage(Credentials credentials, LocalDate fromDate,
+                                                                 LocalDate toDate, String trainerUsername,
+                                                                 Long trainingTypeId, LocalDate afterDate,
+                                                                 Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if ((afterDate == null) != (afterId == null)) {
+            throw new IllegalArgumentException("Cursor requires both afterDate and afterId");
+        }
+
+        Trainee trainee = traineeDAO.findByUsername(credentials.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Trainee not found"));
+
+        return trainingDAO.findTraineeTrainingsPage(
+                trainee.getId(), fromDate, toDate, trainerUsername, trainingTypeId, afterDate, afterId, limit);
+    }
+
     @Override
     public List<Training> getTrainerTrainings(Credentials credentials, LocalDate fromDate, LocalDate toDate,
                                               String traineeUsername) {
@@ -122,25 +178,37 @@ public class TrainingServiceImpl extends AbstractBaseService<Training> implement
                 trainer.getId(), fromDate, toDate, traineeUsername);
     }
 
+    @Override
+    public List<TrainerTrainingResponse> getTrainerTrainingViews(Credentials credentials, LocalDate fromDate,
+                                                                 LocalDate toDate, String traineeUsername) {
+
+        Trainer trainer = trainerDAO.findByUsername(credentials.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Trainer not found"));
+
+        return trainingDAO.findTrainerTrainingViews(
+                trainer.getId(), fromDate, toDate, traineeUsername);
+    }
+
     private void sendTrainerWorkloadUpdate(Trainer trainer, LocalDate trainingDate, Integer duration, ActionType actionType) {
+        User user = trainer.getUser();
+        sendTrainerWorkloadUpdate(user.getUsername(), user.getFirstName(), user.getLastName(), user.getIsActive(),
+                trainingDate, duration, actionType);
+    }
+
+    private void sendTrainerWorkloadUpdate(String trainerUsername, String trainerFirstName, String trainerLastName,
+                                           boolean active, LocalDate trainingDate, int duration, ActionType actionType) {
         TrainerWorkloadRequest payload = new TrainerWorkloadRequest();
-        payload.setTrainerUsername(trainer.getUser().getUsername());
-        payload.setTrainerFirstName(trainer.getUser().getFirstName());
-        payload.setTrainerLastName(trainer.getUser().getLastName());
-        payload.setActive(trainer.getUser().getIsActive());
+        payload.setEventId(UUID.randomUUID().toString());
+        payload.setTrainerUsername(trainerUsername);
+        payload.setTrainerFirstName(trainerFirstName);
+        payload.setTrainerLastName(trainerLastName);
+        payload.setActive(active);
         payload.setTrainingDate(trainingDate);
         payload.setTrainingDuration(duration);
         payload.setActionType(actionType);
 
-        jmsTemplate.convertAndSend(trainerWorkloadQueue, payload, message -> {
-            String transactionId = MDC.get("transactionId");
-            if (transactionId != null) {
-                message.setStringProperty("X-Transaction-ID", transactionId);
-            }
-            return message;
-        });
+        workloadEventPublisher.publish(payload);
 
-        logger.info("Sent workload update message for trainer {} with action {}",
-                trainer.getUser().getUsername(), actionType);
+        logger.info("Queued workload update message for trainer {} with action {}", trainerUsername, actionType);
     }
 }
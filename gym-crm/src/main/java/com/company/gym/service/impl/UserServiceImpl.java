@@ -9,6 +9,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -42,4 +44,9 @@ public class UserServiceImpl implements UserService {
     public Optional<User> getByUsername(String username) {
         return userDAO.findByUsername(username);
     }
+
+    @Override
+    public List<String> findUsernamesStartingWith(Collection<String> prefixes) {
+        return userDAO.findUsernamesStartingWith(prefixes);
+    }
 }
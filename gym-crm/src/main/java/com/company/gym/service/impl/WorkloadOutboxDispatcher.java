@@ -0,0 +1,121 @@
+package com.company.gym.service.impl;
+
+import com.company.gym.dao.WorkloadOutboxDAO;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.exception.ServiceException;
+import jakarta.jms.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the workload outbox to the broker. Each batch is locked with SKIP LOCKED, sent in one
+ * transacted JMS session and deleted in the same database transaction, so a failed send leaves
+ * the rows in place for the next run. Delivery is at-least-once: a crash between the JMS commit
+ * and the database commit re-sends the batch. Messages are grouped by trainer username, so the broker
+ * delivers all events of one trainer to the same consumer in order while other trainers run in parallel.
+ */
+@Component
+public class WorkloadOutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadOutboxDispatcher.class);
+    private static final String TRANSACTION_ID_PROPERTY = "X-Transaction-ID";
+    private static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+
+    @Value("${queue.trainer.workload}")
+    private String trainerWorkloadQueue;
+
+    @Value("${workload.outbox.batch-size:100}")
+    private int batchSize;
+
+    private WorkloadOutboxDAO workloadOutboxDAO;
+    private ConnectionFactory connectionFactory;
+    private MessageConverter messageConverter;
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public void setWorkloadOutboxDAO(WorkloadOutboxDAO workloadOutboxDAO) {
+        this.workloadOutboxDAO = workloadOutboxDAO;
+    }
+
+    @Autowired
+    public void setConnectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Autowired
+    public void setMessageConverter(MessageConverter messageConverter) {
+        this.messageConverter = messageConverter;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${workload.outbox.poll-interval-ms:200}")
+    public void dispatchPending() {
+        try {
+            Integer dispatched;
+            do {
+                dispatched = transactionTemplate.execute(status -> dispatchBatch());
+            } while (dispatched != null && dispatched == batchSize);
+        } catch (Exception e) {
+            logger.warn("Workload outbox dispatch failed, pending events will be retried: {}", e.getMessage());
+        }
+    }
+
+    int dispatchBatch() {
+        List<WorkloadOutboxEvent> batch = workloadOutboxDAO.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            send(batch);
+        } catch (JMSException e) {
+            throw new ServiceException("Failed to send workload events to " + trainerWorkloadQueue, e);
+        }
+
+        workloadOutboxDAO.deleteByIds(batch.stream().map(WorkloadOutboxEvent::getId).toList());
+        logger.info("Dispatched {} workload update messages", batch.size());
+        return batch.size();
+    }
+
+    private void send(List<WorkloadOutboxEvent> batch) throws JMSException {
+        try (Connection connection = connectionFactory.createConnection();
+             Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+             MessageProducer producer = session.createProducer(session.createQueue(trainerWorkloadQueue))) {
+            for (WorkloadOutboxEvent event : batch) {
+                Message message = messageConverter.toMessage(toRequest(event), session);
+                message.setStringProperty(GROUP_ID_PROPERTY, event.getTrainerUsername());
+                if (event.getTransactionId() != null) {
+                    message.setStringProperty(TRANSACTION_ID_PROPERTY, event.getTransactionId());
+                }
+                producer.send(message);
+            }
+            session.commit();
+        }
+    }
+
+    private TrainerWorkloadRequest toRequest(WorkloadOutboxEvent event) {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setEventId(event.getEventId());
+        request.setTrainerUsername(event.getTrainerUsername());
+        request.setTrainerFirstName(event.getTrainerFirstName());
+        request.setTrainerLastName(event.getTrainerLastName());
+        request.setActive(event.isTrainerActive());
+        request.setTrainingDate(event.getTrainingDate());
+        request.setTrainingDuration(event.getTrainingDuration());
+        request.setActionType(event.getActionType());
+        return request;
+    }
+}
@@ -0,0 +1,196 @@
+package com.company.gym.service.impl;
+
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dao.TrainingDAO;
+import com.company.gym.dao.WorkloadRebuildDAO;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.request.TrainerWorkloadRebuildChunk;
+import com.company.gym.dto.request.TrainerWorkloadSnapshot;
+import com.company.gym.entity.RebuildStatus;
+import com.company.gym.entity.WorkloadRebuild;
+import com.company.gym.exception.ServiceException;
+import com.company.gym.service.WorkloadRebuildService;
+import jakarta.jms.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rebuilds the trainer workload summaries from the trainings table. Trainers are read in username order,
+ * one chunk per transaction: the chunk's monthly totals are aggregated in the database, sent to the rebuild
+ * queue as complete per-trainer snapshots, and the checkpoint row is advanced in the same transaction.
+ * A rebuild interrupted by a restart resumes from the last checkpoint. Snapshots replace the stored summary,
+ * so a chunk that is re-sent after a crash is harmless. Each poll sends at most {@code chunksPerPoll} chunks,
+ * so a large rebuild does not hold a scheduler thread for its whole run. Workload events of a trainer that are still in
+ * flight while the trainer's chunk is read can be counted twice or missed, so rebuild during low traffic.
+ */
+@Service
+public class WorkloadRebuildServiceImpl implements WorkloadRebuildService {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadRebuildServiceImpl.class);
+
+    @Value("${queue.trainer.workload.rebuild}")
+    private String rebuildQueue;
+
+    @Value("${workload.rebuild.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${workload.rebuild.chunks-per-poll:10}")
+    private int chunksPerPoll;
+
+    private WorkloadRebuildDAO workloadRebuildDAO;
+    private TrainerDAO trainerDAO;
+    private TrainingDAO trainingDAO;
+    private ConnectionFactory connectionFactory;
+    private MessageConverter messageConverter;
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public void setWorkloadRebuildDAO(WorkloadRebuildDAO workloadRebuildDAO) {
+        this.workloadRebuildDAO = workloadRebuildDAO;
+    }
+
+    @Autowired
+    public void setTrainerDAO(TrainerDAO trainerDAO) {
+        this.trainerDAO = trainerDAO;
+    }
+
+    @Autowired
+    public void setTrainingDAO(TrainingDAO trainingDAO) {
+        this.trainingDAO = trainingDAO;
+    }
+
+    @Autowired
+    public void setConnectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Autowired
+    public void setMessageConverter(MessageConverter messageConverter) {
+        this.messageConverter = messageConverter;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts a new rebuild, or returns the running one if a rebuild is already in progress.
+     */
+    @Override
+    public WorkloadRebuild startRebuild() {
+        return transactionTemplate.execute(status -> {
+            Optional<WorkloadRebuild> latest = workloadRebuildDAO.findLatest();
+            if (latest.isPresent() && latest.get().getStatus() == RebuildStatus.RUNNING) {
+                return latest.get();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            WorkloadRebuild rebuild = new WorkloadRebuild();
+            rebuild.setStatus(RebuildStatus.RUNNING);
+            rebuild.setStartedAt(now);
+            rebuild.setUpdatedAt(now);
+            workloadRebuildDAO.save(rebuild);
+            logger.info("Started workload rebuild {}", rebuild.getId());
+            return rebuild;
+        });
+    }
+
+    @Override
+    public Optional<WorkloadRebuild> getLatestRebuild() {
+        return workloadRebuildDAO.findLatest();
+    }
+
+    @Scheduled(fixedDelayString = "${workload.rebuild.poll-interval-ms:5000}")
+    public void resumeRunning() {
+        try {
+            for (int sent = 0; sent < chunksPerPoll; sent++) {
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> sendNextChunk()))) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Workload rebuild stopped, it will resume from the last checkpoint: {}", e.getMessage());
+        }
+    }
+
+    boolean sendNextChunk() {
+        Optional<WorkloadRebuild> running = workloadRebuildDAO.lockRunning();
+        if (running.isEmpty()) {
+            return false;
+        }
+
+        WorkloadRebuild rebuild = running.get();
+        LocalDateTime now = LocalDateTime.now();
+        List<String> usernames = trainerDAO.findUsernamesAfter(rebuild.getLastTrainerUsername(), chunkSize);
+        if (usernames.isEmpty()) {
+            rebuild.setStatus(RebuildStatus.COMPLETED);
+            rebuild.setUpdatedAt(now);
+            rebuild.setCompletedAt(now);
+            workloadRebuildDAO.update(rebuild);
+            logger.info("Completed workload rebuild {}: {} trainers in {} chunks",
+                    rebuild.getId(), rebuild.getTrainersSent(), rebuild.getChunksSent());
+            return false;
+        }
+
+        TrainerWorkloadRebuildChunk chunk = new TrainerWorkloadRebuildChunk();
+        chunk.setRebuildId(rebuild.getId());
+        chunk.setChunkNumber(rebuild.getChunksSent() + 1);
+        chunk.setTrainers(toSnapshots(trainingDAO.findMonthlyWorkloadByTrainers(usernames)));
+
+        try {
+            send(chunk);
+        } catch (JMSException e) {
+            throw new ServiceException("Failed to send workload rebuild chunk to " + rebuildQueue, e);
+        }
+
+        rebuild.setLastTrainerUsername(usernames.getLast());
+        rebuild.setTrainersSent(rebuild.getTrainersSent() + chunk.getTrainers().size());
+        rebuild.setChunksSent(chunk.getChunkNumber());
+        rebuild.setUpdatedAt(now);
+        workloadRebuildDAO.update(rebuild);
+        logger.debug("Sent workload rebuild chunk {} of rebuild {} up to trainer {}",
+                chunk.getChunkNumber(), rebuild.getId(), rebuild.getLastTrainerUsername());
+        return true;
+    }
+
+    static List<TrainerWorkloadSnapshot> toSnapshots(List<TrainerMonthlyWorkload> rows) {
+        Map<String, TrainerWorkloadSnapshot> snapshots = new LinkedHashMap<>();
+        for (TrainerMonthlyWorkload row : rows) {
+            TrainerWorkloadSnapshot snapshot = snapshots.computeIfAbsent(row.getTrainerUsername(), username -> {
+                TrainerWorkloadSnapshot created = new TrainerWorkloadSnapshot();
+                created.setTrainerUsername(username);
+                created.setTrainerFirstName(row.getTrainerFirstName());
+                created.setTrainerLastName(row.getTrainerLastName());
+                created.setActive(row.isTrainerActive());
+                return created;
+            });
+            if (row.getMonth() > 0) {
+                snapshot.getYears().computeIfAbsent(row.getYear(), year -> new int[12])[row.getMonth() - 1] =
+                        Math.toIntExact(row.getTotalDuration());
+            }
+        }
+        return new ArrayList<>(snapshots.values());
+    }
+
+    private void send(TrainerWorkloadRebuildChunk chunk) throws JMSException {
+        try (Connection connection = connectionFactory.createConnection();
+             Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+             MessageProducer producer = session.createProducer(session.createQueue(rebuildQueue))) {
+            producer.send(messageConverter.toMessage(chunk, session));
+            session.commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.gym.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Loading for caches whose loader blocks on I/O. {@code Cache.get(key, loader)} runs the loader inside a
+ * synchronized map bin, which pins the carrier of a virtual thread for the whole query. Here the loader runs
+ * on the calling thread outside any monitor, while concurrent callers for the same key wait on the pending
+ * future instead of loading again.
+ */
+public final class AsyncCaches {
+
+    private AsyncCaches() {
+    }
+
+    /**
+     * Returns the cached value or loads it on the calling thread. Failed loads and null values are not cached,
+     * and an entry invalidated while its load is in flight is not re-populated by that load.
+     */
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
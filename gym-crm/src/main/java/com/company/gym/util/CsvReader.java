@@ -0,0 +1,71 @@
+package com.company.gym.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal RFC 4180 reader for import files: the first line is the header, fields may be quoted and
+ * quotes inside quoted fields are doubled. Line breaks inside fields and blank lines are not supported.
+ */
+public final class CsvReader {
+
+    private CsvReader() {
+    }
+
+    /**
+     * Returns one map per data line keyed by the header names, with missing trailing fields mapped to null.
+     */
+    public static List<Map<String, String>> read(String content) {
+        String[] lines = content.strip().split("\r?\n");
+        if (lines.length == 0 || lines[0].isBlank()) {
+            return List.of();
+        }
+        List<String> header = parseLine(lines[0], 1);
+        List<Map<String, String>> rows = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            List<String> fields = parseLine(lines[i], i + 1);
+            if (fields.size() > header.size()) {
+                throw new IllegalArgumentException("Line " + (i + 1) + " has more fields than the header");
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int j = 0; j < header.size(); j++) {
+                row.put(header.get(j), j < fields.size() && !fields.get(j).isEmpty() ? fields.get(j) : null);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static List<String> parseLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + lineNumber + " has an unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -1,36 +1,175 @@
 package com.company.gym.util;
 
 import com.company.gym.service.UserService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Allocates usernames as the base username followed by a numeric suffix when the base is taken. The next
+ * free suffix of a base is computed once from the existing usernames starting with it and then handed out
+ * from an in-memory counter, so a popular name costs one query instead of one per collision and concurrent
+ * registrations never receive the same suffix. Entries expire after the configured TTL and are recomputed,
+ * which picks up usernames created by other instances. A counter can still hand out a name that another
+ * instance has taken in the meantime, so registrations go through {@link #registerUsername} or
+ * {@link #registerUsernames}, which reload the counter and retry when the insert hits the unique username.
+ */
 @Component
 @Transactional
 public class UsernameGenerator {
 
     private static final Logger logger = LoggerFactory.getLogger(UsernameGenerator.class);
 
+    private static final int MAX_SUFFIX_DIGITS = 9;
+    private static final int MAX_REGISTRATION_ATTEMPTS = 3;
+    static final String USERNAME_CONSTRAINT = "uk_users_username";
+
+    private final AsyncCache<String, AtomicInteger> nextSuffixes;
     private UserService userService;
 
+    public UsernameGenerator(@Value("${username.suffix-cache.max-size:10000}") long maxSize,
+                             @Value("${username.suffix-cache.ttl-seconds:300}") long ttlSeconds) {
+        nextSuffixes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
     @Autowired
     public void setUserService(UserService userService) {
         this.userService = userService;
     }
 
-    public String generateUsername(String firstName, String lastName) {
-        String baseUsername = firstName + "." + lastName;
-        String username = baseUsername;
-        int suffix = 1;
+    public static String baseUsername(String firstName, String lastName) {
+        return firstName + "." + lastName;
+    }
 
-        while (userService.usernameExists(username)) {
-            username = baseUsername + suffix++;
-            logger.debug("Username {} exists, trying {}", baseUsername, username);
-        }
+    public String generateUsername(String firstName, String lastName) {
+        String baseUsername = baseUsername(firstName, lastName);
+        String username = allocate(baseUsername, nextSuffix(baseUsername, Map.of()));
 
         logger.debug("Generated username: {}", username);
         return username;
     }
+
+    /**
+     * Allocates one username per base username with the same suffix rules as {@link #generateUsername}.
+     * Bases without a cached counter are resolved with a single query, duplicates within the list get
+     * consecutive suffixes.
+     */
+    public List<String> generateUsernames(List<String> baseUsernames) {
+        Set<String> uncached = new LinkedHashSet<>();
+        for (String baseUsername : baseUsernames) {
+            if (nextSuffixes.getIfPresent(baseUsername) == null) {
+                uncached.add(baseUsername);
+            }
+        }
+        Map<String, Integer> loaded = uncached.isEmpty() ? Map.of() : loadNextSuffixes(uncached);
+
+        List<String> usernames = new ArrayList<>(baseUsernames.size());
+        for (String baseUsername : baseUsernames) {
+            usernames.add(allocate(baseUsername, nextSuffix(baseUsername, loaded)));
+        }
+        logger.debug("Generated {} usernames", usernames.size());
+        return usernames;
+    }
+
+    /**
+     * Runs the registration with a newly allocated username and returns its result. The registration must
+     * commit its own transaction, so a duplicate username surfaces here: the base's counter is then reloaded
+     * from the database and the registration retried with a new name, at most {@value #MAX_REGISTRATION_ATTEMPTS}
+     * times in total.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public <T> T registerUsername(String firstName, String lastName, Function<String, T> registration) {
+        String baseUsername = baseUsername(firstName, lastName);
+        return registerUsernames(List.of(baseUsername), usernames -> registration.apply(usernames.getFirst()));
+    }
+
+    /**
+     * Bulk variant of {@link #registerUsername}: all usernames are allocated with {@link #generateUsernames}
+     * and a duplicate reloads the counters of every base in the list before the retry.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public <T> T registerUsernames(List<String> baseUsernames, Function<List<String>, T> registration) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return registration.apply(generateUsernames(baseUsernames));
+            } catch (RuntimeException e) {
+                if (attempt == MAX_REGISTRATION_ATTEMPTS || !isUsernameConflict(e)) {
+                    throw e;
+                }
+                logger.warn("Generated username was taken concurrently, reloading suffixes (attempt {})", attempt);
+                nextSuffixes.synchronous().invalidateAll(baseUsernames);
+            }
+        }
+    }
+
+    static boolean isUsernameConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(USERNAME_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AtomicInteger nextSuffix(String baseUsername, Map<String, Integer> loaded) {
+        return AsyncCaches.getOrLoad(nextSuffixes, baseUsername, base -> new AtomicInteger(
+                loaded.containsKey(base) ? loaded.get(base) : loadNextSuffixes(Set.of(base)).get(base)));
+    }
+
+    private Map<String, Integer> loadNextSuffixes(Set<String> baseUsernames) {
+        List<String> existing = userService.findUsernamesStartingWith(baseUsernames);
+        Map<String, Integer> nextSuffixes = new HashMap<>();
+        for (String baseUsername : baseUsernames) {
+            nextSuffixes.put(baseUsername, firstFreeSuffix(baseUsername, existing));
+        }
+        return nextSuffixes;
+    }
+
+    private static String allocate(String baseUsername, AtomicInteger nextSuffix) {
+        int suffix = nextSuffix.getAndIncrement();
+        return suffix == 0 ? baseUsername : baseUsername + suffix;
+    }
+
+    /**
+     * Returns 0 when the bare base username is free and no suffixed one exists, otherwise one more than
+     * the highest suffix in use. Usernames that continue the base with anything but digits belong to
+     * other bases and are ignored.
+     */
+    static int firstFreeSuffix(String baseUsername, Collection<String> existingUsernames) {
+        boolean baseTaken = false;
+        int maxSuffix = 0;
+        for (String username : existingUsernames) {
+            if (!username.startsWith(baseUsername)) {
+                continue;
+            }
+            String suffix = username.substring(baseUsername.length());
+            if (suffix.isEmpty()) {
+                baseTaken = true;
+            } else if (suffix.length() <= MAX_SUFFIX_DIGITS && suffix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                maxSuffix = Math.max(maxSuffix, Integer.parseInt(suffix));
+            }
+        }
+        return baseTaken || maxSuffix > 0 ? maxSuffix + 1 : 0;
+    }
 }
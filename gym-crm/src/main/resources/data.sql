@@ -1,4 +0,0 @@
-INSERT INTO training_types(id, training_type_name) VALUES
-(1, 'Yoga'),
-(2, 'Strength'),
-(3, 'Cardio');
\ No newline at end of file
@@ -0,0 +1,4 @@
+INSERT INTO training_types (training_type_name) VALUES
+('Yoga'),
+('Strength'),
+('Cardio');
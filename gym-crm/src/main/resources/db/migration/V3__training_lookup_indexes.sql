@@ -0,0 +1,17 @@
+-- Trainee history: WHERE trainee_id = ? [AND training_date BETWEEN ? AND ?] ORDER BY training_date, id.
+-- The trailing id keeps the keyset page an index range scan; INCLUDE covers the listing projection.
+CREATE INDEX idx_trainings_trainee_date
+    ON trainings (trainee_id, training_date, id)
+    INCLUDE (trainer_id, training_type_id, training_name, duration);
+
+-- Trainee history filtered by training type.
+CREATE INDEX idx_trainings_trainee_type_date
+    ON trainings (trainee_id, training_type_id, training_date, id);
+
+-- Trainer history: WHERE trainer_id = ? [AND training_date BETWEEN ? AND ?].
+CREATE INDEX idx_trainings_trainer_date
+    ON trainings (trainer_id, training_date, id)
+    INCLUDE (trainee_id, training_type_id, training_name, duration);
+
+CREATE INDEX idx_trainers_training_type
+    ON trainers (training_type_id);
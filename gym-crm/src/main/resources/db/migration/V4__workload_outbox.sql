@@ -0,0 +1,12 @@
+CREATE TABLE workload_outbox (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainer_username   VARCHAR(255) NOT NULL,
+    trainer_first_name VARCHAR(255) NOT NULL,
+    trainer_last_name  VARCHAR(255) NOT NULL,
+    trainer_active     BOOLEAN      NOT NULL,
+    training_date      DATE         NOT NULL,
+    training_duration  INTEGER      NOT NULL,
+    action_type        VARCHAR(255) NOT NULL,
+    transaction_id     VARCHAR(255),
+    created_at         TIMESTAMP(6) NOT NULL
+);
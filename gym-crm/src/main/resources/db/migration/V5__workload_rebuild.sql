@@ -0,0 +1,15 @@
+-- Checkpoint of a trainer workload rebuild: trainers are sent in username order,
+-- last_trainer_username is the keyset position the next chunk resumes from.
+CREATE TABLE workload_rebuild (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    status                VARCHAR(32)  NOT NULL,
+    last_trainer_username VARCHAR(255),
+    trainers_sent         BIGINT       NOT NULL,
+    chunks_sent           BIGINT       NOT NULL,
+    started_at            TIMESTAMP(6) NOT NULL,
+    updated_at            TIMESTAMP(6) NOT NULL,
+    completed_at          TIMESTAMP(6)
+);
+
+CREATE INDEX idx_workload_rebuild_status
+    ON workload_rebuild (status, id);
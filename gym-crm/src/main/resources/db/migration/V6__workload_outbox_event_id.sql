@@ -0,0 +1,4 @@
+-- Unique id of each workload event, consumers use it to drop redelivered messages.
+-- Nullable because rows queued before this migration have no id.
+ALTER TABLE workload_outbox
+    ADD COLUMN event_id VARCHAR(36);
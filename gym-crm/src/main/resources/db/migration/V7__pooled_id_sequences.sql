@@ -0,0 +1,22 @@
+-- Pooled id sequences: Hibernate reserves a block of 50 ids per nextval, so inserts no longer need
+-- a round-trip for the generated key and can be sent as JDBC batches. The pooled optimizer treats
+-- a sequence value as the top of its block, hence each sequence starts one block above the current maximum.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE trainees ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE trainees_seq INCREMENT BY 50 OWNED BY trainees.id;
+SELECT setval('trainees_seq', COALESCE((SELECT MAX(id) FROM trainees), 0) + 50, false);
+ALTER TABLE trainees ALTER COLUMN id SET DEFAULT nextval('trainees_seq');
+
+ALTER TABLE trainers ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE trainers_seq INCREMENT BY 50 OWNED BY trainers.id;
+SELECT setval('trainers_seq', COALESCE((SELECT MAX(id) FROM trainers), 0) + 50, false);
+ALTER TABLE trainers ALTER COLUMN id SET DEFAULT nextval('trainers_seq');
+
+ALTER TABLE trainings ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE trainings_seq INCREMENT BY 50 OWNED BY trainings.id;
+SELECT setval('trainings_seq', COALESCE((SELECT MAX(id) FROM trainings), 0) + 50, false);
+ALTER TABLE trainings ALTER COLUMN id SET DEFAULT nextval('trainings_seq');
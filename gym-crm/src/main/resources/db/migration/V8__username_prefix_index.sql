@@ -0,0 +1,4 @@
+-- Username generation: WHERE username LIKE 'First.Last%' [OR ...].
+-- uk_users_username uses the database collation, which cannot serve LIKE prefixes outside the C locale.
+CREATE INDEX idx_users_username_prefix
+    ON users (username varchar_pattern_ops);
@@ -0,0 +1,94 @@
+package com.company.gym.benchmark;
+
+import com.company.gym.security.JwtUtil;
+import com.company.gym.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous JwtUtil implementation, which rebuilt the key from the secret string and
+ * re-parsed the token once per claim, with the pre-computed key and single-parse path.
+ * Run with {@code mvn -pl gym-crm test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.company.gym.benchmark.JwtUtilBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "7c80c0b40bcb74fec6b69983882e89f38f40541491f190f3be2f63021b1e8249";
+    private static final long EXPIRATION_MS = 3600000;
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        userDetails = new User("john.doe", "password", List.of());
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    // Deliberately reproduces the old JwtUtil code, including its deprecated jjwt calls.
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public boolean validateLegacy() {
+        String username = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getSubject();
+        Date expiration = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getExpiration();
+        String subject = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getSubject();
+        return username.equals(userDetails.getUsername()) && subject.equals(username) && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public boolean validate() {
+        VerifiedToken verifiedToken = jwtUtil.parseAndValidate(token);
+        return jwtUtil.validateToken(verifiedToken, userDetails);
+    }
+
+    // Deliberately reproduces the old JwtUtil code, including its deprecated jjwt calls.
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String issueLegacy() {
+        Claims claims = Jwts.claims(new HashMap<>());
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(userDetails.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(SignatureAlgorithm.HS256, SECRET).compact();
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtUtilBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
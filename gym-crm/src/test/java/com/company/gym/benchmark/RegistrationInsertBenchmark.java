@@ -0,0 +1,154 @@
+package com.company.gym.benchmark;
+
+import com.company.gym.dao.impl.TraineeDAOImpl;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.User;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares trainee registration inserts through the real Hibernate mapping and {@link TraineeDAOImpl#save},
+ * before and after V7. {@code identity} runs against a schema migrated up to V6 with the old IDENTITY id
+ * mapping restored by {@code benchmark/identity-ids-orm.xml}, {@code pooled} against the schema of V7 with
+ * the pooled sequences of the entities, so both insert into the same indexes. Both use the batch settings of application.properties.
+ * {@code bulkRegistration} saves {@value #REGISTRATIONS} trainees in one transaction, like a bulk registration
+ * chunk, {@code singleRegistration} saves one trainee per transaction, like the registration endpoint.
+ * Password hashing and username generation are left out, they do not depend on the id strategy.
+ * Scores are registrations per second. Needs Docker. Run with {@code mvn -pl gym-crm test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.company.gym.benchmark.RegistrationInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RegistrationInsertBenchmark {
+
+    private static final int REGISTRATIONS = 1000;
+    private static final Date DATE_OF_BIRTH = new Date(642902400000L);
+
+    @Param({"identity", "pooled"})
+    private String ids;
+
+    private final AtomicLong usernames = new AtomicLong();
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private TraineeDAOImpl traineeDAO;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void startDatabase() {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+        postgres.start();
+
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .target("identity".equals(ids) ? "6" : "7")
+                .load()
+                .migrate();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.name", "registration-insert-benchmark");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "true");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", "50");
+        properties.put("spring.jpa.properties.hibernate.order_inserts", "true");
+        properties.put("logging.level.com.company.gym", "WARN");
+        if ("identity".equals(ids)) {
+            properties.put("spring.jpa.mapping-resources", "benchmark/identity-ids-orm.xml");
+        }
+
+        context = new SpringApplicationBuilder(RegistrationContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+        traineeDAO = context.getBean(TraineeDAOImpl.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE trainees, users CASCADE");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REGISTRATIONS)
+    public void bulkRegistration() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                traineeDAO.save(newTrainee());
+            }
+        });
+    }
+
+    @Benchmark
+    public void singleRegistration() {
+        transactionTemplate.executeWithoutResult(status -> traineeDAO.save(newTrainee()));
+    }
+
+    private Trainee newTrainee() {
+        User user = new User();
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setUsername("John.Doe" + usernames.incrementAndGet());
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3T4vQ0h1Q5lN1b8vQ3fKpCa");
+        user.setIsActive(true);
+        return new Trainee(DATE_OF_BIRTH, "123 Main St", user);
+    }
+
+    /**
+     * Not a {@code @Configuration}, so the application's component scan does not pick it up in other tests.
+     */
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Trainee.class)
+    @Import(TraineeDAOImpl.class)
+    static class RegistrationContext {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RegistrationInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.gym.benchmark;
+
+import com.company.gym.config.WorkloadMessageConverter;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.ActionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Jackson JSON body of a workload message with the binary-v1 body written by
+ * {@link WorkloadMessageConverter}, and prints the encoded sizes of both before running.
+ * Run with {@code mvn -pl gym-crm test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.company.gym.benchmark.WorkloadMessageCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkloadMessageCodecBenchmark {
+
+    private ObjectMapper mapper;
+    private TrainerWorkloadRequest request;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        request = request();
+        json = mapper.writeValueAsBytes(request);
+        binary = WorkloadMessageConverter.encode(request);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return WorkloadMessageConverter.encode(request);
+    }
+
+    @Benchmark
+    public TrainerWorkloadRequest decodeJson() throws IOException {
+        return mapper.readValue(json, TrainerWorkloadRequest.class);
+    }
+
+    @Benchmark
+    public TrainerWorkloadRequest decodeBinary() {
+        return WorkloadMessageConverter.decode(binary);
+    }
+
+    private static TrainerWorkloadRequest request() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setTrainerUsername("jane.trainer");
+        request.setTrainerFirstName("Jane");
+        request.setTrainerLastName("Trainer");
+        request.setActive(true);
+        request.setTrainingDate(LocalDate.of(2024, 5, 10));
+        request.setTrainingDuration(60);
+        request.setActionType(ActionType.ADD);
+        return request;
+    }
+
+    public static void main(String[] args) throws RunnerException, JsonProcessingException {
+        WorkloadMessageCodecBenchmark sizes = new WorkloadMessageCodecBenchmark();
+        sizes.setUp();
+        System.out.printf("JSON body: %d bytes + _type=%s%n", sizes.json.length, TrainerWorkloadRequest.class.getName());
+        System.out.printf("Binary body: %d bytes + %s=%s%n", sizes.binary.length,
+                WorkloadMessageConverter.FORMAT_PROPERTY, WorkloadMessageConverter.BINARY_V1);
+
+        Options options = new OptionsBuilder()
+                .include(WorkloadMessageCodecBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -40,7 +40,7 @@ public class TrainingStepDefinitions extends ComponentTestBase {
 
     @Given("a training type named {string} exists")
     public void trainingTypeExists(String typeName) {
-        assertThat(trainingTypeDAO.findByName(typeName)).as("Static training type '" + typeName + "' should be pre-loaded by data.sql").isPresent();
+        assertThat(trainingTypeDAO.findByName(typeName)).as("Static training type '" + typeName + "' should be seeded by the Flyway migrations").isPresent();
     }
 
     @When("a new training is created for trainee {string} and trainer {string} with type {string}, date {string}, and duration {int}")
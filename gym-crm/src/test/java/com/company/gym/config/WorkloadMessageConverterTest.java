@@ -0,0 +1,100 @@
+package com.company.gym.config;
+
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.ActionType;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadMessageConverterTest {
+
+    /** Wire format v1 of {@link #request()}, the trainer-workload tests decode the same bytes. */
+    private static final String BINARY_V1_FIXTURE =
+            "0101000c6a616e652e747261696e65720100044a616e65010007547261696e6572010100004d8d0000003c01";
+
+    @Mock
+    private MessageConverter jsonConverter;
+
+    @Mock
+    private Session session;
+
+    private static TrainerWorkloadRequest request() {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setTrainerUsername("jane.trainer");
+        request.setTrainerFirstName("Jane");
+        request.setTrainerLastName("Trainer");
+        request.setActive(true);
+        request.setTrainingDate(LocalDate.of(2024, 5, 10));
+        request.setTrainingDuration(60);
+        request.setActionType(ActionType.ADD);
+        return request;
+    }
+
+    @Test
+    void encode_MatchesWireFormatV1() {
+        assertEquals(BINARY_V1_FIXTURE, HexFormat.of().formatHex(WorkloadMessageConverter.encode(request())));
+    }
+
+    @Test
+    void decode_RoundTripsNullableFields() {
+        TrainerWorkloadRequest request = request();
+        request.setTrainerFirstName(null);
+        request.setTrainingDate(null);
+        request.setActionType(ActionType.DELETE);
+
+        TrainerWorkloadRequest decoded = WorkloadMessageConverter.decode(WorkloadMessageConverter.encode(request));
+
+        assertEquals("jane.trainer", decoded.getTrainerUsername());
+        assertNull(decoded.getTrainerFirstName());
+        assertNull(decoded.getTrainingDate());
+        assertEquals(ActionType.DELETE, decoded.getActionType());
+        assertEquals(60, decoded.getTrainingDuration());
+    }
+
+    @Test
+    void toMessage_BinaryFormatWritesBytesMessage() throws Exception {
+        BytesMessage message = mock(BytesMessage.class);
+        when(session.createBytesMessage()).thenReturn(message);
+        TrainerWorkloadRequest request = request();
+        request.setEventId("event-1");
+
+        assertSame(message, new WorkloadMessageConverter(jsonConverter, true).toMessage(request, session));
+
+        verify(message).writeBytes(HexFormat.of().parseHex(BINARY_V1_FIXTURE));
+        verify(message).setStringProperty(WorkloadMessageConverter.FORMAT_PROPERTY, WorkloadMessageConverter.BINARY_V1);
+        verify(message).setStringProperty(WorkloadMessageConverter.EVENT_ID_PROPERTY, "event-1");
+        verifyNoInteractions(jsonConverter);
+    }
+
+    @Test
+    void toMessage_JsonFormatDelegates() throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        TrainerWorkloadRequest request = request();
+        when(jsonConverter.toMessage(request, session)).thenReturn(message);
+
+        assertSame(message, new WorkloadMessageConverter(jsonConverter, false).toMessage(request, session));
+        verify(session, never()).createBytesMessage();
+    }
+
+    @Test
+    void fromMessage_WithoutFormatPropertyDelegatesToJson() throws Exception {
+        Message message = mock(TextMessage.class);
+        TrainerWorkloadRequest request = request();
+        when(jsonConverter.fromMessage(message)).thenReturn(request);
+
+        assertSame(request, new WorkloadMessageConverter(jsonConverter, true).fromMessage(message));
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.gym.controller;
+
+import com.company.gym.dto.request.TraineeRegistrationRequest;
+import com.company.gym.dto.request.TrainerRegistrationRequest;
+import com.company.gym.dto.response.BulkRegistrationResult;
+import com.company.gym.service.BulkRegistrationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRegistrationControllerTest {
+
+    @Mock
+    private BulkRegistrationService bulkRegistrationService;
+
+    private MeterRegistry meterRegistry;
+    private BulkRegistrationController bulkRegistrationController;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkRegistrationController = new BulkRegistrationController(bulkRegistrationService, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(bulkRegistrationController, "chunkSize", 2);
+        ReflectionTestUtils.setField(bulkRegistrationController, "maxRows", 5);
+    }
+
+    @Test
+    void registerTrainees_StreamsOneLinePerRowInChunks() throws Exception {
+        when(bulkRegistrationService.registerTrainees(anyList(), eq(1))).thenReturn(List.of(
+                BulkRegistrationResult.created(1, "John.Smith", "pass1"),
+                BulkRegistrationResult.failed(2, "FirstName and LastName must not be null")));
+        when(bulkRegistrationService.registerTrainees(anyList(), eq(3))).thenReturn(List.of(
+                BulkRegistrationResult.created(3, "Anna.Lee", "pass3")));
+
+        ResponseEntity<StreamingResponseBody> response = bulkRegistrationController.registerTrainees(
+                List.of(new TraineeRegistrationRequest(), new TraineeRegistrationRequest(), new TraineeRegistrationRequest()));
+        String body = write(response);
+
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertEquals("""
+                {"row":1,"username":"John.Smith","password":"pass1"}
+                {"row":2,"error":"FirstName and LastName must not be null"}
+                {"row":3,"username":"Anna.Lee","password":"pass3"}
+                """, body);
+        assertEquals(2.0, meterRegistry.get("trainee.registrations.total").counter().count());
+    }
+
+    @Test
+    void registerTrainersCsv_MapsColumns() throws Exception {
+        when(bulkRegistrationService.registerTrainers(anyList(), eq(1))).thenReturn(List.of(
+                BulkRegistrationResult.created(1, "Jane.Doe", "pass1")));
+
+        write(bulkRegistrationController.registerTrainersCsv("firstName,lastName,specializationId\nJane,Doe,2\n"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TrainerRegistrationRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkRegistrationService).registerTrainers(captor.capture(), eq(1));
+        TrainerRegistrationRequest request = captor.getValue().get(0);
+        assertEquals("Jane", request.getFirstName());
+        assertEquals("Doe", request.getLastName());
+        assertEquals(2L, request.getSpecializationId());
+    }
+
+    @Test
+    void registerTraineesCsv_InvalidDate() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bulkRegistrationController.registerTraineesCsv("firstName,lastName,dateOfBirth\nJohn,Smith,01/02/1990"));
+
+        assertEquals("Row 1 has an invalid dateOfBirth: 01/02/1990", exception.getMessage());
+        verifyNoInteractions(bulkRegistrationService);
+    }
+
+    @Test
+    void registerTrainers_RejectsEmptyAndOversizedImports() {
+        assertThrows(IllegalArgumentException.class, () -> bulkRegistrationController.registerTrainers(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> bulkRegistrationController.registerTrainers(
+                Collections.nCopies(6, new TrainerRegistrationRequest())));
+        verifyNoInteractions(bulkRegistrationService);
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
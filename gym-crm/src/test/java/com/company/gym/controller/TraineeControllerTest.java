@@ -160,20 +160,21 @@ class TraineeControllerTest {
     @DisplayName("Get Trainee Profile should return 200 OK")
     void getTraineeProfile_onSuccess() {
         when(principal.getName()).thenReturn(TEST_USERNAME);
-        when(traineeService.getByUsername(TEST_USERNAME)).thenReturn(Optional.of(testTrainee));
+        when(traineeService.getProfileByUsername(TEST_USERNAME)).thenReturn(Optional.of(testTrainee));
 
         ResponseEntity<TraineeProfileResponse> response = traineeController.getTraineeProfile(principal);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("John", response.getBody().getFirstName());
+        verify(traineeService, never()).getByUsername(anyString());
     }
 
     @Test
     @DisplayName("Get Trainee Profile should throw EntityNotFoundException if trainee does not exist")
     void getTraineeProfile_traineeNotFound() {
         when(principal.getName()).thenReturn(TEST_USERNAME);
-        when(traineeService.getByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
+        when(traineeService.getProfileByUsername(TEST_USERNAME)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> traineeController.getTraineeProfile(principal));
     }
@@ -184,7 +185,7 @@ class TraineeControllerTest {
         when(principal.getName()).thenReturn(TEST_USERNAME);
         testTrainee.getUser().setIsActive(false);
         when(traineeService.updateTraineeProfile(any(), any(), any())).thenReturn(testTrainee);
-        when(traineeService.getByUsername("john.doe")).thenReturn(Optional.of(testTrainee));
+        when(traineeService.getProfileByUsername("john.doe")).thenReturn(Optional.of(testTrainee));
 
         ResponseEntity<TraineeProfileResponse> response = traineeController.updateTraineeProfile(principal, updateRequest);
 
@@ -238,22 +239,19 @@ class TraineeControllerTest {
     }
 
     @Test
-    @DisplayName("Get Unassigned Trainers should return 200 OK with filtered list")
+    @DisplayName("Get Unassigned Trainers should return 200 OK with the cached projection")
     void getUnassignedTrainers_onSuccess() {
         when(principal.getName()).thenReturn(TEST_USERNAME);
-        Trainer activeTrainer = new Trainer();
-        User activeUser = new User();
-        activeUser.setIsActive(true);
-        activeTrainer.setUser(activeUser);
-        activeTrainer.setSpecialization(new TrainingType());
+        UnassignedTrainerResponse activeTrainer = new UnassignedTrainerResponse("trainer.jane", "Jane", "Doe", "Yoga");
 
-        when(trainerService.getUnassignedTrainers("john.doe")).thenReturn(Collections.singletonList(activeTrainer));
+        when(trainerService.getUnassignedTrainerViews("john.doe")).thenReturn(Collections.singletonList(activeTrainer));
 
         ResponseEntity<List<UnassignedTrainerResponse>> response = traineeController.getUnassignedTrainers(principal);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
+        verify(trainerService, never()).getUnassignedTrainers(anyString());
     }
 
     @Test
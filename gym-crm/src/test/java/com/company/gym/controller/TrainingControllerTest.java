@@ -2,6 +2,7 @@ package com.company.gym.controller;
 
 import com.company.gym.dao.TrainingTypeDAO;
 import com.company.gym.dto.request.AddTrainingRequest;
+import com.company.gym.dto.response.TraineeTrainingPageResponse;
 import com.company.gym.dto.response.TraineeTrainingResponse;
 import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.dto.response.TrainingTypeResponse;
@@ -48,6 +49,8 @@ class TrainingControllerTest {
     private TrainingController trainingController;
 
     private Training testTraining;
+    private TraineeTrainingResponse traineeTrainingView;
+    private TrainerTrainingResponse trainerTrainingView;
     private TrainingType testTrainingType;
     private AddTrainingRequest addTrainingRequest;
 
@@ -82,6 +85,11 @@ class TrainingControllerTest {
         testTraining.setTrainee(testTrainee);
         testTraining.setTrainer(testTrainer);
 
+        traineeTrainingView = new TraineeTrainingResponse(1L, "Morning Session", testTraining.getTrainingDate(),
+                "Cardio", 60, "Jane Trainer");
+        trainerTrainingView = new TrainerTrainingResponse(1L, "Morning Session", testTraining.getTrainingDate(),
+                "Cardio", 60, "John Doe");
+
         addTrainingRequest = new AddTrainingRequest();
         addTrainingRequest.setTrainerUsername("jane.trainer");
         addTrainingRequest.setTrainingName("Morning Session");
@@ -97,8 +105,8 @@ class TrainingControllerTest {
     void getTraineeTrainings_onSuccess() {
         String username = "john.doe";
         when(principal.getName()).thenReturn(username);
-        when(trainingService.getTraineeTrainings(any(), any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(testTraining));
+        when(trainingService.getTraineeTrainingViews(any(), any(), any(), any(), any()))
+                .thenReturn(Collections.singletonList(traineeTrainingView));
         when(trainingTypeDAO.findByName("Cardio")).thenReturn(Optional.of(testTrainingType));
 
         ResponseEntity<List<TraineeTrainingResponse>> response = trainingController.getTraineeTrainings(
@@ -109,7 +117,7 @@ class TrainingControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals("Morning Session", response.getBody().getFirst().getTrainingName());
 
-        verify(trainingService).getTraineeTrainings(
+        verify(trainingService).getTraineeTrainingViews(
                 argThat(credentials ->
                         credentials.getUsername().equals("john.doe") &&
                                 credentials.getPassword() == null
@@ -135,8 +143,8 @@ class TrainingControllerTest {
     void getTrainerTrainings_onSuccess() {
         String username = "jane.trainer";
         when(principal.getName()).thenReturn(username);
-        when(trainingService.getTrainerTrainings(any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(testTraining));
+        when(trainingService.getTrainerTrainingViews(any(), any(), any(), any()))
+                .thenReturn(Collections.singletonList(trainerTrainingView));
 
         ResponseEntity<List<TrainerTrainingResponse>> response = trainingController.getTrainerTrainings(
                 principal, null, null, null);
@@ -146,7 +154,7 @@ class TrainingControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals("Morning Session", response.getBody().getFirst().getTrainingName());
 
-        verify(trainingService).getTrainerTrainings(
+        verify(trainingService).getTrainerTrainingViews(
                 argThat(credentials ->
                         credentials.getUsername().equals("jane.trainer") &&
                                 credentials.getPassword() == null
@@ -204,4 +212,48 @@ class TrainingControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals("Cardio", response.getBody().getFirst().getName());
     }
+
+    @Test
+    @DisplayName("Get Trainee Trainings Page should return a cursor when more rows exist")
+    void getTraineeTrainingsPage_hasMore() {
+        TraineeTrainingResponse next = new TraineeTrainingResponse(2L, "Evening Session",
+                testTraining.getTrainingDate(), "Cardio", 30, "Jane Trainer");
+
+        when(principal.getName()).thenReturn("john.doe");
+        when(trainingService.getTraineeTrainingsPage(any(), any(), any(), any(), any(), any(), any(), eq(2)))
+                .thenReturn(List.of(traineeTrainingView, next));
+
+        ResponseEntity<TraineeTrainingPageResponse> response = trainingController.getTraineeTrainingsPage(
+                principal, null, null, null, null, null, null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTrainings().size());
+        assertEquals(testTraining.getTrainingDate(), response.getBody().getNextAfterDate());
+        assertEquals(1L, response.getBody().getNextAfterId());
+        assertTrue(response.getBody().isHasMore());
+    }
+
+    @Test
+    @DisplayName("Get Trainee Trainings Page should not return a cursor on the last page")
+    void getTraineeTrainingsPage_lastPage() {
+        when(principal.getName()).thenReturn("john.doe");
+        when(trainingService.getTraineeTrainingsPage(any(), any(), any(), any(), any(), any(), eq(7L), eq(51)))
+                .thenReturn(Collections.singletonList(traineeTrainingView));
+
+        ResponseEntity<TraineeTrainingPageResponse> response = trainingController.getTraineeTrainingsPage(
+                principal, null, null, null, null, LocalDate.now(), 7L, 50);
+
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTrainings().size());
+        assertNull(response.getBody().getNextAfterId());
+        assertFalse(response.getBody().isHasMore());
+    }
+
+    @Test
+    @DisplayName("Get Trainee Trainings Page should reject a non-positive page size")
+    void getTraineeTrainingsPage_invalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> trainingController.getTraineeTrainingsPage(
+                principal, null, null, null, null, null, null, 0));
+    }
 }
@@ -4,8 +4,10 @@ import com.company.gym.dao.impl.TraineeDAOImpl;
 import com.company.gym.entity.Trainee;
 import com.company.gym.entity.User;
 import com.company.gym.exception.DAOException;
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.SpecHints;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +32,9 @@ class TraineeDAOImplTest {
     @Mock
     private TypedQuery<Trainee> query;
 
+    @Mock
+    private EntityGraph<Trainee> profileGraph;
+
     @InjectMocks
     private TraineeDAOImpl traineeDAO;
 
@@ -80,6 +85,29 @@ class TraineeDAOImplTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void findProfileByUsername_UsesProfileGraph() {
+        when(entityManager.createQuery(anyString(), eq(Trainee.class))).thenReturn(query);
+        doReturn(profileGraph).when(entityManager).getEntityGraph(Trainee.PROFILE_GRAPH);
+        when(query.getResultList()).thenReturn(Collections.singletonList(testTrainee));
+
+        Optional<Trainee> result = traineeDAO.findProfileByUsername("test.trainee");
+
+        assertTrue(result.isPresent());
+        verify(query).setParameter("username", "test.trainee");
+        verify(query).setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, profileGraph);
+    }
+
+    @Test
+    void findProfileByUsername_ExceptionHandling() {
+        when(entityManager.createQuery(anyString(), eq(Trainee.class)))
+                .thenThrow(new RuntimeException("DB error"));
+
+        Optional<Trainee> result = traineeDAO.findProfileByUsername("test.trainee");
+
+        assertFalse(result.isPresent());
+    }
+
     @Test
     void save_Success() {
         traineeDAO.save(testTrainee);
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import java.util.*;
 
 import com.company.gym.dao.impl.TrainerDAOImpl;
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.entity.Trainer;
 import com.company.gym.entity.TrainingType;
 import com.company.gym.entity.User;
@@ -145,4 +146,79 @@ class TrainerDAOImplTest {
         assertEquals(testTrainer, result.getFirst());
         verify(query).setParameter("traineeId", 1L);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findUnassignedTrainerViews_UsesAntiJoinProjection() {
+        TypedQuery<UnassignedTrainerResponse> viewQuery = mock(TypedQuery.class);
+        UnassignedTrainerResponse view = new UnassignedTrainerResponse("test.trainer", "Test", "Trainer", "Yoga");
+        when(entityManager.createQuery(anyString(), eq(UnassignedTrainerResponse.class))).thenReturn(viewQuery);
+        when(viewQuery.setParameter("traineeId", 1L)).thenReturn(viewQuery);
+        when(viewQuery.setHint(anyString(), any())).thenReturn(viewQuery);
+        when(viewQuery.getResultList()).thenReturn(List.of(view));
+
+        List<UnassignedTrainerResponse> result = trainerDAO.findUnassignedTrainerViews(1L);
+
+        assertEquals(List.of(view), result);
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("NOT EXISTS") && !jpql.contains("NOT IN") && jpql.contains("u.isActive = true")),
+                eq(UnassignedTrainerResponse.class));
+    }
+
+    @Test
+    void findTrainersAssignedToTrainee_Success() {
+        when(entityManager.createQuery(anyString(), eq(Trainer.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(Collections.singletonList(testTrainer));
+
+        List<Trainer> result = trainerDAO.findTrainersAssignedToTrainee(1L);
+
+        assertEquals(1, result.size());
+        verify(query).setParameter("traineeId", 1L);
+    }
+
+    @Test
+    void findByUsernames_Success() {
+        when(entityManager.createQuery(anyString(), eq(Trainer.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(Collections.singletonList(testTrainer));
+
+        List<Trainer> result = trainerDAO.findByUsernames(List.of("test.trainer"));
+
+        assertEquals(1, result.size());
+        verify(query).setParameter("usernames", List.of("test.trainer"));
+    }
+
+    @Test
+    void findByUsernames_EmptyInput() {
+        assertTrue(trainerDAO.findByUsernames(List.of()).isEmpty());
+
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void findUsernamesAfter_ContinuesFromCheckpoint() {
+        @SuppressWarnings("unchecked")
+        TypedQuery<String> usernameQuery = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(String.class))).thenReturn(usernameQuery);
+        when(usernameQuery.getResultList()).thenReturn(List.of("john.doe"));
+
+        assertEquals(List.of("john.doe"), trainerDAO.findUsernamesAfter("jane.smith", 500));
+
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("u.username > :afterUsername") && jpql.endsWith("ORDER BY u.username")), eq(String.class));
+        verify(usernameQuery).setParameter("afterUsername", "jane.smith");
+        verify(usernameQuery).setMaxResults(500);
+    }
+
+    @Test
+    void findUsernamesAfter_StartsFromFirstTrainer() {
+        @SuppressWarnings("unchecked")
+        TypedQuery<String> usernameQuery = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(String.class))).thenReturn(usernameQuery);
+        when(usernameQuery.getResultList()).thenReturn(List.of("jane.smith"));
+
+        assertEquals(List.of("jane.smith"), trainerDAO.findUsernamesAfter(null, 500));
+
+        verify(entityManager).createQuery(argThat((String jpql) -> !jpql.contains("WHERE")), eq(String.class));
+        verify(usernameQuery, never()).setParameter(anyString(), any());
+    }
 }
@@ -6,10 +6,15 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import com.company.gym.dao.impl.TrainingDAOImpl;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.Training;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +31,12 @@ class TrainingDAOImplTest {
     @Mock
     private TypedQuery<Training> query;
 
+    @Mock
+    private TypedQuery<TraineeTrainingResponse> traineeViewQuery;
+
+    @Mock
+    private TypedQuery<TrainerTrainingResponse> trainerViewQuery;
+
     @InjectMocks
     private TrainingDAOImpl trainingDAO;
 
@@ -59,6 +70,20 @@ class TrainingDAOImplTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void findByIds_FetchesTraineeAndTrainer() {
+        Training expected = new Training();
+        when(entityManager.createQuery(anyString(), eq(Training.class))).thenReturn(query);
+        when(query.setParameter("ids", List.of(1L, 2L))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(expected));
+
+        List<Training> result = trainingDAO.findByIds(List.of(1L, 2L));
+
+        assertEquals(List.of(expected), result);
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("JOIN FETCH t.trainee") && jpql.contains("t.id IN :ids")), eq(Training.class));
+    }
+
     @Test
     void findAll() {
         List<Training> expected = Arrays.asList(new Training(), new Training());
@@ -147,4 +172,149 @@ class TrainingDAOImplTest {
         verify(query, never()).setParameter(eq("toDate"), any());
         verify(query, never()).setParameter(eq("traineeName"), any());
     }
+
+    @Test
+    void findTraineeTrainingViews_ProjectsRows() {
+        List<TraineeTrainingResponse> expected = List.of(
+                new TraineeTrainingResponse(1L, "Session", LocalDate.now(), "Yoga", 60, "Jane Smith"));
+
+        when(entityManager.createQuery(anyString(), eq(TraineeTrainingResponse.class))).thenReturn(traineeViewQuery);
+        when(traineeViewQuery.getResultList()).thenReturn(expected);
+
+        List<TraineeTrainingResponse> result = trainingDAO.findTraineeTrainingViews(
+                1L, null, null, "jane.smith", 2L);
+
+        assertEquals(expected, result);
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.startsWith("SELECT new ") && jpql.contains("trainerUser.username = :trainerUsername")),
+                eq(TraineeTrainingResponse.class));
+        verify(traineeViewQuery).setParameter("traineeId", 1L);
+        verify(traineeViewQuery).setParameter("trainerUsername", "jane.smith");
+        verify(traineeViewQuery).setParameter("trainingTypeId", 2L);
+        verify(entityManager, never()).createQuery(anyString(), eq(Training.class));
+    }
+
+    @Test
+    void findTrainerTrainingViews_ProjectsRows() {
+        LocalDate fromDate = LocalDate.of(2024, 1, 1);
+        List<TrainerTrainingResponse> expected = List.of(
+                new TrainerTrainingResponse(1L, "Session", fromDate, "Yoga", 60, "John Doe"));
+
+        when(entityManager.createQuery(anyString(), eq(TrainerTrainingResponse.class))).thenReturn(trainerViewQuery);
+        when(trainerViewQuery.getResultList()).thenReturn(expected);
+
+        List<TrainerTrainingResponse> result = trainingDAO.findTrainerTrainingViews(1L, fromDate, null, null);
+
+        assertEquals(expected, result);
+        verify(trainerViewQuery).setParameter("trainerId", 1L);
+        verify(trainerViewQuery).setParameter("fromDate", fromDate);
+        verify(trainerViewQuery, never()).setParameter(eq("traineeUsername"), any());
+    }
+
+    @Test
+    void findTraineeTrainingsPage_WithCursor() {
+        LocalDate afterDate = LocalDate.of(2024, 5, 1);
+        List<TraineeTrainingResponse> expected = List.of(
+                new TraineeTrainingResponse(43L, "Session", afterDate, "Yoga", 60, "Jane Smith"));
+
+        when(entityManager.createQuery(anyString(), eq(TraineeTrainingResponse.class))).thenReturn(traineeViewQuery);
+        when(traineeViewQuery.getResultList()).thenReturn(expected);
+
+        List<TraineeTrainingResponse> result = trainingDAO.findTraineeTrainingsPage(
+                1L, null, null, null, null, afterDate, 42L, 20);
+
+        assertEquals(1, result.size());
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains(":afterDate") && jpql.endsWith("ORDER BY t.trainingDate, t.id")),
+                eq(TraineeTrainingResponse.class));
+        verify(traineeViewQuery).setParameter("traineeId", 1L);
+        verify(traineeViewQuery).setParameter("afterDate", afterDate);
+        verify(traineeViewQuery).setParameter("afterId", 42L);
+        verify(traineeViewQuery).setMaxResults(20);
+    }
+
+    @Test
+    void findTraineeTrainingsPage_FirstPage() {
+        when(entityManager.createQuery(anyString(), eq(TraineeTrainingResponse.class))).thenReturn(traineeViewQuery);
+        when(traineeViewQuery.getResultList()).thenReturn(List.of());
+
+        trainingDAO.findTraineeTrainingsPage(1L, null, null, null, null, null, null, 20);
+
+        verify(entityManager).createQuery(argThat((String jpql) -> !jpql.contains(":afterDate")),
+                eq(TraineeTrainingResponse.class));
+        verify(traineeViewQuery, never()).setParameter(eq("afterDate"), any());
+        verify(traineeViewQuery, never()).setParameter(eq("afterId"), any());
+        verify(traineeViewQuery).setMaxResults(20);
+    }
+
+    @Test
+    void streamTrainingsByTraineeAndCriteria_DetachesRows() {
+        Training first = new Training();
+        Training second = new Training();
+
+        when(entityManager.createQuery(anyString(), eq(Training.class))).thenReturn(query);
+        when(query.getResultStream()).thenReturn(Stream.of(first, second));
+
+        try (Stream<Training> result = trainingDAO.streamTrainingsByTraineeAndCriteria(1L, null, null, null, null)) {
+            assertEquals(List.of(first, second), result.toList());
+        }
+
+        verify(query).setParameter("traineeId", 1L);
+        verify(query).setHint(eq("org.hibernate.fetchSize"), any());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void findMonthlyWorkloadByTrainee_GroupsByTrainerAndMonth() {
+        @SuppressWarnings("unchecked")
+        TypedQuery<TrainerMonthlyWorkload> workloadQuery = mock(TypedQuery.class);
+        List<TrainerMonthlyWorkload> expected = List.of(
+                new TrainerMonthlyWorkload("jane.smith", "Jane", "Smith", true, 2024, 5, 120));
+
+        when(entityManager.createQuery(anyString(), eq(TrainerMonthlyWorkload.class))).thenReturn(workloadQuery);
+        when(workloadQuery.setParameter("traineeId", 1L)).thenReturn(workloadQuery);
+        when(workloadQuery.getResultList()).thenReturn(expected);
+
+        assertEquals(expected, trainingDAO.findMonthlyWorkloadByTrainee(1L));
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("SUM(t.duration)") && jpql.contains("GROUP BY")), eq(TrainerMonthlyWorkload.class));
+    }
+
+    @Test
+    void deleteByTraineeId_UsesBulkDelete() {
+        Query deleteQuery = mock(Query.class);
+        when(entityManager.createQuery(startsWith("DELETE FROM Training"))).thenReturn(deleteQuery);
+        when(deleteQuery.setParameter("traineeId", 1L)).thenReturn(deleteQuery);
+        when(deleteQuery.executeUpdate()).thenReturn(7);
+
+        assertEquals(7, trainingDAO.deleteByTraineeId(1L));
+        verify(entityManager, never()).remove(any());
+    }
+
+    @Test
+    void findMonthlyWorkloadByTrainers_AggregatesChunkInDatabase() {
+        @SuppressWarnings("unchecked")
+        TypedQuery<TrainerMonthlyWorkload> workloadQuery = mock(TypedQuery.class);
+        List<String> usernames = List.of("jane.smith", "john.doe");
+        List<TrainerMonthlyWorkload> expected = List.of(
+                new TrainerMonthlyWorkload("jane.smith", "Jane", "Smith", true, 2024, 5, 120),
+                new TrainerMonthlyWorkload("john.doe", "John", "Doe", true, 0, 0, 0));
+
+        when(entityManager.createQuery(anyString(), eq(TrainerMonthlyWorkload.class))).thenReturn(workloadQuery);
+        when(workloadQuery.setParameter("trainerUsernames", usernames)).thenReturn(workloadQuery);
+        when(workloadQuery.setHint(anyString(), any())).thenReturn(workloadQuery);
+        when(workloadQuery.getResultList()).thenReturn(expected);
+
+        assertEquals(expected, trainingDAO.findMonthlyWorkloadByTrainers(usernames));
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("LEFT JOIN tr.trainings t") && jpql.contains("GROUP BY")
+                        && jpql.endsWith("ORDER BY u.username")), eq(TrainerMonthlyWorkload.class));
+    }
+
+    @Test
+    void findMonthlyWorkloadByTrainers_EmptyChunkSkipsQuery() {
+        assertTrue(trainingDAO.findMonthlyWorkloadByTrainers(List.of()).isEmpty());
+        verifyNoInteractions(entityManager);
+    }
 }
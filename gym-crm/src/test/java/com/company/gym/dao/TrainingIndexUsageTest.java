@@ -0,0 +1,130 @@
+package com.company.gym.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TrainingIndexUsageTest {
+
+    private static final String POSTGRES_IMAGE = "postgres:15-alpine";
+
+    private static final String TRAINEE_LISTING =
+            "SELECT t.id, t.training_name, t.training_date, tt.training_type_name, t.duration, " +
+                    "u.first_name, u.last_name " +
+                    "FROM trainings t JOIN training_types tt ON tt.id = t.training_type_id " +
+                    "JOIN trainers tr ON tr.id = t.trainer_id JOIN users u ON u.id = tr.user_id " +
+                    "WHERE t.trainee_id = 42";
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(DockerImageName.parse(POSTGRES_IMAGE));
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgreSQLContainer.getJdbcUrl(), postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id, first_name, last_name, username, password, is_active) " +
+                    "SELECT g, 'First', 'Last', 'user.' || g, 'secret', true FROM generate_series(1, 1050) g");
+            statement.execute("INSERT INTO users (id, first_name, last_name, username, password, is_active) " +
+                    "SELECT g, 'First', 'Last', 'member.' || g, 'secret', true FROM generate_series(2001, 50000) g");
+            statement.execute("INSERT INTO trainees (id, user_id, address) SELECT g, g, 'Street' FROM generate_series(1, 1000) g");
+            statement.execute("INSERT INTO trainers (id, user_id, training_type_id) " +
+                    "SELECT g - 1000, g, (g % 3) + 1 FROM generate_series(1001, 1050) g");
+            statement.execute("INSERT INTO trainings (id, trainee_id, trainer_id, training_name, training_type_id, training_date, duration) " +
+                    "SELECT g, (g % 1000) + 1, (g % 50) + 1, 'Session ' || g, (g % 3) + 1, " +
+                    "DATE '2020-01-01' + (g % 1500), 60 FROM generate_series(1, 100000) g");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    void findByUsername_UsesUniqueIndex() throws SQLException {
+        String plan = explain("SELECT * FROM users WHERE username = 'user.500'");
+
+        assertTrue(plan.contains("uk_users_username"), plan);
+    }
+
+    @Test
+    void usernamePrefix_UsesPatternIndex() throws SQLException {
+        String plan = explain("SELECT username FROM users WHERE username LIKE 'user.50%' ESCAPE '\\'");
+
+        assertTrue(plan.contains("idx_users_username_prefix"), plan);
+        assertFalse(plan.contains("Seq Scan on users"), plan);
+    }
+
+    @Test
+    void usernamePrefixes_UsePatternIndexForEveryPrefix() throws SQLException {
+        String plan = explain("SELECT username FROM users WHERE username LIKE 'user.50%' ESCAPE '\\' " +
+                "OR username LIKE 'user.7%' ESCAPE '\\'");
+
+        assertTrue(plan.contains("idx_users_username_prefix"), plan);
+        assertFalse(plan.contains("Seq Scan on users"), plan);
+    }
+
+    @Test
+    void traineeListing_UsesTraineeDateIndex() throws SQLException {
+        String plan = explain(TRAINEE_LISTING +
+                " AND t.training_date >= DATE '2021-01-01' AND t.training_date <= DATE '2022-01-01'");
+
+        assertTrue(plan.contains("idx_trainings_trainee_"), plan);
+        assertFalse(plan.contains("Seq Scan on trainings"), plan);
+    }
+
+    @Test
+    void traineeListingByType_UsesTraineeIndex() throws SQLException {
+        String plan = explain(TRAINEE_LISTING + " AND t.training_type_id = 2");
+
+        assertTrue(plan.contains("idx_trainings_trainee_"), plan);
+        assertFalse(plan.contains("Seq Scan on trainings"), plan);
+    }
+
+    @Test
+    void traineeKeysetPage_UsesTraineeDateIndex() throws SQLException {
+        String plan = explain("SELECT t.id, t.training_date FROM trainings t WHERE t.trainee_id = 42 " +
+                "AND (t.training_date > DATE '2021-01-01' OR (t.training_date = DATE '2021-01-01' AND t.id > 500)) " +
+                "ORDER BY t.training_date, t.id LIMIT 51");
+
+        assertTrue(plan.contains("idx_trainings_trainee_date"), plan);
+    }
+
+    @Test
+    void trainerListing_UsesTrainerDateIndex() throws SQLException {
+        String plan = explain("SELECT t.id, t.training_name, t.training_date, t.duration FROM trainings t " +
+                "WHERE t.trainer_id = 7 AND t.training_date >= DATE '2023-01-01'");
+
+        assertTrue(plan.contains("idx_trainings_trainer_date"), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgreSQLContainer.getJdbcUrl(),
+                postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+    }
+}
@@ -96,4 +96,27 @@ class UserDAOImplTest {
 
         assertThrows(DAOException.class, () -> userDAO.update(testUser));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findUsernamesStartingWith_MatchesAllPrefixesInOneQuery() {
+        TypedQuery<String> usernameQuery = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(String.class))).thenReturn(usernameQuery);
+        when(usernameQuery.getResultList()).thenReturn(List.of("John.Smith", "John.Smith1"));
+
+        List<String> result = userDAO.findUsernamesStartingWith(List.of("John.Smith", "Anna_Lee"));
+
+        assertEquals(List.of("John.Smith", "John.Smith1"), result);
+        verify(entityManager).createQuery(argThat((String jpql) ->
+                jpql.contains("u.username LIKE :prefix0") && jpql.contains(" OR u.username LIKE :prefix1")), eq(String.class));
+        verify(usernameQuery).setParameter("prefix0", "John.Smith%");
+        verify(usernameQuery).setParameter("prefix1", "Anna\\_Lee%");
+    }
+
+    @Test
+    void findUsernamesStartingWith_EmptyInput() {
+        assertTrue(userDAO.findUsernamesStartingWith(List.of()).isEmpty());
+
+        verifyNoInteractions(entityManager);
+    }
 }
@@ -0,0 +1,78 @@
+package com.company.gym.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import com.company.gym.dao.impl.WorkloadOutboxDAOImpl;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.exception.DAOException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadOutboxDAOImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @InjectMocks
+    private WorkloadOutboxDAOImpl workloadOutboxDAO;
+
+    @Test
+    void save_Success() {
+        WorkloadOutboxEvent event = new WorkloadOutboxEvent();
+
+        workloadOutboxDAO.save(event);
+
+        verify(entityManager).persist(event);
+    }
+
+    @Test
+    void save_Failure() {
+        WorkloadOutboxEvent event = new WorkloadOutboxEvent();
+        doThrow(new RuntimeException("db down")).when(entityManager).persist(event);
+
+        assertThrows(DAOException.class, () -> workloadOutboxDAO.save(event));
+    }
+
+    @Test
+    void lockNextBatch_SkipsLockedRows() {
+        List<WorkloadOutboxEvent> expected = List.of(new WorkloadOutboxEvent());
+        when(entityManager.createNativeQuery(anyString(), eq(WorkloadOutboxEvent.class))).thenReturn(query);
+        when(query.setParameter("batchSize", 50)).thenReturn(query);
+        when(query.getResultList()).thenReturn(expected);
+
+        List<WorkloadOutboxEvent> result = workloadOutboxDAO.lockNextBatch(50);
+
+        assertEquals(expected, result);
+        verify(entityManager).createNativeQuery(argThat((String sql) ->
+                sql.contains("ORDER BY id") && sql.endsWith("FOR UPDATE SKIP LOCKED")), eq(WorkloadOutboxEvent.class));
+    }
+
+    @Test
+    void deleteByIds_EmptyListSkipsQuery() {
+        assertEquals(0, workloadOutboxDAO.deleteByIds(List.of()));
+
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void deleteByIds_Success() {
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.setParameter("ids", List.of(1L, 2L))).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(2);
+
+        assertEquals(2, workloadOutboxDAO.deleteByIds(List.of(1L, 2L)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.company.gym.security;
+
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationCacheTest {
+
+    private AuthenticationCache authenticationCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new AuthenticationCache(100, 300, 100, 30);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return new User(username, "password", List.of());
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("getVerifiedToken should parse a token only once")
+    void getVerifiedToken_ParsesOnce() {
+        AtomicInteger parses = new AtomicInteger();
+        Function<String, VerifiedToken> parser = token -> {
+            parses.incrementAndGet();
+            return verifiedToken("john.doe");
+        };
+
+        assertEquals("john.doe", authenticationCache.getVerifiedToken("token", parser).getSubject());
+        assertEquals("john.doe", authenticationCache.getVerifiedToken("token", parser).getSubject());
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    @DisplayName("getVerifiedToken should not cache tokens that fail verification")
+    void getVerifiedToken_InvalidTokenNotCached() {
+        Function<String, VerifiedToken> parser = token -> {
+            throw new MalformedJwtException("bad token");
+        };
+
+        assertThrows(MalformedJwtException.class, () -> authenticationCache.getVerifiedToken("bad", parser));
+        assertEquals("john.doe", authenticationCache.getVerifiedToken("bad",
+                token -> verifiedToken("john.doe")).getSubject());
+    }
+
+    @Test
+    @DisplayName("getUserDetails should hit the loader only on a miss")
+    void getUserDetails_CachesLoadedUser() {
+        authenticationCache.getUserDetails("john.doe", loader);
+        authenticationCache.getUserDetails("john.doe", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("evictUserAfterCommit should evict immediately outside a transaction")
+    void evictUserAfterCommit_NoTransaction() {
+        authenticationCache.getUserDetails("john.doe", loader);
+
+        authenticationCache.evictUserAfterCommit("john.doe");
+        authenticationCache.getUserDetails("john.doe", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("evictUserAfterCommit should defer eviction until the transaction commits")
+    void evictUserAfterCommit_DeferredUntilCommit() {
+        authenticationCache.getUserDetails("john.doe", loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        authenticationCache.evictUserAfterCommit("john.doe");
+        authenticationCache.getUserDetails("john.doe", loader);
+        assertEquals(1, loads.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        authenticationCache.getUserDetails("john.doe", loader);
+        assertEquals(2, loads.get());
+    }
+
+    private static VerifiedToken verifiedToken(String subject) {
+        Instant now = Instant.now();
+        return new VerifiedToken(subject, now, now.plusSeconds(60));
+    }
+}
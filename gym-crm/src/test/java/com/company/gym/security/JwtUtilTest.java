@@ -0,0 +1,72 @@
+package com.company.gym.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "7c80c0b40bcb74fec6b69983882e89f38f40541491f190f3be2f63021b1e8249";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = createJwtUtil(3600000);
+        userDetails = new User("john.doe", "password", List.of());
+    }
+
+    @Test
+    @DisplayName("parseAndValidate should return the subject and expiration of an issued token")
+    void parseAndValidate_IssuedToken() {
+        VerifiedToken verifiedToken = jwtUtil.parseAndValidate(jwtUtil.generateToken(userDetails));
+
+        assertEquals("john.doe", verifiedToken.getSubject());
+        assertTrue(verifiedToken.getExpiresAt().isAfter(Instant.now()));
+        assertTrue(jwtUtil.validateToken(verifiedToken, userDetails));
+    }
+
+    @Test
+    @DisplayName("parseAndValidate should reject a token with a tampered signature")
+    void parseAndValidate_TamperedToken() {
+        String token = jwtUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseAndValidate(tampered));
+    }
+
+    @Test
+    @DisplayName("parseAndValidate should reject an expired token")
+    void parseAndValidate_ExpiredToken() {
+        String token = createJwtUtil(-1000).generateToken(userDetails);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseAndValidate(token));
+    }
+
+    @Test
+    @DisplayName("validateToken should reject a token issued for another user")
+    void validateToken_OtherUser() {
+        VerifiedToken verifiedToken = jwtUtil.parseAndValidate(jwtUtil.generateToken(userDetails));
+
+        assertFalse(jwtUtil.validateToken(verifiedToken, new User("jane.doe", "password", List.of())));
+    }
+
+    private static JwtUtil createJwtUtil(long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+}
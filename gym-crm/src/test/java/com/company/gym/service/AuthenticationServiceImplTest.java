@@ -17,7 +17,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -28,7 +27,7 @@ class AuthenticationServiceImplTest {
     private UserDAOImpl userDAO;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @InjectMocks
     private AuthenticationServiceImpl authenticationService;
@@ -52,7 +51,7 @@ class AuthenticationServiceImplTest {
     @DisplayName("Authenticate should succeed with valid credentials")
     void authenticate_success() {
         when(userDAO.findByUsername("john.doe")).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(validCredentials.getPassword(), testUser.getPassword())).thenReturn(true);
+        when(passwordHashingService.matches(validCredentials.getPassword(), testUser.getPassword())).thenReturn(true);
 
         assertDoesNotThrow(() -> authenticationService.authenticate(validCredentials));
         verify(userDAO, times(1)).findByUsername("john.doe");
@@ -0,0 +1,148 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TraineeDAO;
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.request.TraineeRegistrationRequest;
+import com.company.gym.dto.request.TrainerRegistrationRequest;
+import com.company.gym.dto.response.BulkRegistrationResult;
+import com.company.gym.entity.Trainee;
+import com.company.gym.entity.Trainer;
+import com.company.gym.entity.TrainingType;
+import com.company.gym.exception.DAOException;
+import com.company.gym.service.impl.BulkRegistrationServiceImpl;
+import com.company.gym.util.PasswordGenerator;
+import com.company.gym.util.UsernameGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRegistrationServiceImplTest {
+
+    @Mock
+    private TraineeDAO traineeDAO;
+    @Mock
+    private TrainerDAO trainerDAO;
+    @Mock
+    private TrainingTypeDAO trainingTypeDAO;
+    @Mock
+    private UsernameGenerator usernameGenerator;
+    @Mock
+    private PasswordGenerator passwordGenerator;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private UnassignedTrainerCache unassignedTrainerCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BulkRegistrationServiceImpl bulkRegistrationService;
+
+    @BeforeEach
+    void setUp() {
+        bulkRegistrationService.setTransactionManager(transactionManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRegistration(List<String> usernames) {
+        when(usernameGenerator.registerUsernames(eq(usernames), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(usernames));
+    }
+
+    @Test
+    void registerTrainees_SavesValidRowsAndReportsInvalidOnes() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        stubRegistration(List.of("John.Smith", "Anna.Lee"));
+        when(passwordGenerator.generatePassword()).thenReturn("pass1", "pass2");
+        when(passwordHashingService.encodeAll(List.of("pass1", "pass2"))).thenReturn(List.of("hash1", "hash2"));
+
+        List<BulkRegistrationResult> results = bulkRegistrationService.registerTrainees(
+                List.of(trainee("John", "Smith"), trainee("Bob", null), trainee("Anna", "Lee")), 11);
+
+        assertEquals(3, results.size());
+        assertEquals(11, results.get(0).getRow());
+        assertEquals("John.Smith", results.get(0).getUsername());
+        assertEquals("pass1", results.get(0).getPassword());
+        assertEquals(12, results.get(1).getRow());
+        assertEquals("FirstName and LastName must not be null", results.get(1).getError());
+        assertEquals("Anna.Lee", results.get(2).getUsername());
+
+        ArgumentCaptor<Trainee> captor = ArgumentCaptor.forClass(Trainee.class);
+        verify(traineeDAO, times(2)).save(captor.capture());
+        assertEquals("hash2", captor.getAllValues().get(1).getUser().getPassword());
+        assertTrue(captor.getAllValues().get(1).getUser().getIsActive());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void registerTrainees_AllRowsInvalid() {
+        List<BulkRegistrationResult> results = bulkRegistrationService.registerTrainees(
+                List.of(trainee(" ", "Smith")), 1);
+
+        assertEquals("FirstName and LastName must not be null", results.get(0).getError());
+        verifyNoInteractions(usernameGenerator, passwordHashingService, transactionManager, traineeDAO);
+    }
+
+    @Test
+    void registerTrainers_FailedInsertFailsTheChunk() {
+        TrainingType fitness = new TrainingType();
+        fitness.setId(1L);
+        when(trainingTypeDAO.findAll()).thenReturn(List.of(fitness));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        stubRegistration(List.of("John.Smith", "Anna.Lee"));
+        when(passwordGenerator.generatePassword()).thenReturn("pass1", "pass2");
+        when(passwordHashingService.encodeAll(any())).thenReturn(List.of("hash1", "hash2"));
+        doNothing().doThrow(new DAOException("Error saving Trainer", new RuntimeException())).when(trainerDAO).save(any(Trainer.class));
+
+        List<BulkRegistrationResult> results = bulkRegistrationService.registerTrainers(
+                List.of(trainer("John", "Smith", 1L), trainer("Bob", "Brown", 9L), trainer("Anna", "Lee", 1L)), 1);
+
+        assertEquals("Registration failed, no profile of this chunk was saved", results.get(0).getError());
+        assertEquals("Invalid training type", results.get(1).getError());
+        assertEquals("Registration failed, no profile of this chunk was saved", results.get(2).getError());
+        assertNull(results.get(0).getPassword());
+        verify(transactionManager).rollback(any());
+        verify(unassignedTrainerCache).evictAllAfterCommit();
+    }
+
+    @Test
+    void registerTrainers_MissingSpecialization() {
+        when(trainingTypeDAO.findAll()).thenReturn(List.of());
+
+        List<BulkRegistrationResult> results = bulkRegistrationService.registerTrainers(
+                List.of(trainer("John", "Smith", null)), 1);
+
+        assertEquals("Specialization id cannot be null", results.get(0).getError());
+        verifyNoInteractions(trainerDAO);
+    }
+
+    private static TraineeRegistrationRequest trainee(String firstName, String lastName) {
+        TraineeRegistrationRequest request = new TraineeRegistrationRequest();
+        request.setFirstName(firstName);
+        request.setLastName(lastName);
+        return request;
+    }
+
+    private static TrainerRegistrationRequest trainer(String firstName, String lastName, Long specializationId) {
+        TrainerRegistrationRequest request = new TrainerRegistrationRequest();
+        request.setFirstName(firstName);
+        request.setLastName(lastName);
+        request.setSpecializationId(specializationId);
+        return request;
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.WorkloadOutboxDAO;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.ActionType;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.service.impl.OutboxWorkloadEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWorkloadEventPublisherTest {
+
+    @Mock
+    private WorkloadOutboxDAO workloadOutboxDAO;
+
+    @InjectMocks
+    private OutboxWorkloadEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void publish_StoresEventWithTransactionId() {
+        MDC.put("transactionId", "tx-1");
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        request.setEventId("event-1");
+        request.setTrainerUsername("jane.trainer");
+        request.setTrainerFirstName("Jane");
+        request.setTrainerLastName("Trainer");
+        request.setActive(true);
+        request.setTrainingDate(LocalDate.of(2024, 3, 15));
+        request.setTrainingDuration(45);
+        request.setActionType(ActionType.ADD);
+
+        publisher.publish(request);
+
+        ArgumentCaptor<WorkloadOutboxEvent> captor = ArgumentCaptor.forClass(WorkloadOutboxEvent.class);
+        verify(workloadOutboxDAO).save(captor.capture());
+        WorkloadOutboxEvent event = captor.getValue();
+        assertEquals("event-1", event.getEventId());
+        assertEquals("jane.trainer", event.getTrainerUsername());
+        assertEquals("Jane", event.getTrainerFirstName());
+        assertTrue(event.isTrainerActive());
+        assertEquals(LocalDate.of(2024, 3, 15), event.getTrainingDate());
+        assertEquals(45, event.getTrainingDuration());
+        assertEquals(ActionType.ADD, event.getActionType());
+        assertEquals("tx-1", event.getTransactionId());
+        assertNotNull(event.getCreatedAt());
+    }
+}
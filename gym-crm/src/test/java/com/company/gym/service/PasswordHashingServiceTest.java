@@ -0,0 +1,129 @@
+package com.company.gym.service;
+
+import com.company.gym.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private MeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private CountDownLatch bulkRelease;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(0);
+        bulkRelease = new CountDownLatch(0);
+        PasswordEncoder encoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await(rawPassword.toString().startsWith("bulk") ? bulkRelease : release);
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+        passwordHashingService = new PasswordHashingService(encoder, 3, 0, 10, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Test
+    void encodeAndMatches_RunOnHashingThreads() {
+        assertEquals("hash:secret", passwordHashingService.encode("secret"));
+        assertTrue(passwordHashingService.matches("secret", "hash:secret"));
+        assertFalse(passwordHashingService.matches("other", "hash:secret"));
+    }
+
+    @Test
+    void encodeAll_KeepsOrder() {
+        List<String> passwords = IntStream.range(0, 50).mapToObj(i -> "password" + i).toList();
+
+        List<String> hashes = passwordHashingService.encodeAll(passwords);
+
+        assertEquals(passwords.stream().map(p -> "hash:" + p).toList(), hashes);
+    }
+
+    @Test
+    void encodeAll_EmptyList() {
+        assertTrue(passwordHashingService.encodeAll(List.of()).isEmpty());
+    }
+
+    @Test
+    void matches_CompletesWhileEncodeAllIsRunning() throws Exception {
+        bulkRelease = new CountDownLatch(1);
+        List<String> passwords = IntStream.range(0, 500).mapToObj(i -> "bulk" + i).toList();
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() -> passwordHashingService.encodeAll(passwords));
+        try {
+            waitForGauge("password.hashing.bulk.active", 1);
+
+            CompletableFuture<Boolean> login = CompletableFuture.supplyAsync(() -> passwordHashingService.matches("secret", "hash:secret"));
+            assertTrue(login.get(1, TimeUnit.SECONDS));
+            assertFalse(bulk.isDone());
+        } finally {
+            bulkRelease.countDown();
+        }
+        assertEquals(500, bulk.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void encode_RejectedWhenQueueIsFull() throws Exception {
+        release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(13);
+        try {
+            List<CompletableFuture<String>> pending = IntStream.range(0, 13)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> passwordHashingService.encode("password" + i), callers))
+                    .toList();
+            waitForGauge("password.hashing.active", 3);
+            waitForGauge("password.hashing.queue.size", 10);
+
+            assertThrows(TooManyRequestsException.class, () -> passwordHashingService.encode("one-too-many"));
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+            release.countDown();
+            for (CompletableFuture<String> future : pending) {
+                assertTrue(future.get(5, TimeUnit.SECONDS).startsWith("hash:"));
+            }
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    private void waitForGauge(String name, double value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() < value) {
+            assertTrue(System.nanoTime() < deadline, name + " did not reach " + value);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
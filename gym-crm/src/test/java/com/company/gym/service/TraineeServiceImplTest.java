@@ -3,8 +3,11 @@ package com.company.gym.service;
 import com.company.gym.dao.impl.TraineeDAOImpl;
 import com.company.gym.dao.impl.TrainerDAOImpl;
 import com.company.gym.dao.impl.TrainingDAOImpl;
+import com.company.gym.dto.request.UpdateTraineeTrainersRequest;
 import com.company.gym.dto.response.UserCredentialsResponse;
 import com.company.gym.entity.*;
+import com.company.gym.exception.EntityNotFoundException;
+import com.company.gym.security.AuthenticationCache;
 import com.company.gym.service.impl.AuthenticationServiceImpl;
 import com.company.gym.service.impl.TraineeServiceImpl;
 import com.company.gym.util.PasswordGenerator;
@@ -15,9 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 
 import java.util.*;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,13 +38,21 @@ class TraineeServiceImplTest {
     @Mock
     private UsernameGenerator usernameGenerator;
     @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
     private PasswordGenerator passwordGenerator;
     @Mock
     private AuthenticationServiceImpl authenticationService;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     @Mock
     private TrainingDAOImpl trainingDAO;
+    @Mock
+    private AuthenticationCache authenticationCache;
+    @Mock
+    private TrainingService trainingService;
+    @Mock
+    private UnassignedTrainerCache unassignedTrainerCache;
 
     @InjectMocks
     private TraineeServiceImpl traineeService;
@@ -49,6 +62,7 @@ class TraineeServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        traineeService.setTransactionManager(transactionManager);
         User testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("test.user");
@@ -64,11 +78,18 @@ class TraineeServiceImplTest {
         validCredentials = new Credentials("test.user", "oldPassword");
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubRegistration(String username) {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(usernameGenerator.registerUsername(eq("John"), eq("Smith"), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2, Function.class).apply(username));
+    }
+
     @Test
     void createTraineeProfile_Success() {
-        when(usernameGenerator.generateUsername("John", "Smith")).thenReturn("John.Smith");
+        stubRegistration("John.Smith");
         when(passwordGenerator.generatePassword()).thenReturn("generatedPassword");
-        when(passwordEncoder.encode(any(String.class))).thenReturn("generatedPassword");
+        when(passwordHashingService.encode(any(String.class))).thenReturn("generatedPassword");
 
         UserCredentialsResponse result = traineeService.createTraineeProfile("John", "Smith", new Date(), "123 Main St");
 
@@ -88,13 +109,32 @@ class TraineeServiceImplTest {
 
     @Test
     void changePassword_Success() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
         when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
-        when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
+        when(passwordHashingService.encode("newPassword")).thenReturn("encodedNewPassword");
 
         traineeService.changePassword("test.user", "oldPassword", "newPassword");
 
-        assertEquals("encodedNewPassword", testTrainee.getUser().getPassword());
-        verify(traineeDAO).update(testTrainee);
+        verify(traineeDAO).changePassword(testTrainee.getId(), "encodedNewPassword");
+        verify(authenticationCache).evictUserAfterCommit("test.user");
+    }
+
+    @Test
+    void changePassword_HashesBetweenTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
+        when(passwordHashingService.encode("newPassword")).thenReturn("encodedNewPassword");
+
+        traineeService.changePassword("test.user", "oldPassword", "newPassword");
+
+        var inOrder = inOrder(transactionManager, traineeDAO, passwordHashingService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(traineeDAO).findByUsername("test.user");
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(passwordHashingService).encode("newPassword");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(traineeDAO).changePassword(testTrainee.getId(), "encodedNewPassword");
+        inOrder.verify(transactionManager).commit(any());
     }
 
     @Test
@@ -110,6 +150,16 @@ class TraineeServiceImplTest {
         verify(traineeDAO).update(testTrainee);
     }
 
+    @Test
+    void getProfileByUsername_UsesProfileQuery() {
+        when(traineeDAO.findProfileByUsername("test.user")).thenReturn(Optional.of(testTrainee));
+
+        Optional<Trainee> result = traineeService.getProfileByUsername("test.user");
+
+        assertTrue(result.isPresent());
+        verify(traineeDAO, never()).findByUsername(anyString());
+    }
+
     @Test
     void updateStatus_Success() {
         when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
@@ -119,6 +169,8 @@ class TraineeServiceImplTest {
 
         traineeService.updateStatus(validCredentials);
         assertTrue(testTrainee.getUser().getIsActive());
+
+        verify(authenticationCache, times(2)).evictUserAfterCommit("test.user");
     }
 
     @Test
@@ -127,7 +179,10 @@ class TraineeServiceImplTest {
 
         traineeService.deleteTraineeProfile(validCredentials);
 
+        verify(trainingService).cancelTraineeTrainings(testTrainee);
+        verify(trainingDAO, never()).findTrainingsByTraineeAndCriteria(any(), any(), any(), any(), any());
         verify(traineeDAO).delete(1L);
+        verify(authenticationCache).evictUserAfterCommit("test.user");
     }
 
     @Test
@@ -138,4 +193,71 @@ class TraineeServiceImplTest {
         assertTrue(result.isPresent());
         assertEquals(testTrainee, result.get());
     }
+
+    @Test
+    void updateTrainingTrainers_LoadsTrainingsAndTrainersInBatch() {
+        Trainer trainer = trainer(7L, "jane.trainer");
+        Training first = training(10L, testTrainee);
+        Training second = training(11L, testTrainee);
+        when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
+        when(trainingDAO.findByIds(Set.of(10L, 11L))).thenReturn(List.of(first, second));
+        when(trainerDAO.findByUsernames(Set.of("jane.trainer"))).thenReturn(List.of(trainer));
+        when(trainerDAO.findTrainersAssignedToTrainee(1L)).thenReturn(List.of(trainer));
+
+        List<Trainer> result = traineeService.updateTrainingTrainers(validCredentials,
+                List.of(update(10L, "jane.trainer"), update(11L, "jane.trainer")));
+
+        assertEquals(List.of(trainer), result);
+        assertEquals(trainer, first.getTrainer());
+        assertEquals(trainer, second.getTrainer());
+        verify(trainingDAO, never()).findById(any());
+        verify(trainingDAO, never()).update(any());
+        verify(trainerDAO, never()).findByUsername(any());
+    }
+
+    @Test
+    void updateTrainingTrainers_TrainingOfAnotherTrainee() {
+        Trainee otherTrainee = new Trainee();
+        otherTrainee.setId(2L);
+        when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
+        when(trainingDAO.findByIds(Set.of(10L))).thenReturn(List.of(training(10L, otherTrainee)));
+        when(trainerDAO.findByUsernames(Set.of("jane.trainer"))).thenReturn(List.of(trainer(7L, "jane.trainer")));
+
+        assertThrows(SecurityException.class, () -> traineeService.updateTrainingTrainers(validCredentials,
+                List.of(update(10L, "jane.trainer"))));
+        verify(trainerDAO, never()).findTrainersAssignedToTrainee(any());
+    }
+
+    @Test
+    void updateTrainingTrainers_UnknownTraining() {
+        when(traineeDAO.findByUsername("test.user")).thenReturn(Optional.of(testTrainee));
+        when(trainingDAO.findByIds(Set.of(10L))).thenReturn(List.of());
+        when(trainerDAO.findByUsernames(Set.of("jane.trainer"))).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> traineeService.updateTrainingTrainers(validCredentials, List.of(update(10L, "jane.trainer"))));
+    }
+
+    private static Training training(Long id, Trainee trainee) {
+        Training training = new Training();
+        training.setId(id);
+        training.setTrainee(trainee);
+        return training;
+    }
+
+    private static Trainer trainer(Long id, String username) {
+        User user = new User();
+        user.setUsername(username);
+        Trainer trainer = new Trainer();
+        trainer.setId(id);
+        trainer.setUser(user);
+        return trainer;
+    }
+
+    private static UpdateTraineeTrainersRequest.TrainingTrainerUpdate update(Long trainingId, String trainerUsername) {
+        UpdateTraineeTrainersRequest.TrainingTrainerUpdate update = new UpdateTraineeTrainersRequest.TrainingTrainerUpdate();
+        update.setTrainingId(trainingId);
+        update.setTrainerUsername(trainerUsername);
+        return update;
+    }
 }
@@ -4,12 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.*;
+import java.util.function.Function;
 
 import com.company.gym.dao.TraineeDAO;
 import com.company.gym.dao.TrainerDAO;
 import com.company.gym.dao.TrainingTypeDAO;
+import com.company.gym.dto.response.UnassignedTrainerResponse;
 import com.company.gym.dto.response.UserCredentialsResponse;
 import com.company.gym.entity.*;
+import com.company.gym.security.AuthenticationCache;
 import com.company.gym.service.impl.AuthenticationServiceImpl;
 import com.company.gym.service.impl.TrainerServiceImpl;
 import com.company.gym.util.PasswordGenerator;
@@ -21,7 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 
 @ExtendWith(MockitoExtension.class)
 class TrainerServiceImplTest {
@@ -35,11 +39,17 @@ class TrainerServiceImplTest {
     @Mock
     private UsernameGenerator usernameGenerator;
     @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
     private PasswordGenerator passwordGenerator;
     @Mock
     private AuthenticationServiceImpl authenticationService;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private AuthenticationCache authenticationCache;
+    @Mock
+    private UnassignedTrainerCache unassignedTrainerCache;
 
     @InjectMocks
     private TrainerServiceImpl trainerService;
@@ -50,6 +60,7 @@ class TrainerServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        trainerService.setTransactionManager(transactionManager);
         User testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("test.trainer");
@@ -68,9 +79,16 @@ class TrainerServiceImplTest {
         validCredentials = new Credentials("test.trainer", "oldPassword");
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubRegistration(String username) {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(usernameGenerator.registerUsername(eq("John"), eq("Smith"), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2, Function.class).apply(username));
+    }
+
     @Test
     void createTrainerProfile_Success() {
-        when(usernameGenerator.generateUsername("John", "Smith")).thenReturn("John.Smith");
+        stubRegistration("John.Smith");
         when(passwordGenerator.generatePassword()).thenReturn("generatedPassword");
         when(trainingTypeDAO.findById(1L)).thenReturn(Optional.of(testTrainingType));
 
@@ -100,21 +118,44 @@ class TrainerServiceImplTest {
 
     @Test
     void changePassword_Success() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
         when(trainerDAO.findByUsername("test.trainer")).thenReturn(Optional.of(testTrainer));
-        when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
+        when(passwordHashingService.encode("newPassword")).thenReturn("encodedNewPassword");
 
         trainerService.changePassword("test.trainer", "oldPassword", "newPassword");
 
-        assertEquals("encodedNewPassword", testTrainer.getUser().getPassword());
-        verify(trainerDAO).update(testTrainer);
+        verify(trainerDAO).changePassword(testTrainer.getId(), "encodedNewPassword");
+        verify(authenticationCache).evictUserAfterCommit("test.trainer");
+    }
+
+    @Test
+    void changePassword_HashesBetweenTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(trainerDAO.findByUsername("test.trainer")).thenReturn(Optional.of(testTrainer));
+        when(passwordHashingService.encode("newPassword")).thenReturn("encodedNewPassword");
+
+        trainerService.changePassword("test.trainer", "oldPassword", "newPassword");
+
+        var inOrder = inOrder(transactionManager, trainerDAO, passwordHashingService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(trainerDAO).findByUsername("test.trainer");
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(passwordHashingService).encode("newPassword");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(trainerDAO).changePassword(testTrainer.getId(), "encodedNewPassword");
+        inOrder.verify(transactionManager).commit(any());
     }
 
     @Test
     void changePassword_TrainerNotFound() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
         when(trainerDAO.findByUsername("test.trainer")).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
                 () -> trainerService.changePassword("test.trainer", "oldPassword", "newPassword"));
+
+        verify(passwordHashingService, never()).encode(any());
+        verify(authenticationCache, never()).evictUserAfterCommit(any());
     }
 
     void updateTrainerProfile_Success() {
@@ -129,6 +170,7 @@ class TrainerServiceImplTest {
 
         assertEquals(newTrainingType, result.getSpecialization());
         verify(trainerDAO).update(testTrainer);
+        verify(unassignedTrainerCache).evictAllAfterCommit();
     }
 
     @Test
@@ -153,6 +195,7 @@ class TrainerServiceImplTest {
         assertTrue(testTrainer.getUser().getIsActive());
 
         verify(trainerDAO, times(2)).update(testTrainer);
+        verify(authenticationCache, times(2)).evictUserAfterCommit("test.trainer");
     }
 
     @Test
@@ -189,6 +232,24 @@ class TrainerServiceImplTest {
                 () -> trainerService.getUnassignedTrainers("test.trainee"));
     }
 
+    @Test
+    void getUnassignedTrainerViews_LoadsProjectionThroughCache() {
+        Trainee testTrainee = new Trainee();
+        testTrainee.setId(1L);
+        UnassignedTrainerResponse view = new UnassignedTrainerResponse("test.trainer", "Test", "Trainer", "Yoga");
+
+        when(unassignedTrainerCache.get(eq("test.trainee"), any()))
+                .thenAnswer(invocation -> invocation.<Function<String, List<UnassignedTrainerResponse>>>getArgument(1)
+                        .apply("test.trainee"));
+        when(traineeDAO.findByUsername("test.trainee")).thenReturn(Optional.of(testTrainee));
+        when(trainerDAO.findUnassignedTrainerViews(1L)).thenReturn(List.of(view));
+
+        List<UnassignedTrainerResponse> result = trainerService.getUnassignedTrainerViews("test.trainee");
+
+        assertEquals(List.of(view), result);
+        verify(trainerDAO, never()).findTrainersNotAssignedToTrainee(any());
+    }
+
     @Test
     void getTrainerProfileById_Success() {
         when(trainerDAO.findById(1L)).thenReturn(Optional.of(testTrainer));
@@ -1,6 +1,10 @@
 package com.company.gym.service;
 
 import com.company.gym.dao.*;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.dto.response.TraineeTrainingResponse;
+import com.company.gym.dto.response.TrainerTrainingResponse;
 import com.company.gym.entity.*;
 import com.company.gym.service.impl.AuthenticationServiceImpl;
 import com.company.gym.service.impl.TrainingServiceImpl;
@@ -8,12 +12,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.jms.core.JmsTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -34,7 +39,9 @@ class TrainingServiceImplTest {
     private TrainingTypeDAO trainingTypeDAO;
 
     @Mock
-    private JmsTemplate jmsTemplate;
+    private WorkloadEventPublisher workloadEventPublisher;
+    @Mock
+    private UnassignedTrainerCache unassignedTrainerCache;
 
     @Mock
     private AuthenticationServiceImpl authenticationService;
@@ -97,6 +104,36 @@ class TrainingServiceImplTest {
         assertNotNull(result);
         assertEquals(testTrainee, result.getTrainee());
         verify(trainingDAO).save(any(Training.class));
+        verify(unassignedTrainerCache).evictTraineeAfterCommit("test.trainee");
+        verify(workloadEventPublisher).publish(argThat((TrainerWorkloadRequest request) ->
+                request.getTrainerUsername().equals("test.trainer") &&
+                        request.getActionType() == ActionType.ADD &&
+                        request.getTrainingDuration() == 60));
+    }
+
+    @Test
+    void cancelTraineeTrainings_GivesEachEventUniqueId() {
+        when(trainingDAO.findMonthlyWorkloadByTrainee(1L)).thenReturn(List.of(
+                new TrainerMonthlyWorkload("test.trainer", "Test", "Trainer", true, 2024, 3, 150),
+                new TrainerMonthlyWorkload("test.trainer", "Test", "Trainer", true, 2024, 4, 45)));
+
+        trainingService.cancelTraineeTrainings(testTrainee);
+
+        ArgumentCaptor<TrainerWorkloadRequest> captor = ArgumentCaptor.forClass(TrainerWorkloadRequest.class);
+        verify(workloadEventPublisher, times(2)).publish(captor.capture());
+        assertNotNull(captor.getAllValues().get(0).getEventId());
+        assertNotEquals(captor.getAllValues().get(0).getEventId(), captor.getAllValues().get(1).getEventId());
+    }
+
+    @Test
+    void cancelTraining_PublishesDeleteEvent() {
+        when(trainingDAO.findById(1L)).thenReturn(Optional.of(testTraining));
+
+        trainingService.cancelTraining("test.trainee", 1L);
+
+        verify(workloadEventPublisher).publish(argThat((TrainerWorkloadRequest request) ->
+                request.getActionType() == ActionType.DELETE &&
+                        request.getTrainingDate().equals(testTraining.getTrainingDate())));
     }
 
     @Test
@@ -119,6 +156,35 @@ class TrainingServiceImplTest {
         verify(trainingDAO, never()).save(any());
     }
 
+    @Test
+    void cancelTraineeTrainings_PublishesOneEventPerTrainerMonth() {
+        when(trainingDAO.findMonthlyWorkloadByTrainee(1L)).thenReturn(List.of(
+                new TrainerMonthlyWorkload("test.trainer", "Test", "Trainer", true, 2024, 3, 150),
+                new TrainerMonthlyWorkload("other.trainer", "Other", "Trainer", false, 2024, 4, 45)));
+        when(trainingDAO.deleteByTraineeId(1L)).thenReturn(5);
+
+        int cancelled = trainingService.cancelTraineeTrainings(testTrainee);
+
+        assertEquals(5, cancelled);
+        verify(workloadEventPublisher, times(2)).publish(any());
+        verify(workloadEventPublisher).publish(argThat((TrainerWorkloadRequest request) ->
+                request.getTrainerUsername().equals("test.trainer") &&
+                        request.getTrainingDate().equals(LocalDate.of(2024, 3, 1)) &&
+                        request.getTrainingDuration() == 150 &&
+                        request.getActionType() == ActionType.DELETE));
+        verify(trainingDAO, never()).findById(any());
+    }
+
+    @Test
+    void cancelTraineeTrainings_NoTrainings() {
+        when(trainingDAO.findMonthlyWorkloadByTrainee(1L)).thenReturn(List.of());
+
+        assertEquals(0, trainingService.cancelTraineeTrainings(testTrainee));
+
+        verify(workloadEventPublisher, never()).publish(any());
+        verify(trainingDAO).deleteByTraineeId(1L);
+    }
+
     @Test
     void getTraineeTrainings_Success() {
         LocalDate fromDate = LocalDate.now();
@@ -149,6 +215,43 @@ class TrainingServiceImplTest {
         verify(trainerDAO).findByUsername("test.trainer");
     }
 
+    @Test
+    void getTraineeTrainingViews_Success() {
+        LocalDate fromDate = LocalDate.now();
+        LocalDate toDate = LocalDate.now();
+        TraineeTrainingResponse view = new TraineeTrainingResponse(1L, "Session", fromDate, "Yoga", 60, "Test Trainer");
+        when(traineeDAO.findByUsername("test.trainee")).thenReturn(Optional.of(testTrainee));
+        when(trainingDAO.findTraineeTrainingViews(1L, fromDate, toDate, "test.trainer", 1L))
+                .thenReturn(List.of(view));
+
+        List<TraineeTrainingResponse> result = trainingService.getTraineeTrainingViews(
+                traineeCredentials, fromDate, toDate, "test.trainer", 1L);
+
+        assertEquals(List.of(view), result);
+        verify(trainingDAO, never()).findTrainingsByTraineeAndCriteria(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getTrainerTrainingViews_Success() {
+        LocalDate fromDate = LocalDate.now();
+        TrainerTrainingResponse view = new TrainerTrainingResponse(1L, "Session", fromDate, "Yoga", 60, "Test Trainee");
+        when(trainerDAO.findByUsername("test.trainer")).thenReturn(Optional.of(testTrainer));
+        when(trainingDAO.findTrainerTrainingViews(1L, fromDate, null, null)).thenReturn(List.of(view));
+
+        List<TrainerTrainingResponse> result = trainingService.getTrainerTrainingViews(
+                trainerCredentials, fromDate, null, null);
+
+        assertEquals(List.of(view), result);
+    }
+
+    @Test
+    void getTraineeTrainingViews_TraineeNotFound() {
+        when(traineeDAO.findByUsername("test.trainee")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () ->
+                trainingService.getTraineeTrainingViews(traineeCredentials, null, null, null, null));
+    }
+
     @Test
     void getTrainingById_Success() {
         when(trainingDAO.findById(1L)).thenReturn(Optional.of(testTraining));
@@ -158,4 +261,26 @@ class TrainingServiceImplTest {
         assertTrue(result.isPresent());
         assertEquals(testTraining, result.get());
     }
+
+    @Test
+    void getTraineeTrainingsPage_Success() {
+        LocalDate afterDate = LocalDate.of(2024, 1, 10);
+        when(traineeDAO.findByUsername("test.trainee")).thenReturn(Optional.of(testTrainee));
+        when(trainingDAO.findTraineeTrainingsPage(1L, null, null, null, null, afterDate, 5L, 21))
+                .thenReturn(List.of(new TraineeTrainingResponse(2L, "Session", afterDate, "Yoga", 60, "Test Trainer")));
+
+        List<TraineeTrainingResponse> result = trainingService.getTraineeTrainingsPage(
+                traineeCredentials, null, null, null, null, afterDate, 5L, 21);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void getTraineeTrainingsPage_IncompleteCursor() {
+        assertThrows(IllegalArgumentException.class, () ->
+                trainingService.getTraineeTrainingsPage(
+                        traineeCredentials, null, null, null, null, LocalDate.now(), null, 20));
+
+        verify(trainingDAO, never()).findTraineeTrainingsPage(any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
 }
@@ -0,0 +1,78 @@
+package com.company.gym.service;
+
+import com.company.gym.dto.response.UnassignedTrainerResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnassignedTrainerCacheTest {
+
+    private UnassignedTrainerCache cache;
+    private AtomicInteger loads;
+    private Function<String, List<UnassignedTrainerResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnassignedTrainerCache(100, 300);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return List.of(new UnassignedTrainerResponse("jane.trainer", "Jane", "Trainer", "Yoga"));
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("get should load the trainers of a trainee only once")
+    void get_LoadsOnce() {
+        cache.get("john.doe", loader);
+        cache.get("john.doe", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("evictTraineeAfterCommit should keep the entry until the transaction commits")
+    void evictTraineeAfterCommit_EvictsOnCommit() {
+        cache.get("john.doe", loader);
+        cache.get("jane.doe", loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictTraineeAfterCommit("john.doe");
+        cache.get("john.doe", loader);
+        assertEquals(2, loads.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get("john.doe", loader);
+        cache.get("jane.doe", loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("evictAllAfterCommit should evict immediately outside a transaction")
+    void evictAllAfterCommit_WithoutTransaction() {
+        cache.get("john.doe", loader);
+        cache.get("jane.doe", loader);
+
+        cache.evictAllAfterCommit();
+        cache.get("john.doe", loader);
+        cache.get("jane.doe", loader);
+
+        assertEquals(4, loads.get());
+    }
+}
@@ -0,0 +1,141 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.WorkloadOutboxDAO;
+import com.company.gym.dto.request.TrainerWorkloadRequest;
+import com.company.gym.entity.ActionType;
+import com.company.gym.entity.WorkloadOutboxEvent;
+import com.company.gym.exception.ServiceException;
+import com.company.gym.service.impl.WorkloadOutboxDispatcher;
+import jakarta.jms.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadOutboxDispatcherTest {
+
+    private static final String QUEUE = "trainer.workload.queue";
+
+    @Mock
+    private WorkloadOutboxDAO workloadOutboxDAO;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageConverter messageConverter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Session session;
+    @Mock
+    private Queue queue;
+    @Mock
+    private MessageProducer producer;
+    @Mock
+    private TextMessage message;
+
+    @InjectMocks
+    private WorkloadOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.setTransactionManager(transactionManager);
+        ReflectionTestUtils.setField(dispatcher, "trainerWorkloadQueue", QUEUE);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+    }
+
+    @Test
+    void dispatchPending_SendsBatchInOneJmsTransactionAndDeletesRows() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(workloadOutboxDAO.lockNextBatch(2)).thenReturn(List.of(event(1L, "tx-1")));
+        stubSession();
+
+        dispatcher.dispatchPending();
+
+        verify(session).commit();
+        verify(producer).send(message);
+        verify(message).setStringProperty("X-Transaction-ID", "tx-1");
+        verify(message).setStringProperty("JMSXGroupID", "jane.trainer");
+        verify(messageConverter).toMessage(argThat(payload ->
+                ((TrainerWorkloadRequest) payload).getTrainerUsername().equals("jane.trainer")
+                        && "event-1".equals(((TrainerWorkloadRequest) payload).getEventId())), eq(session));
+        verify(workloadOutboxDAO).deleteByIds(List.of(1L));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void dispatchPending_DrainsUntilPartialBatch() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(workloadOutboxDAO.lockNextBatch(2))
+                .thenReturn(List.of(event(1L, null), event(2L, null)))
+                .thenReturn(List.of(event(3L, null)));
+        stubSession();
+
+        dispatcher.dispatchPending();
+
+        verify(workloadOutboxDAO, times(2)).lockNextBatch(2);
+        verify(session, times(2)).commit();
+        verify(producer, times(3)).send(message);
+        verify(message, never()).setStringProperty(eq("X-Transaction-ID"), any());
+    }
+
+    @Test
+    void dispatchBatch_EmptyOutboxDoesNotTouchBroker() {
+        when(workloadOutboxDAO.lockNextBatch(2)).thenReturn(List.of());
+
+        assertEquals(0, ReflectionTestUtils.<Integer>invokeMethod(dispatcher, "dispatchBatch"));
+
+        verifyNoInteractions(connectionFactory);
+        verify(workloadOutboxDAO, never()).deleteByIds(any());
+    }
+
+    @Test
+    void dispatchBatch_BrokerFailureKeepsRows() throws Exception {
+        when(workloadOutboxDAO.lockNextBatch(2)).thenReturn(List.of(event(1L, null)));
+        when(connectionFactory.createConnection()).thenThrow(new JMSException("broker down"));
+
+        assertThrows(ServiceException.class, () -> ReflectionTestUtils.invokeMethod(dispatcher, "dispatchBatch"));
+
+        verify(workloadOutboxDAO, never()).deleteByIds(any());
+    }
+
+    private void stubSession() throws JMSException {
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(producer);
+        when(messageConverter.toMessage(any(), eq(session))).thenReturn(message);
+    }
+
+    private static WorkloadOutboxEvent event(Long id, String transactionId) {
+        WorkloadOutboxEvent event = new WorkloadOutboxEvent();
+        event.setId(id);
+        event.setEventId("event-" + id);
+        event.setTrainerUsername("jane.trainer");
+        event.setTrainerFirstName("Jane");
+        event.setTrainerLastName("Trainer");
+        event.setTrainerActive(true);
+        event.setTrainingDate(LocalDate.of(2024, 3, 15));
+        event.setTrainingDuration(60);
+        event.setActionType(ActionType.ADD);
+        event.setTransactionId(transactionId);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+}
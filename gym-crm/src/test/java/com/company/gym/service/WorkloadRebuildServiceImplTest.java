@@ -0,0 +1,202 @@
+package com.company.gym.service;
+
+import com.company.gym.dao.TrainerDAO;
+import com.company.gym.dao.TrainingDAO;
+import com.company.gym.dao.WorkloadRebuildDAO;
+import com.company.gym.dto.projection.TrainerMonthlyWorkload;
+import com.company.gym.dto.request.TrainerWorkloadRebuildChunk;
+import com.company.gym.dto.request.TrainerWorkloadSnapshot;
+import com.company.gym.entity.RebuildStatus;
+import com.company.gym.entity.WorkloadRebuild;
+import com.company.gym.exception.ServiceException;
+import com.company.gym.service.impl.WorkloadRebuildServiceImpl;
+import jakarta.jms.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadRebuildServiceImplTest {
+
+    private static final String QUEUE = "trainer.workload.rebuild.queue";
+
+    @Mock
+    private WorkloadRebuildDAO workloadRebuildDAO;
+    @Mock
+    private TrainerDAO trainerDAO;
+    @Mock
+    private TrainingDAO trainingDAO;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageConverter messageConverter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Session session;
+    @Mock
+    private Queue queue;
+    @Mock
+    private MessageProducer producer;
+    @Mock
+    private TextMessage message;
+
+    @InjectMocks
+    private WorkloadRebuildServiceImpl rebuildService;
+
+    @BeforeEach
+    void setUp() {
+        rebuildService.setTransactionManager(transactionManager);
+        ReflectionTestUtils.setField(rebuildService, "rebuildQueue", QUEUE);
+        ReflectionTestUtils.setField(rebuildService, "chunkSize", 2);
+        ReflectionTestUtils.setField(rebuildService, "chunksPerPoll", 10);
+    }
+
+    @Test
+    void startRebuild_ReturnsRunningRebuild() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        WorkloadRebuild running = rebuild("jane.smith");
+        when(workloadRebuildDAO.findLatest()).thenReturn(Optional.of(running));
+
+        assertSame(running, rebuildService.startRebuild());
+        verify(workloadRebuildDAO, never()).save(any());
+    }
+
+    @Test
+    void startRebuild_CreatesNewRebuildFromFirstTrainer() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        WorkloadRebuild completed = rebuild("john.doe");
+        completed.setStatus(RebuildStatus.COMPLETED);
+        when(workloadRebuildDAO.findLatest()).thenReturn(Optional.of(completed));
+
+        WorkloadRebuild started = rebuildService.startRebuild();
+
+        verify(workloadRebuildDAO).save(started);
+        assertEquals(RebuildStatus.RUNNING, started.getStatus());
+        assertNull(started.getLastTrainerUsername());
+    }
+
+    @Test
+    void resumeRunning_SendsChunksFromCheckpointUntilCompleted() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        WorkloadRebuild rebuild = rebuild("jane.smith");
+        when(workloadRebuildDAO.lockRunning()).thenReturn(Optional.of(rebuild));
+        when(trainerDAO.findUsernamesAfter("jane.smith", 2)).thenReturn(List.of("john.doe", "mary.major"));
+        when(trainerDAO.findUsernamesAfter("mary.major", 2)).thenReturn(List.of());
+        when(trainingDAO.findMonthlyWorkloadByTrainers(List.of("john.doe", "mary.major"))).thenReturn(List.of(
+                new TrainerMonthlyWorkload("john.doe", "John", "Doe", true, 2024, 6, 45),
+                new TrainerMonthlyWorkload("john.doe", "John", "Doe", true, 2024, 7, 30),
+                new TrainerMonthlyWorkload("mary.major", "Mary", "Major", false, 0, 0, 0)));
+        stubSession();
+
+        rebuildService.resumeRunning();
+
+        ArgumentCaptor<TrainerWorkloadRebuildChunk> chunkCaptor = ArgumentCaptor.forClass(TrainerWorkloadRebuildChunk.class);
+        verify(messageConverter).toMessage(chunkCaptor.capture(), eq(session));
+        verify(producer).send(message);
+        verify(session).commit();
+
+        TrainerWorkloadRebuildChunk chunk = chunkCaptor.getValue();
+        assertEquals(4, chunk.getChunkNumber());
+        assertEquals(2, chunk.getTrainers().size());
+
+        assertEquals(RebuildStatus.COMPLETED, rebuild.getStatus());
+        assertEquals("mary.major", rebuild.getLastTrainerUsername());
+        assertEquals(12, rebuild.getTrainersSent());
+        assertEquals(4, rebuild.getChunksSent());
+        assertNotNull(rebuild.getCompletedAt());
+    }
+
+    @Test
+    void resumeRunning_StopsAfterChunksPerPoll() throws Exception {
+        ReflectionTestUtils.setField(rebuildService, "chunksPerPoll", 1);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        WorkloadRebuild rebuild = rebuild("jane.smith");
+        when(workloadRebuildDAO.lockRunning()).thenReturn(Optional.of(rebuild));
+        when(trainerDAO.findUsernamesAfter("jane.smith", 2)).thenReturn(List.of("john.doe", "mary.major"));
+        when(trainingDAO.findMonthlyWorkloadByTrainers(List.of("john.doe", "mary.major"))).thenReturn(List.of());
+        stubSession();
+
+        rebuildService.resumeRunning();
+
+        verify(producer).send(message);
+        verify(trainerDAO, never()).findUsernamesAfter("mary.major", 2);
+        assertEquals(RebuildStatus.RUNNING, rebuild.getStatus());
+        assertEquals("mary.major", rebuild.getLastTrainerUsername());
+    }
+
+    @Test
+    void sendNextChunk_BrokerFailureKeepsCheckpoint() throws Exception {
+        WorkloadRebuild rebuild = rebuild("jane.smith");
+        when(workloadRebuildDAO.lockRunning()).thenReturn(Optional.of(rebuild));
+        when(trainerDAO.findUsernamesAfter("jane.smith", 2)).thenReturn(List.of("john.doe"));
+        when(connectionFactory.createConnection()).thenThrow(new JMSException("broker down"));
+
+        assertThrows(ServiceException.class, () -> ReflectionTestUtils.invokeMethod(rebuildService, "sendNextChunk"));
+
+        assertEquals("jane.smith", rebuild.getLastTrainerUsername());
+        verify(workloadRebuildDAO, never()).update(any());
+    }
+
+    @Test
+    void sendNextChunk_NothingRunningDoesNotTouchBroker() {
+        when(workloadRebuildDAO.lockRunning()).thenReturn(Optional.empty());
+
+        assertEquals(Boolean.FALSE, ReflectionTestUtils.invokeMethod(rebuildService, "sendNextChunk"));
+
+        verifyNoInteractions(connectionFactory, trainerDAO);
+    }
+
+    @Test
+    void toSnapshots_FillsMonthArraysPerYear() {
+        List<TrainerWorkloadSnapshot> snapshots = ReflectionTestUtils.invokeMethod(WorkloadRebuildServiceImpl.class,
+                "toSnapshots", List.of(
+                        new TrainerMonthlyWorkload("john.doe", "John", "Doe", true, 2023, 12, 60),
+                        new TrainerMonthlyWorkload("john.doe", "John", "Doe", true, 2024, 1, 90),
+                        new TrainerMonthlyWorkload("mary.major", "Mary", "Major", false, 0, 0, 0)));
+
+        assertEquals(2, snapshots.size());
+        assertEquals(60, snapshots.get(0).getYears().get(2023)[11]);
+        assertEquals(90, snapshots.get(0).getYears().get(2024)[0]);
+        assertTrue(snapshots.get(1).getYears().isEmpty());
+        assertFalse(snapshots.get(1).isActive());
+    }
+
+    private void stubSession() throws JMSException {
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(producer);
+        when(messageConverter.toMessage(any(), eq(session))).thenReturn(message);
+    }
+
+    private static WorkloadRebuild rebuild(String lastTrainerUsername) {
+        WorkloadRebuild rebuild = new WorkloadRebuild();
+        rebuild.setId(1L);
+        rebuild.setStatus(RebuildStatus.RUNNING);
+        rebuild.setLastTrainerUsername(lastTrainerUsername);
+        rebuild.setTrainersSent(10);
+        rebuild.setChunksSent(3);
+        rebuild.setStartedAt(LocalDateTime.now());
+        rebuild.setUpdatedAt(LocalDateTime.now());
+        return rebuild;
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.gym.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCachesTest {
+
+    private AsyncCache<String, String> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().maximumSize(100).buildAsync();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getOrLoad_LoadsOnCallingThreadOnce() {
+        Thread caller = Thread.currentThread();
+
+        assertEquals("value:key", AsyncCaches.getOrLoad(cache, "key", key -> {
+            assertSame(caller, Thread.currentThread());
+            loads.incrementAndGet();
+            return "value:" + key;
+        }));
+        assertEquals("value:key", AsyncCaches.getOrLoad(cache, "key", key -> "other"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getOrLoad_ConcurrentCallersWaitForPendingLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> AsyncCaches.getOrLoad(cache, "key", key -> {
+                loading.countDown();
+                await(release);
+                loads.incrementAndGet();
+                return "value";
+            }), executor);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> AsyncCaches.getOrLoad(cache, "key", key -> {
+                loads.incrementAndGet();
+                return "other";
+            }), executor);
+
+            release.countDown();
+            assertEquals("value", first.get(5, TimeUnit.SECONDS));
+            assertEquals("value", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getOrLoad_DoesNotCacheFailuresOrNulls() {
+        assertThrows(IllegalStateException.class, () -> AsyncCaches.getOrLoad(cache, "key", key -> {
+            throw new IllegalStateException("Load failed");
+        }));
+        assertNull(AsyncCaches.getOrLoad(cache, "key", key -> null));
+
+        assertEquals("value", AsyncCaches.getOrLoad(cache, "key", key -> "value"));
+    }
+
+    @Test
+    void getOrLoad_InvalidationDuringLoadIsNotRepopulated() {
+        assertEquals("stale", AsyncCaches.getOrLoad(cache, "key", key -> {
+            cache.synchronous().invalidate(key);
+            return "stale";
+        }));
+
+        assertEquals("fresh", AsyncCaches.getOrLoad(cache, "key", key -> "fresh"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
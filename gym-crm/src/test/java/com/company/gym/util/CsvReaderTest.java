@@ -0,0 +1,45 @@
+package com.company.gym.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void read_MapsRowsByHeader() {
+        List<Map<String, String>> rows = CsvReader.read("firstName,lastName,address\n"
+                + "John,Smith,\"12 Main St, Springfield\"\r\n"
+                + "\"Anna \"\"Ann\"\"\",Lee\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("John", rows.get(0).get("firstName"));
+        assertEquals("12 Main St, Springfield", rows.get(0).get("address"));
+        assertEquals("Anna \"Ann\"", rows.get(1).get("firstName"));
+        assertNull(rows.get(1).get("address"));
+    }
+
+    @Test
+    void read_EmptyContent() {
+        assertTrue(CsvReader.read("  ").isEmpty());
+    }
+
+    @Test
+    void read_TooManyFields() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CsvReader.read("firstName,lastName\nJohn,Smith,extra"));
+
+        assertEquals("Line 2 has more fields than the header", exception.getMessage());
+    }
+
+    @Test
+    void parseLine_UnterminatedQuote() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CsvReader.parseLine("John,\"Smith", 3));
+
+        assertEquals("Line 3 has an unterminated quoted field", exception.getMessage());
+    }
+}
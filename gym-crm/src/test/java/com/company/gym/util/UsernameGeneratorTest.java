@@ -1,15 +1,28 @@
 package com.company.gym.util;
 
 import com.company.gym.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UsernameGeneratorTest {
@@ -17,12 +30,17 @@ class UsernameGeneratorTest {
     @Mock
     private UserServiceImpl userService;
 
-    @InjectMocks
     private UsernameGenerator usernameGenerator;
 
+    @BeforeEach
+    void setUp() {
+        usernameGenerator = new UsernameGenerator(100, 300);
+        usernameGenerator.setUserService(userService);
+    }
+
     @Test
     void generateUsername() {
-        when(userService.usernameExists("John.Smith")).thenReturn(false);
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of());
 
         String username = usernameGenerator.generateUsername("John", "Smith");
         assertEquals("John.Smith", username);
@@ -30,8 +48,7 @@ class UsernameGeneratorTest {
 
     @Test
     void generateUsername_WithDuplicate() {
-        when(userService.usernameExists("John.Smith")).thenReturn(true);
-        when(userService.usernameExists("John.Smith1")).thenReturn(false);
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of("John.Smith"));
 
         String username = usernameGenerator.generateUsername("John", "Smith");
         assertEquals("John.Smith1", username);
@@ -39,10 +56,8 @@ class UsernameGeneratorTest {
 
     @Test
     void generateUsername_WithMultipleDuplicates() {
-        when(userService.usernameExists("John.Smith")).thenReturn(true);
-        when(userService.usernameExists("John.Smith1")).thenReturn(true);
-        when(userService.usernameExists("John.Smith2")).thenReturn(true);
-        when(userService.usernameExists("John.Smith3")).thenReturn(false);
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith")))
+                .thenReturn(List.of("John.Smith", "John.Smith1", "John.Smith2"));
 
         String username = usernameGenerator.generateUsername("John", "Smith");
         assertEquals("John.Smith3", username);
@@ -50,9 +65,153 @@ class UsernameGeneratorTest {
 
     @Test
     void generateUsername_WithEmptyNames() {
-        when(userService.usernameExists(".")).thenReturn(false);
+        when(userService.findUsernamesStartingWith(Set.of("."))).thenReturn(List.of());
 
         String username = usernameGenerator.generateUsername("", "");
         assertEquals(".", username);
     }
+
+    @Test
+    void generateUsername_ContinuesAfterHighestSuffix() {
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith")))
+                .thenReturn(List.of("John.Smith", "John.Smith7", "John.Smithson", "John.Smith2x"));
+
+        assertEquals("John.Smith8", usernameGenerator.generateUsername("John", "Smith"));
+    }
+
+    @Test
+    void generateUsername_SkipsFreeBaseWhenSuffixesExist() {
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of("John.Smith1"));
+
+        assertEquals("John.Smith2", usernameGenerator.generateUsername("John", "Smith"));
+    }
+
+    @Test
+    void generateUsername_QueriesOncePerBase() {
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of("John.Smith"));
+
+        for (int i = 1; i <= 499; i++) {
+            assertEquals("John.Smith" + i, usernameGenerator.generateUsername("John", "Smith"));
+        }
+
+        verify(userService, times(1)).findUsernamesStartingWith(anyCollection());
+        verify(userService, never()).usernameExists(anyString());
+    }
+
+    @Test
+    void generateUsername_ConcurrentCallsGetDistinctUsernames() throws Exception {
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<String> usernames = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<Boolean>> results = executor.invokeAll(Collections.nCopies(200,
+                    () -> usernames.add(usernameGenerator.generateUsername("John", "Smith"))));
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(200, usernames.size());
+        verify(userService, times(1)).findUsernamesStartingWith(anyCollection());
+    }
+
+    @Test
+    void generateUsernames_ResolvesAllBasesWithOneQuery() {
+        when(userService.findUsernamesStartingWith(anyCollection()))
+                .thenReturn(List.of("John.Smith", "John.Smith1", "John.Smithson"));
+
+        List<String> usernames = usernameGenerator.generateUsernames(
+                List.of("John.Smith", "Anna.Lee", "John.Smith", "Anna.Lee"));
+
+        assertEquals(List.of("John.Smith2", "Anna.Lee", "John.Smith3", "Anna.Lee1"), usernames);
+        verify(userService, times(1)).findUsernamesStartingWith(anyCollection());
+        verify(userService, never()).usernameExists(anyString());
+    }
+
+    @Test
+    void generateUsernames_SharesCountersWithSingleAllocation() {
+        when(userService.findUsernamesStartingWith(Set.of("John.Smith"))).thenReturn(List.of("John.Smith"));
+        assertEquals("John.Smith1", usernameGenerator.generateUsername("John", "Smith"));
+
+        assertEquals(List.of("John.Smith2", "John.Smith3"),
+                usernameGenerator.generateUsernames(List.of("John.Smith", "John.Smith")));
+        verify(userService, times(1)).findUsernamesStartingWith(anyCollection());
+    }
+
+    @Test
+    void registerUsername_TwoGeneratorsSharingOneDatabase_RetryWithReloadedSuffix() {
+        Set<String> database = ConcurrentHashMap.newKeySet();
+        when(userService.findUsernamesStartingWith(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> bases = invocation.getArgument(0);
+            return database.stream().filter(username -> bases.stream().anyMatch(username::startsWith)).toList();
+        });
+        UsernameGenerator otherInstance = new UsernameGenerator(100, 300);
+        otherInstance.setUserService(userService);
+
+        assertEquals("John.Smith", usernameGenerator.registerUsername("John", "Smith", username -> insert(database, username)));
+        assertEquals("John.Smith1", otherInstance.registerUsername("John", "Smith", username -> insert(database, username)));
+        assertEquals("John.Smith2", usernameGenerator.registerUsername("John", "Smith", username -> insert(database, username)));
+
+        assertEquals(Set.of("John.Smith", "John.Smith1", "John.Smith2"), database);
+    }
+
+    @Test
+    void registerUsernames_RetriesTheWholeListWithReloadedSuffixes() {
+        Set<String> database = ConcurrentHashMap.newKeySet();
+        when(userService.findUsernamesStartingWith(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> bases = invocation.getArgument(0);
+            return database.stream().filter(username -> bases.stream().anyMatch(username::startsWith)).toList();
+        });
+        usernameGenerator.generateUsernames(List.of("John.Smith", "Anna.Lee"));
+        database.add("Anna.Lee1");
+
+        List<String> registered = usernameGenerator.registerUsernames(List.of("John.Smith", "Anna.Lee"), usernames -> {
+            usernames.forEach(username -> insert(database, username));
+            return usernames;
+        });
+
+        assertEquals(List.of("John.Smith2", "Anna.Lee2"), registered);
+        verify(userService, times(2)).findUsernamesStartingWith(anyCollection());
+    }
+
+    @Test
+    void registerUsername_GivesUpAfterMaxAttempts() {
+        when(userService.findUsernamesStartingWith(anyCollection())).thenReturn(List.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> usernameGenerator.registerUsername("John", "Smith",
+                username -> {
+                    attempts.incrementAndGet();
+                    throw duplicate(username);
+                }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void registerUsername_DoesNotRetryOtherFailures() {
+        when(userService.findUsernamesStartingWith(anyCollection())).thenReturn(List.of());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> usernameGenerator.registerUsername("John", "Smith",
+                username -> {
+                    attempts.incrementAndGet();
+                    throw new DataIntegrityViolationException("violates foreign key constraint \"fk_trainees_user\"");
+                }));
+        assertEquals(1, attempts.get());
+    }
+
+    private static String insert(Set<String> database, String username) {
+        if (!database.add(username)) {
+            throw duplicate(username);
+        }
+        return username;
+    }
+
+    private static DataIntegrityViolationException duplicate(String username) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"uk_users_username\"\n"
+                        + "  Detail: Key (username)=(" + username + ") already exists."));
+    }
 }
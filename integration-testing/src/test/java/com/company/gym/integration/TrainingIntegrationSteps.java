@@ -7,7 +7,6 @@ import com.company.gym.dao.TrainingTypeDAO;
 import com.company.gym.entity.*;
 import com.company.gym.security.JwtUtil;
 import com.company.trainerworkload.dao.TrainerSummaryRepository;
-import com.company.trainerworkload.entity.MonthSummary;
 import com.company.trainerworkload.entity.TrainerSummary;
 import com.company.trainerworkload.entity.YearSummary;
 import io.cucumber.java.Before;
@@ -121,10 +120,8 @@ public class TrainingIntegrationSteps extends IntegrationTestBase {
         summary.setTrainerUsername(trainerUsername);
         summary.setTrainerFirstName(testTrainer.getUser().getFirstName());
         summary.setTrainerLastName(testTrainer.getUser().getLastName());
-        MonthSummary monthSummary = new MonthSummary();
-        monthSummary.setTrainingSummaryDuration(duration);
         YearSummary yearSummary = new YearSummary();
-        yearSummary.getMonths().put(month, monthSummary);
+        yearSummary.setDuration(month, duration);
         summary.getYears().put(year, yearSummary);
         trainerSummaryRepository.save(summary);
     }
@@ -195,13 +192,13 @@ public class TrainingIntegrationSteps extends IntegrationTestBase {
 
             if (expectedDuration == 0) {
                 if (summaryOpt.isPresent()) {
-                    int totalDuration = summaryOpt.get().getYears().get(year).getMonths().get(month).getTrainingSummaryDuration();
+                    int totalDuration = summaryOpt.get().getYears().get(year).getDuration(month);
                     assertThat(totalDuration).isZero();
                 }
             } else {
                 assertThat(summaryOpt).isPresent();
                 TrainerSummary summary = summaryOpt.get();
-                int totalDuration = summary.getYears().get(year).getMonths().get(month).getTrainingSummaryDuration();
+                int totalDuration = summary.getYears().get(year).getDuration(month);
                 assertThat(totalDuration).isEqualTo(expectedDuration);
             }
         });
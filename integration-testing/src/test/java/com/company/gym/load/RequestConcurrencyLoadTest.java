@@ -0,0 +1,248 @@
+package com.company.gym.load;
+
+import com.company.gym.GymCrmApplication;
+import com.company.gym.config.IntegrationTestConfig;
+import com.company.gym.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load-test harness that finds the request concurrency ceiling of gym-crm on platform and on virtual request
+ * threads. For each mode the application is started against the same containers and every scenario is driven
+ * at increasing numbers of concurrent clients. The report lists throughput, latency percentiles and errors per
+ * level, and the ceiling as the last level that still raised throughput by at least 10%.
+ * <p>
+ * Scenarios: {@code GET /trainees/profile} exercises the real JPA path, {@code GET /load-test/remote-call}
+ * holds the request thread for a fixed time like a slow downstream call, which isolates the thread pool limit
+ * from the database pool limit.
+ * <p>
+ * Disabled by default, it needs Docker. Run it with
+ * <pre>
+ * mvn -pl integration-testing -am test -Dtest=RequestConcurrencyLoadTest -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dload-test=true -DargLine=-Djdk.tracePinnedThreads=short
+ * </pre>
+ * {@code jdk.tracePinnedThreads} prints a stack trace whenever a virtual thread blocks while pinned to its carrier,
+ * which is how the request paths were audited for {@code synchronized} sections. Tune the run with
+ * {@code load-test.concurrency} (comma separated levels), {@code load-test.seconds} per level,
+ * {@code load-test.tomcat-threads} and {@code load-test.remote-call-millis}.
+ */
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class RequestConcurrencyLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(RequestConcurrencyLoadTest.class);
+
+    private static final int[] CONCURRENCY = Arrays.stream(System.getProperty("load-test.concurrency", "25,50,100,200,400,800")
+            .split(",")).mapToInt(level -> Integer.parseInt(level.trim())).toArray();
+    private static final Duration LEVEL_DURATION = Duration.ofSeconds(Long.getLong("load-test.seconds", 10));
+    private static final Duration WARMUP_DURATION = Duration.ofSeconds(3);
+    private static final int TOMCAT_THREADS = Integer.getInteger("load-test.tomcat-threads", 200);
+    private static final int REMOTE_CALL_MILLIS = Integer.getInteger("load-test.remote-call-millis", 50);
+    private static final double CEILING_GAIN = 1.10;
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+    private static final MongoDBContainer mongo = new MongoDBContainer(DockerImageName.parse("mongo:6.0"));
+    private static final GenericContainer<?> activemq = new GenericContainer<>(DockerImageName.parse("apache/activemq-classic:5.18.3"))
+            .withExposedPorts(61616);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static HttpClient httpClient;
+    private static ExecutorService clients;
+
+    @BeforeAll
+    static void startInfrastructure() {
+        postgres.start();
+        mongo.start();
+        activemq.start();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopInfrastructure() {
+        clients.shutdown();
+        activemq.stop();
+        mongo.stop();
+        postgres.stop();
+    }
+
+    @Test
+    void reportConcurrencyCeilingPerThreadingMode() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %-12s %11s %12s %9s %9s %7s",
+                "threads", "scenario", "concurrency", "requests/s", "p50 ms", "p99 ms", "errors"));
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = startApplication(virtualThreads)) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                String token = registerTrainee(context, port);
+                String mode = virtualThreads ? "virtual" : "platform";
+
+                report.addAll(runScenario(mode, "profile",
+                        URI.create("http://localhost:" + port + "/trainees/profile"), token));
+                report.addAll(runScenario(mode, "remote-call",
+                        URI.create("http://localhost:" + port + "/load-test/remote-call?millis=" + REMOTE_CALL_MILLIS), token));
+            }
+        }
+        log.info("Request concurrency report ({} platform request threads, {} s per level):{}{}",
+                TOMCAT_THREADS, LEVEL_DURATION.toSeconds(), System.lineSeparator(), String.join(System.lineSeparator(), report));
+    }
+
+    private static ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        return new SpringApplicationBuilder(GymCrmApplication.class, IntegrationTestConfig.class)
+                .profiles("integration")
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--load-test.enabled=true",
+                        "--logging.level.com.company=WARN",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.activemq.broker-url=tcp://" + activemq.getHost() + ":" + activemq.getMappedPort(61616),
+                        "--spring.activemq.user=admin",
+                        "--spring.activemq.password=admin",
+                        "--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl());
+    }
+
+    private static String registerTrainee(ConfigurableApplicationContext context, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/trainees/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"firstName\":\"Load\",\"lastName\":\"Test\",\"address\":\"Main St\"}"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, response.statusCode(), response.body());
+
+        JsonNode credentials = objectMapper.readTree(response.body());
+        UserDetailsService userDetailsService = context.getBean(UserDetailsService.class);
+        return context.getBean(JwtUtil.class)
+                .generateToken(userDetailsService.loadUserByUsername(credentials.get("username").asText()));
+    }
+
+    private static List<String> runScenario(String mode, String scenario, URI uri, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        drive(request, CONCURRENCY[0], WARMUP_DURATION);
+
+        List<String> rows = new ArrayList<>();
+        LevelResult previous = null;
+        int ceiling = CONCURRENCY[0];
+        for (int concurrency : CONCURRENCY) {
+            LevelResult result = drive(request, concurrency, LEVEL_DURATION);
+            if (previous != null && result.throughput() >= previous.throughput() * CEILING_GAIN && result.errors() == 0) {
+                ceiling = concurrency;
+            }
+            rows.add(String.format("%-9s %-12s %11d %12.0f %9.1f %9.1f %7d", mode, scenario, concurrency,
+                    result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+            previous = result;
+        }
+        rows.add(String.format("%-9s %-12s ceiling at %d concurrent requests", mode, scenario, ceiling));
+        return rows;
+    }
+
+    /**
+     * Keeps the given number of requests in flight for the duration, each client sending its next request as
+     * soon as the previous one completed.
+     */
+    private static LevelResult drive(HttpRequest request, int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                ClientResult clientResult = new ClientResult();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            clientResult.latencies.add(System.nanoTime() - start);
+                        } else {
+                            clientResult.errors++;
+                        }
+                    } catch (Exception e) {
+                        clientResult.errors++;
+                    }
+                }
+                return clientResult;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        int errors = 0;
+        for (Future<ClientResult> future : futures) {
+            ClientResult clientResult = future.get();
+            latencies.addAll(clientResult.latencies);
+            errors += clientResult.errors;
+        }
+        latencies.sort(null);
+        return new LevelResult(latencies.size() / (double) duration.toSeconds(),
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), errors);
+    }
+
+    private static double percentileMillis(List<Long> sortedLatencies, double percentile) {
+        if (sortedLatencies.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.size()) - 1;
+        return sortedLatencies.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static final class ClientResult {
+        private final List<Long> latencies = new ArrayList<>();
+        private int errors;
+    }
+
+    private record LevelResult(double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+
+    /**
+     * Holds the request thread like a blocking call to a slow downstream service.
+     */
+    @RestController
+    @ConditionalOnProperty(name = "load-test.enabled", havingValue = "true")
+    static class RemoteCallController {
+
+        @GetMapping("/load-test/remote-call")
+        public String remoteCall(@RequestParam(defaultValue = "50") long millis) throws InterruptedException {
+            Thread.sleep(millis);
+            return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.company.trainerworkload.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.jms.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
 import org.springframework.jms.support.converter.MessageConverter;
 import org.springframework.jms.support.converter.MessageType;
@@ -14,8 +19,35 @@ import java.util.Map;
 @Configuration
 public class JmsConfig {
 
+    /**
+     * Runs the workload listener with several concurrent consumers in transacted sessions. Producers group
+     * messages by trainer username (JMSXGroupID), so the broker pins each trainer to one consumer:
+     * events of one trainer stay ordered while different trainers are processed in parallel. With
+     * virtual threads enabled the consumers of every {@code @JmsListener} run on virtual threads, which
+     * Spring Boot does not configure for listener containers on its own.
+     */
     @Bean
-    public MessageConverter jacksonJmsMessageConverter() {
+    public DefaultJmsListenerContainerFactory jmsListenerContainerFactory(
+            DefaultJmsListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${workload.listener.concurrency:1}") String concurrency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrency(concurrency);
+        factory.setSessionTransacted(true);
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("jms-"));
+        }
+        return factory;
+    }
+
+    @Bean
+    public MessageConverter jmsMessageConverter(@Value("${workload.message.format:json}") String workloadMessageFormat) {
+        return new WorkloadMessageConverter(jacksonJmsMessageConverter(), "binary".equalsIgnoreCase(workloadMessageFormat));
+    }
+
+    private MessageConverter jacksonJmsMessageConverter() {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
         converter.setTargetType(MessageType.TEXT);
         converter.setTypeIdPropertyName("_type");
@@ -23,6 +55,8 @@ public class JmsConfig {
         Map<String, Class<?>> typeIdMappings = new HashMap<>();
         typeIdMappings.put("com.company.gym.dto.request.TrainerWorkloadRequest",
                 com.company.trainerworkload.dto.TrainerWorkloadRequest.class);
+        typeIdMappings.put("com.company.gym.dto.request.TrainerWorkloadRebuildChunk",
+                com.company.trainerworkload.dto.TrainerWorkloadRebuildChunk.class);
         converter.setTypeIdMappings(typeIdMappings);
 
         ObjectMapper objectMapper = new ObjectMapper();
@@ -1,8 +1,7 @@
 package com.company.trainerworkload.controller;
 
-import com.company.trainerworkload.dao.WorkloadRepositoryImpl;
+import com.company.trainerworkload.dto.TrainerSummaryResponse;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
-import com.company.trainerworkload.entity.TrainerSummary;
 import com.company.trainerworkload.service.TrainerWorkloadService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,12 +15,10 @@ import java.security.Principal;
 public class WorkloadController {
 
     private final TrainerWorkloadService trainerWorkloadService;
-    private final WorkloadRepositoryImpl workloadRepository;
 
     @Autowired
-    public WorkloadController(TrainerWorkloadService trainerWorkloadService, WorkloadRepositoryImpl workloadRepository) {
+    public WorkloadController(TrainerWorkloadService trainerWorkloadService) {
         this.trainerWorkloadService = trainerWorkloadService;
-        this.workloadRepository = workloadRepository;
     }
 
     @PostMapping
@@ -31,15 +28,21 @@ public class WorkloadController {
     }
 
     @GetMapping("/{username}")
-    public ResponseEntity<TrainerSummary> getSummary(@PathVariable String username, Principal principal) {
+    public ResponseEntity<TrainerSummaryResponse> getSummary(@PathVariable String username,
+                                                             @RequestParam(required = false) Integer year,
+                                                             @RequestParam(required = false) Integer month,
+                                                             Principal principal) {
         String authenticatedUsername = principal.getName();
 
         if (!authenticatedUsername.equals(username)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
+        if (month != null && (year == null || month < 1 || month > 12)) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        return workloadRepository.findByUsername(username)
-                .map(ResponseEntity::ok)
+        return trainerWorkloadService.getSummary(username, year, month)
+                .map(summary -> ResponseEntity.ok(TrainerSummaryResponse.from(summary, month)))
                 .orElse(ResponseEntity.notFound().build());
     }
 }
@@ -0,0 +1,104 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the trainer summary indexes at startup in place of Spring Data's auto index creation, which runs as
+ * soon as the mapping context is built and would fail on the unique username index while duplicates exist.
+ * The old read-then-save write path could create several summaries for one trainer under concurrency, so those
+ * are merged first: durations and applied event ids are added up on the oldest summary, which takes the trainer
+ * details of the newest one, and the others are removed. Runs before any workload listener starts.
+ */
+@Component
+public class TrainerSummaryIndexInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerSummaryIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public TrainerSummaryIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        mergeDuplicateUsernames();
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(TrainerSummary.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(TrainerSummary.class)
+                .forEach(indexOperations::ensureIndex);
+    }
+
+    private void mergeDuplicateUsernames() {
+        String collectionName = mongoTemplate.getCollectionName(TrainerSummary.class);
+        Aggregation duplicates = Aggregation.newAggregation(
+                Aggregation.group("username").push("_id").as("ids").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)));
+
+        int merged = 0;
+        for (Document duplicate : mongoTemplate.aggregate(duplicates, collectionName, Document.class)) {
+            merge(duplicate.getList("ids", Object.class), collectionName);
+            merged++;
+        }
+        if (merged > 0) {
+            log.warn("Merged duplicate trainer summaries of {} trainers before creating the unique username index.", merged);
+        }
+    }
+
+    private void merge(List<Object> ids, String collectionName) {
+        Query byIds = Query.query(Criteria.where("_id").in(ids)).with(Sort.by("_id"));
+        List<Document> documents = mongoTemplate.find(byIds, Document.class, collectionName);
+        if (documents.size() < 2) {
+            return;
+        }
+
+        TrainerSummary merged = new TrainerSummary();
+        List<Object> appliedEvents = new ArrayList<>();
+        for (Document document : documents) {
+            TrainerSummary summary = mongoTemplate.getConverter().read(TrainerSummary.class, document);
+            summary.getYears().forEach((year, yearSummary) -> {
+                YearSummary total = merged.getYears().computeIfAbsent(year, y -> new YearSummary());
+                for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                    total.addDuration(month, yearSummary.getDuration(month));
+                }
+            });
+            appliedEvents.addAll(document.getList(TrainerSummaryRepositoryImpl.APPLIED_EVENTS, Object.class, List.of()));
+        }
+        Document newest = documents.getLast();
+        Document years = new Document();
+        mongoTemplate.getConverter().write(merged, years);
+
+        Update update = new Update()
+                .set("firstName", newest.get("firstName"))
+                .set("lastName", newest.get("lastName"))
+                .set("status", newest.get("status"))
+                .set("years", years.get("years"));
+        if (!appliedEvents.isEmpty()) {
+            update.set(TrainerSummaryRepositoryImpl.APPLIED_EVENTS, appliedEvents);
+        }
+        Object keptId = documents.getFirst().get("_id");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(keptId)), update, collectionName);
+        List<Object> removedIds = documents.stream().skip(1).map(document -> document.get("_id")).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(removedIds)), collectionName);
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites trainer summaries stored with the legacy month map layout into the compact 12-element array
+ * layout. Runs once during context initialization, before any workload listener starts, and records
+ * itself in the {@code migrations} collection so later startups skip the scan.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.mongo.migrate-layout", havingValue = "true", matchIfMissing = true)
+public class TrainerSummaryLayoutMigration implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerSummaryLayoutMigration.class);
+
+    static final String MIGRATIONS_COLLECTION = "migrations";
+    static final String MIGRATION_ID = "trainer-summary-compact-months";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public TrainerSummaryLayoutMigration(MongoTemplate mongoTemplate,
+                                         @Value("${workload.mongo.migration-batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(MIGRATION_ID)), MIGRATIONS_COLLECTION)) {
+            return;
+        }
+
+        String collectionName = mongoTemplate.getCollectionName(TrainerSummary.class);
+        BulkOperations bulkOperations = null;
+        int pending = 0;
+        int migrated = 0;
+
+        Query withYears = Query.query(Criteria.where("years").exists(true));
+        withYears.fields().include("years");
+        try (Stream<Document> documents = mongoTemplate.stream(withYears, Document.class, collectionName)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                Update update = toCompactLayout(document);
+                if (update == null) {
+                    continue;
+                }
+                if (bulkOperations == null) {
+                    bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+                }
+                bulkOperations.updateOne(Query.query(Criteria.where("_id").is(document.get("_id"))), update);
+                migrated++;
+                if (++pending == batchSize) {
+                    bulkOperations.execute();
+                    bulkOperations = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOperations.execute();
+        }
+
+        mongoTemplate.insert(new Document("_id", MIGRATION_ID).append("appliedAt", new Date()), MIGRATIONS_COLLECTION);
+        log.info("Migrated {} trainer summaries to the compact month layout.", migrated);
+    }
+
+    static Update toCompactLayout(Document document) {
+        Object years = document.get("years");
+        if (!(years instanceof Map<?, ?> yearMap)) {
+            return null;
+        }
+
+        Update update = null;
+        for (Map.Entry<?, ?> year : yearMap.entrySet()) {
+            if (!(year.getValue() instanceof Map<?, ?> yearSummary)) {
+                continue;
+            }
+            Object months = yearSummary.get("months");
+            if (YearSummaryReadingConverter.isLegacyLayout(months)) {
+                update = update == null ? new Update() : update;
+                update.set("years." + year.getKey() + ".months",
+                        Arrays.stream(YearSummaryReadingConverter.toMonthArray(months)).boxed().toList());
+            }
+        }
+        return update;
+    }
+}
@@ -5,6 +5,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface TrainerSummaryRepository extends MongoRepository<TrainerSummary, String> {
+public interface TrainerSummaryRepository extends MongoRepository<TrainerSummary, String>, TrainerSummaryRepositoryCustom {
     Optional<TrainerSummary> findByTrainerUsername(String username);
 }
@@ -0,0 +1,42 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.TrainerSummary;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TrainerSummaryRepositoryCustom {
+
+    /**
+     * Applies the delta with one atomic upsert, so concurrent writers to the same trainer never lose updates.
+     * The ids of the delta's events are recorded in the same upsert, and events whose id the trainer already
+     * holds are left out of it, so a redelivered or replayed event is not counted twice.
+     */
+    void applyDelta(WorkloadDelta delta);
+
+    /**
+     * Applies all deltas with a single unordered bulk write of atomic upserts,
+     * creating missing trainer documents and months on the fly.
+     */
+    void applyDeltas(Collection<WorkloadDelta> deltas);
+
+    /**
+     * Replaces the stored workload of the given trainers with one unordered bulk write,
+     * inserting trainers that do not exist yet. The recorded event ids are kept.
+     */
+    void replaceSummaries(Collection<TrainerSummary> summaries);
+
+    /**
+     * Loads the trainer summary with only the requested year projected out of the stored history,
+     * reduced to the requested month if one is given. Without a year the whole history is returned.
+     */
+    Optional<TrainerSummary> findSummary(String username, Integer year, Integer month);
+
+    /**
+     * Returns the given event ids that are recorded on any trainer summary. Ids are kept for
+     * {@code workload.dedup.retention-hours} after they were recorded.
+     */
+    Set<String> findAppliedEventIds(Set<String> eventIds);
+}
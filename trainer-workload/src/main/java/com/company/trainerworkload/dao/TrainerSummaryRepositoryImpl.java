@@ -0,0 +1,235 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class TrainerSummaryRepositoryImpl implements TrainerSummaryRepositoryCustom {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerSummaryRepositoryImpl.class);
+    private static final List<Integer> ZERO_MONTHS = Collections.nCopies(YearSummary.MONTHS_IN_YEAR, 0);
+    static final String APPLIED_EVENTS = "appliedEvents";
+    private static final String APPLIED_EVENT_IDS = APPLIED_EVENTS + ".id";
+    private static final String ALREADY_APPLIED = "alreadyAppliedEventIds";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration appliedEventRetention;
+
+    @Autowired
+    public TrainerSummaryRepositoryImpl(MongoTemplate mongoTemplate,
+                                        @Value("${workload.dedup.retention-hours:168}") long retentionHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.appliedEventRetention = Duration.ofHours(retentionHours);
+    }
+
+    @Override
+    public void applyDelta(WorkloadDelta delta) {
+        UpdateResult result = mongoTemplate.upsert(byUsername(delta.getTrainerUsername()), toUpdate(delta),
+                mongoTemplate.getCollectionName(TrainerSummary.class));
+        log.debug("Applied workload delta for trainer '{}': {} matched, {} modified, upserted id {}.",
+                delta.getTrainerUsername(), result.getMatchedCount(), result.getModifiedCount(), result.getUpsertedId());
+    }
+
+    @Override
+    public void applyDeltas(Collection<WorkloadDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                mongoTemplate.getCollectionName(TrainerSummary.class));
+        for (WorkloadDelta delta : deltas) {
+            bulkOperations.upsert(byUsername(delta.getTrainerUsername()), toUpdate(delta));
+        }
+
+        BulkWriteResult result = bulkOperations.execute();
+        log.info("Applied {} workload deltas: {} matched, {} modified, {} upserted.",
+                deltas.size(), result.getMatchedCount(), result.getModifiedCount(), result.getUpserts().size());
+    }
+
+    @Override
+    public void replaceSummaries(Collection<TrainerSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                mongoTemplate.getCollectionName(TrainerSummary.class));
+        for (TrainerSummary summary : summaries) {
+            Document fields = new Document();
+            mongoTemplate.getConverter().write(summary, fields);
+            fields.remove("_id");
+            bulkOperations.upsert(byUsername(summary.getTrainerUsername()), Update.fromDocument(new Document("$set", fields)));
+        }
+
+        BulkWriteResult result = bulkOperations.execute();
+        log.info("Replaced {} trainer summaries: {} matched, {} upserted.",
+                summaries.size(), result.getMatchedCount(), result.getUpserts().size());
+    }
+
+    @Override
+    public Optional<TrainerSummary> findSummary(String username, Integer year, Integer month) {
+        Query query = byUsername(username);
+        if (year != null) {
+            query.fields().include("username", "firstName", "lastName", "status", "years." + year);
+        } else {
+            query.fields().exclude(APPLIED_EVENTS);
+        }
+        TrainerSummary summary = mongoTemplate.findOne(query, TrainerSummary.class);
+        if (summary != null && month != null) {
+            summary.getYears().computeIfPresent(year, (y, yearSummary) -> yearSummary.onlyMonth(month));
+        }
+        return Optional.ofNullable(summary);
+    }
+
+    @Override
+    public Set<String> findAppliedEventIds(Set<String> eventIds) {
+        Query query = Query.query(Criteria.where(APPLIED_EVENT_IDS).in(eventIds));
+        query.fields().include(APPLIED_EVENT_IDS).exclude("_id");
+
+        Set<String> applied = new HashSet<>();
+        for (Document summary : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(TrainerSummary.class))) {
+            for (Document appliedEvent : summary.getList(APPLIED_EVENTS, Document.class, List.of())) {
+                String eventId = appliedEvent.getString("id");
+                if (eventIds.contains(eventId)) {
+                    applied.add(eventId);
+                }
+            }
+        }
+        return applied;
+    }
+
+    private static Query byUsername(String username) {
+        return Query.query(Criteria.where("username").is(username));
+    }
+
+    /**
+     * Builds a pipeline update that adds the month changes element-wise to each year's 12-element array,
+     * starting from zeros when the year does not exist yet, and sets the trainer details.
+     * A pipeline is needed because a plain {@code $inc} on an array index cannot create the array on upsert.
+     * <p>
+     * Events with an id are applied at most once: the first stage collects which of the delta's ids the trainer
+     * already holds, their changes are subtracted from the month changes, and only the other ids are recorded.
+     * A replayed event is therefore a no-op of the same write rather than a failed one, and the trainer details
+     * are left alone when every event of the delta was applied before. Recorded ids are kept for the configured
+     * retention, older ones are dropped whenever the trainer is written.
+     */
+    AggregationUpdate toUpdate(WorkloadDelta delta) {
+        if (delta.getEventIds().isEmpty()) {
+            return AggregationUpdate.from(List.of(stage("$set", applyChanges(delta))));
+        }
+
+        Document alreadyApplied = new Document("$setIntersection", List.of(
+                new Document("$ifNull", List.of("$" + APPLIED_EVENT_IDS, List.of())),
+                literal(new ArrayList<>(delta.getEventIds()))));
+        Document set = applyChanges(delta).append(APPLIED_EVENTS, recordEventIds(delta.getEventIds()));
+        return AggregationUpdate.from(List.of(
+                stage("$set", new Document(ALREADY_APPLIED, alreadyApplied)),
+                stage("$set", set),
+                stage("$unset", ALREADY_APPLIED)));
+    }
+
+    private static Document applyChanges(WorkloadDelta delta) {
+        Map<Integer, List<Object>> changesByYear = new TreeMap<>();
+        for (Map.Entry<YearMonth, Integer> change : delta.getDurationChanges().entrySet()) {
+            changesByYear.computeIfAbsent(change.getKey().getYear(), k -> new ArrayList<>(ZERO_MONTHS))
+                    .set(change.getKey().getMonthValue() - 1, change.getValue());
+        }
+
+        Map<YearMonth, List<Object>> appliedChangesByMonth = new TreeMap<>();
+        delta.getEventChanges().forEach((eventId, change) -> appliedChangesByMonth
+                .computeIfAbsent(change.getKey(), k -> new ArrayList<>())
+                .add(new Document("$cond", List.of(isAlreadyApplied(eventId), change.getValue(), 0))));
+        appliedChangesByMonth.forEach((month, appliedChanges) -> {
+            List<Object> changes = changesByYear.get(month.getYear());
+            int index = month.getMonthValue() - 1;
+            changes.set(index, new Document("$subtract", List.of(changes.get(index), new Document("$add", appliedChanges))));
+        });
+
+        Document set = new Document("firstName", detail(delta, "firstName", delta.getTrainerFirstName()))
+                .append("lastName", detail(delta, "lastName", delta.getTrainerLastName()))
+                .append("status", detail(delta, "status", delta.isActive()));
+        changesByYear.forEach((year, changes) -> set.append(monthsField(year), addMonths(monthsField(year), changes)));
+        return set;
+    }
+
+    /**
+     * Sets the trainer detail from the delta, unless all of its events carry ids the trainer already holds.
+     */
+    private static Object detail(WorkloadDelta delta, String field, Object value) {
+        if (delta.getEventIds().isEmpty() || delta.hasEventsWithoutId()) {
+            return literal(value);
+        }
+        Document allApplied = new Document("$eq", List.of(new Document("$size", "$" + ALREADY_APPLIED), delta.getEventIds().size()));
+        return new Document("$cond", List.of(allApplied, "$" + field, literal(value)));
+    }
+
+    private static Document isAlreadyApplied(String eventId) {
+        return new Document("$in", List.of(literal(eventId), "$" + ALREADY_APPLIED));
+    }
+
+    /**
+     * Drops recorded ids older than the retention and appends the delta's ids that were not recorded yet,
+     * stamped with the server time of the write.
+     */
+    private Document recordEventIds(Set<String> eventIds) {
+        Document retained = new Document("$filter", new Document("input", new Document("$ifNull", List.of("$" + APPLIED_EVENTS, List.of())))
+                .append("as", "event")
+                .append("cond", new Document("$gte", List.of("$$event.at",
+                        new Document("$subtract", List.of("$$NOW", appliedEventRetention.toMillis()))))));
+        Document recorded = new Document("$map", new Document("input", new Document("$setDifference",
+                List.of(literal(new ArrayList<>(eventIds)), "$" + ALREADY_APPLIED)))
+                .append("as", "id")
+                .append("in", new Document("id", "$$id").append("at", "$$NOW")));
+        return new Document("$concatArrays", List.of(retained, recorded));
+    }
+
+    static String monthsField(int year) {
+        return "years." + year + ".months";
+    }
+
+    private static Document addMonths(String field, List<Object> changes) {
+        Document current = new Document("$cond", List.of(new Document("$isArray", "$" + field), "$" + field, ZERO_MONTHS));
+        Document sum = new Document("$add", List.of(
+                new Document("$arrayElemAt", List.of("$$current", "$$month")),
+                new Document("$arrayElemAt", List.of(changes, "$$month"))));
+        Document perMonth = new Document("$map", new Document("input", new Document("$range", List.of(0, YearSummary.MONTHS_IN_YEAR)))
+                .append("as", "month")
+                .append("in", sum));
+        return new Document("$let", new Document("vars", new Document("current", current)).append("in", perMonth));
+    }
+
+    private static AggregationOperation stage(String operator, Object value) {
+        return context -> new Document(operator, value);
+    }
+
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+}
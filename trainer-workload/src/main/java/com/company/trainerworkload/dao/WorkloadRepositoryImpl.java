@@ -1,22 +1,101 @@
 package com.company.trainerworkload.dao;
 
+import com.company.trainerworkload.dto.WorkloadDelta;
 import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
 import org.springframework.stereotype.Repository;
 
+import java.time.YearMonth;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
+/**
+ * In-memory workload store. Month durations are kept in per-trainer, per-year atomic counters,
+ * so concurrent deltas for the same trainer are applied without locks and without lost updates.
+ * Reads never expose the counters, they return a freshly built {@link TrainerSummary} snapshot.
+ */
 @Repository
 public class WorkloadRepositoryImpl {
-    private static final Map<String, TrainerSummary> database = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TrainerWorkload> database = new ConcurrentHashMap<>();
 
+    public void applyDelta(WorkloadDelta delta) {
+        TrainerWorkload workload = database.computeIfAbsent(delta.getTrainerUsername(), TrainerWorkload::new);
+        workload.details = new TrainerDetails(delta.getTrainerFirstName(), delta.getTrainerLastName(), delta.isActive());
+        for (Map.Entry<YearMonth, Integer> change : delta.getDurationChanges().entrySet()) {
+            workload.years.computeIfAbsent(change.getKey().getYear(), k -> new YearCounters())
+                    .add(change.getKey().getMonthValue(), change.getValue());
+        }
+    }
+
+    /**
+     * Replaces the stored workload of the trainer with the given summary.
+     */
     public TrainerSummary save(TrainerSummary summary) {
-        database.put(summary.getTrainerUsername(), summary);
+        TrainerWorkload workload = new TrainerWorkload(summary.getTrainerUsername());
+        workload.details = new TrainerDetails(summary.getTrainerFirstName(), summary.getTrainerLastName(), summary.isTrainerStatus());
+        summary.getYears().forEach((year, yearSummary) -> {
+            YearCounters counters = workload.years.computeIfAbsent(year, k -> new YearCounters());
+            for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                counters.add(month, yearSummary.getDuration(month));
+            }
+        });
+        database.put(summary.getTrainerUsername(), workload);
         return summary;
     }
 
     public Optional<TrainerSummary> findByUsername(String username) {
-        return Optional.ofNullable(database.get(username));
+        return Optional.ofNullable(database.get(username)).map(TrainerWorkload::snapshot);
+    }
+
+    private static final class TrainerWorkload {
+        private final String username;
+        private final ConcurrentMap<Integer, YearCounters> years = new ConcurrentHashMap<>();
+        private volatile TrainerDetails details = new TrainerDetails(null, null, false);
+
+        private TrainerWorkload(String username) {
+            this.username = username;
+        }
+
+        private TrainerSummary snapshot() {
+            TrainerDetails current = details;
+            TrainerSummary summary = new TrainerSummary();
+            summary.setTrainerUsername(username);
+            summary.setTrainerFirstName(current.firstName);
+            summary.setTrainerLastName(current.lastName);
+            summary.setTrainerStatus(current.active);
+            years.forEach((year, counters) -> summary.getYears().put(year, counters.snapshot()));
+            return summary;
+        }
+    }
+
+    private static final class TrainerDetails {
+        private final String firstName;
+        private final String lastName;
+        private final boolean active;
+
+        private TrainerDetails(String firstName, String lastName, boolean active) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.active = active;
+        }
+    }
+
+    private static final class YearCounters {
+        private final AtomicIntegerArray durations = new AtomicIntegerArray(YearSummary.MONTHS_IN_YEAR);
+
+        private void add(int month, int durationChange) {
+            durations.addAndGet(month - 1, durationChange);
+        }
+
+        private YearSummary snapshot() {
+            int[] months = new int[YearSummary.MONTHS_IN_YEAR];
+            for (int i = 0; i < months.length; i++) {
+                months[i] = durations.get(i);
+            }
+            return new YearSummary(months);
+        }
     }
 }
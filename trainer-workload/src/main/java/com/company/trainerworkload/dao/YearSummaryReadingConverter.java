@@ -0,0 +1,46 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.entity.YearSummary;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a {@link YearSummary} from both the compact layout, where {@code months} is a 12-element array,
+ * and the legacy layout, where {@code months} is a document keyed by month number holding
+ * {@code {trainingSummaryDuration: n}} sub-documents.
+ */
+@ReadingConverter
+public class YearSummaryReadingConverter implements Converter<Document, YearSummary> {
+
+    @Override
+    public YearSummary convert(Document source) {
+        return new YearSummary(toMonthArray(source.get("months")));
+    }
+
+    static int[] toMonthArray(Object months) {
+        int[] durations = new int[YearSummary.MONTHS_IN_YEAR];
+        if (months instanceof List<?> list) {
+            for (int i = 0; i < Math.min(list.size(), durations.length); i++) {
+                durations[i] = ((Number) list.get(i)).intValue();
+            }
+        } else if (months instanceof Map<?, ?> legacyMonths) {
+            for (Map.Entry<?, ?> entry : legacyMonths.entrySet()) {
+                int month = Integer.parseInt(entry.getKey().toString());
+                Object value = entry.getValue();
+                Object duration = (value instanceof Map<?, ?> monthSummary)
+                        ? monthSummary.get("trainingSummaryDuration")
+                        : value;
+                durations[month - 1] = duration == null ? 0 : ((Number) duration).intValue();
+            }
+        }
+        return durations;
+    }
+
+    static boolean isLegacyLayout(Object months) {
+        return months instanceof Map<?, ?>;
+    }
+}
@@ -0,0 +1,113 @@
+package com.company.trainerworkload.dto;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trainer summary as returned by {@code GET /workload/{username}}. Keeps the JSON shape the endpoint had before
+ * the months were stored as an array: per year a map from month number to {@code trainingSummaryDuration}.
+ * Months without training time are left out, except the month that was explicitly requested.
+ */
+public class TrainerSummaryResponse {
+    private String trainerUsername;
+    private String trainerFirstName;
+    private String trainerLastName;
+    private boolean trainerStatus;
+    private Map<Integer, YearSummaryResponse> years = new TreeMap<>();
+
+    public static TrainerSummaryResponse from(TrainerSummary summary, Integer requestedMonth) {
+        TrainerSummaryResponse response = new TrainerSummaryResponse();
+        response.setTrainerUsername(summary.getTrainerUsername());
+        response.setTrainerFirstName(summary.getTrainerFirstName());
+        response.setTrainerLastName(summary.getTrainerLastName());
+        response.setTrainerStatus(summary.isTrainerStatus());
+        summary.getYears().forEach((year, yearSummary) ->
+                response.getYears().put(year, YearSummaryResponse.from(yearSummary, requestedMonth)));
+        return response;
+    }
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public void setTrainerUsername(String trainerUsername) {
+        this.trainerUsername = trainerUsername;
+    }
+
+    public String getTrainerFirstName() {
+        return trainerFirstName;
+    }
+
+    public void setTrainerFirstName(String trainerFirstName) {
+        this.trainerFirstName = trainerFirstName;
+    }
+
+    public String getTrainerLastName() {
+        return trainerLastName;
+    }
+
+    public void setTrainerLastName(String trainerLastName) {
+        this.trainerLastName = trainerLastName;
+    }
+
+    public boolean isTrainerStatus() {
+        return trainerStatus;
+    }
+
+    public void setTrainerStatus(boolean trainerStatus) {
+        this.trainerStatus = trainerStatus;
+    }
+
+    public Map<Integer, YearSummaryResponse> getYears() {
+        return years;
+    }
+
+    public void setYears(Map<Integer, YearSummaryResponse> years) {
+        this.years = years;
+    }
+
+    public static class YearSummaryResponse {
+        private Map<Integer, MonthSummaryResponse> months = new TreeMap<>();
+
+        static YearSummaryResponse from(YearSummary yearSummary, Integer requestedMonth) {
+            YearSummaryResponse response = new YearSummaryResponse();
+            for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                int duration = yearSummary.getDuration(month);
+                if (duration != 0 || Integer.valueOf(month).equals(requestedMonth)) {
+                    response.getMonths().put(month, new MonthSummaryResponse(duration));
+                }
+            }
+            return response;
+        }
+
+        public Map<Integer, MonthSummaryResponse> getMonths() {
+            return months;
+        }
+
+        public void setMonths(Map<Integer, MonthSummaryResponse> months) {
+            this.months = months;
+        }
+    }
+
+    public static class MonthSummaryResponse {
+        private int trainingSummaryDuration;
+
+        public MonthSummaryResponse() {
+        }
+
+        public MonthSummaryResponse(int trainingSummaryDuration) {
+            this.trainingSummaryDuration = trainingSummaryDuration;
+        }
+
+        public int getTrainingSummaryDuration() {
+            return trainingSummaryDuration;
+        }
+
+        public void setTrainingSummaryDuration(int trainingSummaryDuration) {
+            this.trainingSummaryDuration = trainingSummaryDuration;
+        }
+    }
+}
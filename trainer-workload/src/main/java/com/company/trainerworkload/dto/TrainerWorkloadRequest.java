@@ -9,6 +9,8 @@ import java.time.LocalDate;
 
 public class TrainerWorkloadRequest {
 
+    private String eventId;
+
     @NotBlank(message = "Trainer username is required.")
     private String trainerUsername;
 
@@ -42,6 +44,14 @@ public class TrainerWorkloadRequest {
         this.actionType = actionType;
     }
 
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
     public String getTrainerUsername() {
         return trainerUsername;
     }
@@ -0,0 +1,69 @@
+package com.company.trainerworkload.dto;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Complete workload of one trainer as rebuilt by gym-crm: per year, the total training duration
+ * of each month (January at index 0).
+ */
+public class TrainerWorkloadSnapshot {
+    private String trainerUsername;
+    private String trainerFirstName;
+    private String trainerLastName;
+    private boolean active;
+    private Map<Integer, int[]> years = new TreeMap<>();
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public void setTrainerUsername(String trainerUsername) {
+        this.trainerUsername = trainerUsername;
+    }
+
+    public String getTrainerFirstName() {
+        return trainerFirstName;
+    }
+
+    public void setTrainerFirstName(String trainerFirstName) {
+        this.trainerFirstName = trainerFirstName;
+    }
+
+    public String getTrainerLastName() {
+        return trainerLastName;
+    }
+
+    public void setTrainerLastName(String trainerLastName) {
+        this.trainerLastName = trainerLastName;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Map<Integer, int[]> getYears() {
+        return years;
+    }
+
+    public void setYears(Map<Integer, int[]> years) {
+        this.years = years;
+    }
+
+    public TrainerSummary toSummary() {
+        TrainerSummary summary = new TrainerSummary();
+        summary.setTrainerUsername(trainerUsername);
+        summary.setTrainerFirstName(trainerFirstName);
+        summary.setTrainerLastName(trainerLastName);
+        summary.setTrainerStatus(active);
+        years.forEach((year, months) -> summary.getYears().put(year, new YearSummary(months.clone())));
+        return summary;
+    }
+}
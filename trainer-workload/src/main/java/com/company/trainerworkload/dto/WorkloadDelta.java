@@ -0,0 +1,86 @@
+package com.company.trainerworkload.dto;
+
+import com.company.trainerworkload.entity.ActionType;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Net change of one trainer's workload, coalesced from any number of workload events.
+ * Trainer details follow the last applied event and durations are summed per month. The change of every
+ * event with an id is also kept on its own, so the write can leave out events that are already recorded
+ * on the trainer and record the others. An id that was already coalesced into the delta is ignored.
+ */
+public class WorkloadDelta {
+    private final String trainerUsername;
+    private String trainerFirstName;
+    private String trainerLastName;
+    private boolean active;
+    private final Map<YearMonth, Integer> durationChanges = new LinkedHashMap<>();
+    private final Map<String, Map.Entry<YearMonth, Integer>> eventChanges = new LinkedHashMap<>();
+    private int eventCount;
+
+    public WorkloadDelta(String trainerUsername) {
+        this.trainerUsername = trainerUsername;
+    }
+
+    public void apply(TrainerWorkloadRequest request) {
+        if (request.getEventId() != null && eventChanges.containsKey(request.getEventId())) {
+            return;
+        }
+        eventCount++;
+        trainerFirstName = request.getTrainerFirstName();
+        trainerLastName = request.getTrainerLastName();
+        active = request.isActive();
+
+        int durationChange = (request.getActionType() == ActionType.DELETE)
+                ? -request.getTrainingDuration()
+                : request.getTrainingDuration();
+        YearMonth month = YearMonth.from(request.getTrainingDate());
+        durationChanges.merge(month, durationChange, Integer::sum);
+        if (request.getEventId() != null) {
+            eventChanges.put(request.getEventId(), Map.entry(month, durationChange));
+        }
+    }
+
+    public String getTrainerUsername() {
+        return trainerUsername;
+    }
+
+    public String getTrainerFirstName() {
+        return trainerFirstName;
+    }
+
+    public String getTrainerLastName() {
+        return trainerLastName;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public Map<YearMonth, Integer> getDurationChanges() {
+        return Collections.unmodifiableMap(durationChanges);
+    }
+
+    public Set<String> getEventIds() {
+        return Collections.unmodifiableSet(eventChanges.keySet());
+    }
+
+    /**
+     * Month and duration change of each event with an id, in the order the events were applied.
+     */
+    public Map<String, Map.Entry<YearMonth, Integer>> getEventChanges() {
+        return Collections.unmodifiableMap(eventChanges);
+    }
+
+    /**
+     * Tells whether the delta holds events without an id, which are applied unconditionally.
+     */
+    public boolean hasEventsWithoutId() {
+        return eventCount > eventChanges.size();
+    }
+}
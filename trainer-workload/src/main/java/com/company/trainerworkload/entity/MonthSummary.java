@@ -1,13 +0,0 @@
-package com.company.trainerworkload.entity;
-
-public class MonthSummary {
-    private int trainingSummaryDuration = 0;
-
-    public int getTrainingSummaryDuration() {
-        return trainingSummaryDuration;
-    }
-
-    public void setTrainingSummaryDuration(int trainingSummaryDuration) {
-        this.trainingSummaryDuration = trainingSummaryDuration;
-    }
-}
@@ -2,6 +2,8 @@ package com.company.trainerworkload.entity;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -9,11 +11,15 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Document(collection = "trainer_summaries")
-@CompoundIndex(name = "trainer_name_idx", def = "{'firstName': 1, 'lastName': 1}")
+@CompoundIndexes({
+        @CompoundIndex(name = "trainer_name_idx", def = "{'firstName': 1, 'lastName': 1}"),
+        @CompoundIndex(name = "applied_event_ids_idx", def = "{'appliedEvents.id': 1}")
+})
 public class TrainerSummary {
     @Id
     private String id;
 
+    @Indexed(name = "username_idx", unique = true)
     @Field("username")
     private String trainerUsername;
 
@@ -68,4 +74,21 @@ public class TrainerSummary {
     public void setYears(Map<Integer, YearSummary> years) {
         this.years = years;
     }
+
+    /**
+     * Returns a copy with the trainer details and only the given year, reduced to the given month if one is set.
+     */
+    public TrainerSummary project(int year, Integer month) {
+        TrainerSummary projection = new TrainerSummary();
+        projection.setTrainerUsername(trainerUsername);
+        projection.setTrainerFirstName(trainerFirstName);
+        projection.setTrainerLastName(trainerLastName);
+        projection.setTrainerStatus(trainerStatus);
+
+        YearSummary yearSummary = years.get(year);
+        if (yearSummary != null) {
+            projection.getYears().put(year, month == null ? yearSummary : yearSummary.onlyMonth(month));
+        }
+        return projection;
+    }
 }
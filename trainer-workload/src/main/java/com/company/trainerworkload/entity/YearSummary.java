@@ -1,16 +1,49 @@
 package com.company.trainerworkload.entity;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+/**
+ * Training durations of one year, stored as a fixed array indexed by month (January at index 0).
+ */
 public class YearSummary {
-    private Map<Integer, MonthSummary> months = new ConcurrentHashMap<>();
+    public static final int MONTHS_IN_YEAR = 12;
+
+    private int[] months = new int[MONTHS_IN_YEAR];
+
+    public YearSummary() {
+    }
 
-    public Map<Integer, MonthSummary> getMonths() {
+    public YearSummary(int[] months) {
+        setMonths(months);
+    }
+
+    public int[] getMonths() {
         return months;
     }
 
-    public void setMonths(Map<Integer, MonthSummary> months) {
+    public void setMonths(int[] months) {
+        if (months.length != MONTHS_IN_YEAR) {
+            throw new IllegalArgumentException("A year summary must have exactly 12 months, got " + months.length);
+        }
         this.months = months;
     }
+
+    public int getDuration(int month) {
+        return months[month - 1];
+    }
+
+    public void setDuration(int month, int duration) {
+        months[month - 1] = duration;
+    }
+
+    public void addDuration(int month, int durationChange) {
+        months[month - 1] += durationChange;
+    }
+
+    /**
+     * Returns a copy holding only the given month, all other months are zero.
+     */
+    public YearSummary onlyMonth(int month) {
+        YearSummary projection = new YearSummary();
+        projection.setDuration(month, getDuration(month));
+        return projection;
+    }
 }
@@ -0,0 +1,200 @@
+package com.company.trainerworkload.listener;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.service.TrainerWorkloadService;
+import com.company.trainerworkload.service.WorkloadEventDeduplicator;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes workload events in batches of up to {@code batchSize} messages or {@code batchWaitMs},
+ * whichever comes first, and hands each batch to the service in one call.
+ * Messages are received in a transacted session that is committed only after the batch was written,
+ * a failed write rolls the whole batch back for redelivery. Invalid messages are moved to the
+ * dead-letter queue within the same transaction so they cannot block the rest of the batch.
+ * Events whose id was already processed are dropped, so a redelivered batch is not counted twice.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.listener.mode", havingValue = "batch")
+public class BatchWorkloadListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchWorkloadListener.class);
+    private static final long RECOVERY_INTERVAL_MS = 5000;
+
+    private final ConnectionFactory connectionFactory;
+    private final MessageConverter messageConverter;
+    private final TrainerWorkloadService trainerWorkloadService;
+    private final WorkloadEventDeduplicator workloadEventDeduplicator;
+    private final int batchSize;
+    private final long batchWaitMs;
+    private final int concurrency;
+    private final String deadLetterQueue;
+
+    private volatile boolean running;
+    private ExecutorService consumers;
+
+    @Autowired
+    public BatchWorkloadListener(ConnectionFactory connectionFactory,
+                                 MessageConverter messageConverter,
+                                 TrainerWorkloadService trainerWorkloadService,
+                                 WorkloadEventDeduplicator workloadEventDeduplicator,
+                                 @Value("${workload.listener.batch-size:100}") int batchSize,
+                                 @Value("${workload.listener.batch-wait-ms:200}") long batchWaitMs,
+                                 @Value("${workload.listener.batch-consumers:1}") int concurrency,
+                                 @Value("${workload.listener.dead-letter-queue:ActiveMQ.DLQ}") String deadLetterQueue) {
+        this.connectionFactory = connectionFactory;
+        this.messageConverter = messageConverter;
+        this.trainerWorkloadService = trainerWorkloadService;
+        this.workloadEventDeduplicator = workloadEventDeduplicator;
+        this.batchSize = batchSize;
+        this.batchWaitMs = batchWaitMs;
+        this.concurrency = concurrency;
+        this.deadLetterQueue = deadLetterQueue;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        consumers = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("workload-batch-"));
+        for (int i = 0; i < concurrency; i++) {
+            consumers.execute(this::consume);
+        }
+        log.info("Started {} batch workload consumers (batch size {}, wait {} ms).", concurrency, batchSize, batchWaitMs);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        consumers.shutdown();
+        try {
+            if (!consumers.awaitTermination(batchWaitMs + RECOVERY_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                consumers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            consumers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        while (running) {
+            try (Connection connection = connectionFactory.createConnection();
+                 Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+                 MessageConsumer consumer = session.createConsumer(session.createQueue(WorkloadListener.WORKLOAD_QUEUE))) {
+                connection.start();
+                while (running) {
+                    List<Message> batch = receiveBatch(consumer);
+                    if (!batch.isEmpty()) {
+                        processBatch(session, batch);
+                    }
+                }
+            } catch (JMSException e) {
+                log.error("Batch workload consumer failed, reconnecting in {} ms.", RECOVERY_INTERVAL_MS, e);
+                sleepBeforeRecovery();
+            }
+        }
+    }
+
+    List<Message> receiveBatch(MessageConsumer consumer) throws JMSException {
+        List<Message> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + batchWaitMs;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            Message message = consumer.receive(remaining);
+            if (message == null) {
+                break;
+            }
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    void processBatch(Session session, List<Message> batch) throws JMSException {
+        List<TrainerWorkloadRequest> requests = new ArrayList<>(batch.size());
+        List<Message> rejected = new ArrayList<>();
+        for (Message message : batch) {
+            try {
+                TrainerWorkloadRequest payload = (TrainerWorkloadRequest) messageConverter.fromMessage(message);
+                WorkloadPayloadValidator.validate(payload);
+                requests.add(payload);
+            } catch (Exception e) {
+                log.error("Invalid workload message {}, moving it to {}", message.getJMSMessageID(), deadLetterQueue, e);
+                rejected.add(message);
+            }
+        }
+
+        try {
+            if (!rejected.isEmpty()) {
+                try (MessageProducer producer = session.createProducer(session.createQueue(deadLetterQueue))) {
+                    for (Message message : rejected) {
+                        producer.send(message);
+                    }
+                }
+            }
+            List<TrainerWorkloadRequest> unprocessed = dropProcessed(requests);
+            trainerWorkloadService.updateWorkloads(unprocessed);
+            workloadEventDeduplicator.rememberApplied(unprocessed.stream().map(TrainerWorkloadRequest::getEventId).toList());
+            session.commit();
+            log.info("Processed batch of {} workload messages ({} rejected, {} duplicates).",
+                    batch.size(), rejected.size(), requests.size() - unprocessed.size());
+        } catch (Exception e) {
+            log.error("Failed to process batch of {} workload messages, rolling back for redelivery.", batch.size(), e);
+            session.rollback();
+        }
+    }
+
+    /**
+     * Drops events that were applied before, and repeated ids within the batch itself.
+     */
+    private List<TrainerWorkloadRequest> dropProcessed(List<TrainerWorkloadRequest> requests) {
+        Set<String> seen = new HashSet<>(workloadEventDeduplicator.findProcessed(
+                requests.stream().map(TrainerWorkloadRequest::getEventId).filter(Objects::nonNull).toList()));
+        List<TrainerWorkloadRequest> unprocessed = new ArrayList<>(requests.size());
+        for (TrainerWorkloadRequest request : requests) {
+            if (request.getEventId() == null || seen.add(request.getEventId())) {
+                unprocessed.add(request);
+            }
+        }
+        return unprocessed;
+    }
+
+    private void sleepBeforeRecovery() {
+        try {
+            Thread.sleep(RECOVERY_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
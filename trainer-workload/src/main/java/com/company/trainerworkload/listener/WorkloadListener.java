@@ -2,29 +2,39 @@ package com.company.trainerworkload.listener;
 
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
 import com.company.trainerworkload.service.TrainerWorkloadService;
+import com.company.trainerworkload.service.WorkloadEventDeduplicator;
 import jakarta.jms.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jms.annotation.JmsListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collections;
+
 @Component
+@ConditionalOnProperty(name = "workload.listener.mode", havingValue = "single", matchIfMissing = true)
 public class WorkloadListener {
 
+    public static final String WORKLOAD_QUEUE = "trainer.workload.queue";
+
     private static final Logger log = LoggerFactory.getLogger(WorkloadListener.class);
 
     private final TrainerWorkloadService trainerWorkloadService;
+    private final WorkloadEventDeduplicator workloadEventDeduplicator;
 
     @Autowired
-    public WorkloadListener(TrainerWorkloadService trainerWorkloadService) {
+    public WorkloadListener(TrainerWorkloadService trainerWorkloadService,
+                            WorkloadEventDeduplicator workloadEventDeduplicator) {
         this.trainerWorkloadService = trainerWorkloadService;
+        this.workloadEventDeduplicator = workloadEventDeduplicator;
     }
 
-    @JmsListener(destination = "trainer.workload.queue")
+    @JmsListener(destination = WORKLOAD_QUEUE)
     public void receiveMessage(@Validated @Payload TrainerWorkloadRequest payload, Message message) {
         String transactionId = null;
         try {
@@ -34,9 +44,16 @@ public class WorkloadListener {
             }
             log.info("Received workload message for trainer: {}", payload.getTrainerUsername());
 
-            validatePayload(payload);
+            WorkloadPayloadValidator.validate(payload);
+
+            if (workloadEventDeduplicator.isProcessed(payload.getEventId())) {
+                log.info("Skipping already processed workload event {} for trainer: {}",
+                        payload.getEventId(), payload.getTrainerUsername());
+                return;
+            }
 
             trainerWorkloadService.updateWorkload(payload);
+            workloadEventDeduplicator.rememberApplied(Collections.singleton(payload.getEventId()));
 
             log.info("Successfully processed message for trainer: {}", payload.getTrainerUsername());
         } catch (IllegalArgumentException e) {
@@ -51,19 +68,4 @@ public class WorkloadListener {
             }
         }
     }
-
-    private void validatePayload(TrainerWorkloadRequest payload) {
-        if (payload.getTrainerUsername() == null || payload.getTrainerUsername().isBlank()) {
-            throw new IllegalArgumentException("Trainer username cannot be null or blank.");
-        }
-        if (payload.getTrainerFirstName() == null || payload.getTrainerLastName() == null) {
-            throw new IllegalArgumentException("Trainer first name and last name are required.");
-        }
-        if (payload.getTrainingDate() == null) {
-            throw new IllegalArgumentException("Training date cannot be null.");
-        }
-        if (payload.getActionType() == null) {
-            throw new IllegalArgumentException("Action type is required.");
-        }
-    }
 }
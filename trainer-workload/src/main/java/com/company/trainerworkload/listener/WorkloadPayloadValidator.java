@@ -0,0 +1,24 @@
+package com.company.trainerworkload.listener;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+
+final class WorkloadPayloadValidator {
+
+    private WorkloadPayloadValidator() {
+    }
+
+    static void validate(TrainerWorkloadRequest payload) {
+        if (payload.getTrainerUsername() == null || payload.getTrainerUsername().isBlank()) {
+            throw new IllegalArgumentException("Trainer username cannot be null or blank.");
+        }
+        if (payload.getTrainerFirstName() == null || payload.getTrainerLastName() == null) {
+            throw new IllegalArgumentException("Trainer first name and last name are required.");
+        }
+        if (payload.getTrainingDate() == null) {
+            throw new IllegalArgumentException("Training date cannot be null.");
+        }
+        if (payload.getActionType() == null) {
+            throw new IllegalArgumentException("Action type is required.");
+        }
+    }
+}
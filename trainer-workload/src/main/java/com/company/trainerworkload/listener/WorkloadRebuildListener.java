@@ -0,0 +1,44 @@
+package com.company.trainerworkload.listener;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRebuildChunk;
+import com.company.trainerworkload.dto.TrainerWorkloadSnapshot;
+import com.company.trainerworkload.service.TrainerWorkloadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replaces trainer summaries with the snapshots sent by a gym-crm rebuild. Chunks hold disjoint trainers,
+ * so they are consumed by several concurrent consumers. A failed chunk is rolled back for redelivery,
+ * which is safe because a snapshot replaces the stored summary instead of adding to it.
+ */
+@Component
+public class WorkloadRebuildListener {
+
+    public static final String REBUILD_QUEUE = "trainer.workload.rebuild.queue";
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadRebuildListener.class);
+
+    private final TrainerWorkloadService trainerWorkloadService;
+
+    @Autowired
+    public WorkloadRebuildListener(TrainerWorkloadService trainerWorkloadService) {
+        this.trainerWorkloadService = trainerWorkloadService;
+    }
+
+    @JmsListener(destination = REBUILD_QUEUE, concurrency = "${workload.rebuild.concurrency:4}")
+    public void receiveChunk(@Payload TrainerWorkloadRebuildChunk chunk) {
+        for (TrainerWorkloadSnapshot snapshot : chunk.getTrainers()) {
+            if (snapshot.getTrainerUsername() == null || snapshot.getTrainerUsername().isBlank()) {
+                throw new IllegalArgumentException("Rebuild chunk " + chunk.getChunkNumber() + " contains a trainer without username");
+            }
+        }
+
+        trainerWorkloadService.replaceSummaries(chunk.getTrainers().stream().map(TrainerWorkloadSnapshot::toSummary).toList());
+        log.info("Applied chunk {} of workload rebuild {} ({} trainers).",
+                chunk.getChunkNumber(), chunk.getRebuildId(), chunk.getTrainers().size());
+    }
+}
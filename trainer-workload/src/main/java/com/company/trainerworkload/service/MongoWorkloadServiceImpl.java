@@ -2,16 +2,24 @@ package com.company.trainerworkload.service;
 
 import com.company.trainerworkload.dao.TrainerSummaryRepository;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
-import com.company.trainerworkload.entity.ActionType;
-import com.company.trainerworkload.entity.MonthSummary;
+import com.company.trainerworkload.dto.WorkloadDelta;
 import com.company.trainerworkload.entity.TrainerSummary;
-import com.company.trainerworkload.entity.YearSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Service
 @Primary
 public class MongoWorkloadServiceImpl implements TrainerWorkloadService{
@@ -19,55 +27,119 @@ public class MongoWorkloadServiceImpl implements TrainerWorkloadService{
     private static final Logger log = LoggerFactory.getLogger(MongoWorkloadServiceImpl.class);
 
     private final TrainerSummaryRepository trainerSummaryRepository;
+    private WorkloadWriteBehindBuffer writeBehindBuffer;
+    private long flushWaitMs = 30000;
 
     @Autowired
     public MongoWorkloadServiceImpl(TrainerSummaryRepository trainerSummaryRepository) {
         this.trainerSummaryRepository = trainerSummaryRepository;
     }
 
+    @Autowired(required = false)
+    public void setWriteBehindBuffer(WorkloadWriteBehindBuffer writeBehindBuffer) {
+        this.writeBehindBuffer = writeBehindBuffer;
+    }
+
+    @Value("${workload.write-behind.flush-wait-ms:30000}")
+    public void setFlushWaitMs(long flushWaitMs) {
+        this.flushWaitMs = flushWaitMs;
+    }
+
+    /**
+     * Applies the event as a single atomic upsert instead of reading and re-saving the whole document.
+     */
     @Override
     public void updateWorkload(TrainerWorkloadRequest dto) {
         log.info("Processing workload event for trainer: {}", dto.getTrainerUsername());
 
-        TrainerSummary summary = getOrCreateSummary(dto.getTrainerUsername());
-
-        summary.setTrainerFirstName(dto.getTrainerFirstName());
-        summary.setTrainerLastName(dto.getTrainerLastName());
-        summary.setTrainerStatus(dto.isActive());
+        if (writeBehindBuffer != null) {
+            awaitFlush(writeBehindBuffer.enqueue(List.of(dto)));
+            return;
+        }
 
-        updateMonthlyDuration(summary, dto);
+        WorkloadDelta delta = new WorkloadDelta(dto.getTrainerUsername());
+        delta.apply(dto);
+        trainerSummaryRepository.applyDelta(delta);
 
-        trainerSummaryRepository.save(summary);
-        log.info("Successfully saved summary for trainer '{}' to MongoDB.", dto.getTrainerUsername());
+        log.info("Successfully applied workload change for trainer '{}' to MongoDB: {}",
+                dto.getTrainerUsername(), delta.getDurationChanges());
     }
 
-    private TrainerSummary getOrCreateSummary(String username) {
-        return trainerSummaryRepository.findByTrainerUsername(username)
-                .orElseGet(() -> {
-                    log.info("No document found for trainer '{}'. Creating a new one.", username);
-                    TrainerSummary newSummary = new TrainerSummary();
-                    newSummary.setTrainerUsername(username);
-                    return newSummary;
-                });
+    /**
+     * Coalesces the events per trainer and month and writes them with one bulk write,
+     * so a burst of events for the same trainer costs a single atomic upsert.
+     */
+    @Override
+    public void updateWorkloads(List<TrainerWorkloadRequest> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        if (writeBehindBuffer != null) {
+            awaitFlush(writeBehindBuffer.enqueue(dtos));
+            return;
+        }
+
+        Map<String, WorkloadDelta> deltas = new LinkedHashMap<>();
+        for (TrainerWorkloadRequest dto : dtos) {
+            deltas.computeIfAbsent(dto.getTrainerUsername(), WorkloadDelta::new).apply(dto);
+        }
+
+        trainerSummaryRepository.applyDeltas(deltas.values());
+        log.info("Coalesced {} workload events into {} trainer updates.", dtos.size(), deltas.size());
     }
 
-    private void updateMonthlyDuration(TrainerSummary summary, TrainerWorkloadRequest dto) {
-        int year = dto.getTrainingDate().getYear();
-        int month = dto.getTrainingDate().getMonthValue();
-
-        MonthSummary monthSummary = summary.getYears()
-                .computeIfAbsent(year, k -> new YearSummary())
-                .getMonths()
-                .computeIfAbsent(month, k -> new MonthSummary());
-
-        int durationChange = (dto.getActionType() == ActionType.DELETE)
-                ? -dto.getTrainingDuration()
-                : dto.getTrainingDuration();
+    /**
+     * Replaces the summaries with one bulk write. Pending write-behind events are flushed first,
+     * so they cannot be applied on top of the rebuilt totals afterwards.
+     */
+    @Override
+    public void replaceSummaries(List<TrainerSummary> summaries) {
+        if (writeBehindBuffer != null) {
+            writeBehindBuffer.flush();
+        }
+        trainerSummaryRepository.replaceSummaries(summaries);
+        if (writeBehindBuffer != null) {
+            writeBehindBuffer.evict(summaries.stream().map(TrainerSummary::getTrainerUsername).toList());
+        }
+    }
 
-        int currentDuration = monthSummary.getTrainingSummaryDuration();
-        monthSummary.setTrainingSummaryDuration(currentDuration + durationChange);
+    @Override
+    public Optional<TrainerSummary> getSummary(String username, Integer year, Integer month) {
+        if (writeBehindBuffer != null) {
+            return writeBehindBuffer.findSummary(username)
+                    .map(summary -> year == null ? summary : summary.project(year, month));
+        }
+        return trainerSummaryRepository.findSummary(username, year, month);
+    }
 
-        log.info("Updated duration for trainer '{}' for {}-{}. Old: {}, Change: {}, New: {}",
-                dto.getTrainerUsername(), year, month, currentDuration, durationChange, monthSummary.getTrainingSummaryDuration());
+    /**
+     * Blocks the consuming thread until the write-behind flush holding its events has been written,
+     * so the message is only acknowledged once the change is durable. The message is never failed while
+     * its delta is still queued, because the redelivery would be applied on top of it: if the flush has
+     * not completed within the wait, or the thread is interrupted, the consumer runs the flush itself.
+     * Only a failed flush, which discards its deltas, fails the message.
+     */
+    private void awaitFlush(CompletableFuture<Void> flush) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    flush.get(flushWaitMs, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    log.warn("Workload flush did not complete within {} ms, flushing on the consumer thread.", flushWaitMs);
+                    writeBehindBuffer.flush();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    writeBehindBuffer.flush();
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Workload flush did not complete", e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 }
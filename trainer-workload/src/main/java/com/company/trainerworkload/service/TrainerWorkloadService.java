@@ -1,7 +1,19 @@
 package com.company.trainerworkload.service;
 
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.entity.TrainerSummary;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface TrainerWorkloadService {
     void updateWorkload(TrainerWorkloadRequest dto);
+
+    Optional<TrainerSummary> getSummary(String username, Integer year, Integer month);
+
+    void replaceSummaries(List<TrainerSummary> summaries);
+
+    default void updateWorkloads(List<TrainerWorkloadRequest> dtos) {
+        dtos.forEach(this::updateWorkload);
+    }
 }
@@ -0,0 +1,82 @@
+package com.company.trainerworkload.service;
+
+import com.company.trainerworkload.dao.TrainerSummaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tells which workload events were already applied, so redelivered or replayed messages can be dropped.
+ * The ids are recorded on the trainer summary by the same upsert that applies the event, so an event is
+ * never counted without its id being stored. Recently seen ids are answered from a bounded in-memory cache,
+ * everything else is looked up on the trainer summaries, which keep ids for {@code workload.dedup.retention-hours}.
+ * This check only saves the write: an event that slips past it, for example a concurrent redelivery, is still
+ * left out by the upsert itself.
+ * Events without an id, sent by producers that predate event ids, are never treated as duplicates.
+ */
+@Component
+public class WorkloadEventDeduplicator {
+
+    private final TrainerSummaryRepository trainerSummaryRepository;
+    private final Cache<String, Boolean> recentEventIds;
+
+    @Autowired
+    public WorkloadEventDeduplicator(TrainerSummaryRepository trainerSummaryRepository,
+                                     @Value("${workload.dedup.cache-max-size:100000}") long cacheMaxSize,
+                                     @Value("${workload.dedup.cache-ttl-seconds:3600}") long cacheTtlSeconds) {
+        this.trainerSummaryRepository = trainerSummaryRepository;
+        this.recentEventIds = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    public boolean isProcessed(String eventId) {
+        return eventId != null && !findProcessed(List.of(eventId)).isEmpty();
+    }
+
+    /**
+     * Returns the given ids that were already applied, with a single lookup for all cache misses.
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        Set<String> unknown = new HashSet<>();
+        for (String eventId : eventIds) {
+            if (eventId == null) {
+                continue;
+            }
+            if (recentEventIds.getIfPresent(eventId) != null) {
+                processed.add(eventId);
+            } else {
+                unknown.add(eventId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (String eventId : trainerSummaryRepository.findAppliedEventIds(unknown)) {
+                recentEventIds.put(eventId, Boolean.TRUE);
+                processed.add(eventId);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Caches the ids of events that have just been applied. The ids themselves were stored with the events.
+     */
+    public void rememberApplied(Collection<String> eventIds) {
+        for (String eventId : eventIds) {
+            if (eventId != null) {
+                recentEventIds.put(eventId, Boolean.TRUE);
+            }
+        }
+    }
+}
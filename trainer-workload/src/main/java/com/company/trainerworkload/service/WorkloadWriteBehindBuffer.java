@@ -0,0 +1,172 @@
+package com.company.trainerworkload.service;
+
+import com.company.trainerworkload.dao.TrainerSummaryRepository;
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind tier in front of {@link TrainerSummaryRepository}. Workload events are coalesced per trainer
+ * in memory and persisted with one bulk write when the flush interval elapses or the number of pending events
+ * reaches the threshold. Callers receive a future that completes once the flush containing their events has
+ * been written, so message acknowledgement can be held back until the data is durable.
+ * Trainer summaries read through this tier are kept in a bounded cache that is invalidated on every flush.
+ * Because each consumer waits for a flush, the tier pays off with several concurrent consumers, for example
+ * {@code workload.listener.mode=batch} with {@code workload.listener.batch-consumers} above one.
+ */
+@Component
+@ConditionalOnProperty(name = "workload.write-behind.enabled", havingValue = "true")
+public class WorkloadWriteBehindBuffer implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadWriteBehindBuffer.class);
+
+    private final TrainerSummaryRepository trainerSummaryRepository;
+    private final int maxPendingEvents;
+    private final AsyncCache<String, TrainerSummary> summaryCache;
+    private final AtomicLong cacheGeneration = new AtomicLong();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("workload-flush-"));
+
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Map<String, WorkloadDelta> pendingDeltas = new LinkedHashMap<>();
+    private CompletableFuture<Void> pendingFlush = new CompletableFuture<>();
+    private int pendingEvents;
+
+    @Autowired
+    public WorkloadWriteBehindBuffer(TrainerSummaryRepository trainerSummaryRepository,
+                                     @Value("${workload.write-behind.max-pending-events:1000}") int maxPendingEvents,
+                                     @Value("${workload.write-behind.cache-max-size:10000}") long cacheMaxSize,
+                                     @Value("${workload.write-behind.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.trainerSummaryRepository = trainerSummaryRepository;
+        this.maxPendingEvents = maxPendingEvents;
+        this.summaryCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * Adds the events to the pending deltas and returns the future of the flush that will persist them.
+     */
+    public CompletableFuture<Void> enqueue(List<TrainerWorkloadRequest> dtos) {
+        CompletableFuture<Void> flush;
+        boolean thresholdReached;
+        pendingLock.lock();
+        try {
+            for (TrainerWorkloadRequest dto : dtos) {
+                pendingDeltas.computeIfAbsent(dto.getTrainerUsername(), WorkloadDelta::new).apply(dto);
+            }
+            pendingEvents += dtos.size();
+            flush = pendingFlush;
+            thresholdReached = pendingEvents >= maxPendingEvents;
+        } finally {
+            pendingLock.unlock();
+        }
+
+        if (thresholdReached) {
+            flusher.execute(this::flush);
+        }
+        return flush;
+    }
+
+    @Scheduled(fixedDelayString = "${workload.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<String, WorkloadDelta> deltas;
+            CompletableFuture<Void> flush;
+            int events;
+            pendingLock.lock();
+            try {
+                if (pendingDeltas.isEmpty()) {
+                    return;
+                }
+                deltas = pendingDeltas;
+                flush = pendingFlush;
+                events = pendingEvents;
+                pendingDeltas = new LinkedHashMap<>();
+                pendingFlush = new CompletableFuture<>();
+                pendingEvents = 0;
+            } finally {
+                pendingLock.unlock();
+            }
+
+            try {
+                trainerSummaryRepository.applyDeltas(deltas.values());
+                invalidate(deltas.keySet());
+                flush.complete(null);
+                log.debug("Flushed {} workload events for {} trainers.", events, deltas.size());
+            } catch (RuntimeException e) {
+                invalidate(deltas.keySet());
+                log.error("Failed to flush {} workload events for {} trainers.", events, deltas.size(), e);
+                flush.completeExceptionally(e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public void evict(Collection<String> usernames) {
+        invalidate(usernames);
+    }
+
+    private void invalidate(Collection<String> usernames) {
+        cacheGeneration.incrementAndGet();
+        summaryCache.synchronous().invalidateAll(usernames);
+    }
+
+    /**
+     * Loads a missing summary on the calling thread rather than inside the cache's synchronized compute, so
+     * a virtual thread waiting for Mongo does not pin its carrier. Concurrent readers of the same trainer
+     * wait for the pending load. A load that overlapped any invalidation may have read the summary before
+     * the flush was written, so it is returned to the caller but dropped from the cache.
+     */
+    public Optional<TrainerSummary> findSummary(String username) {
+        long generation = cacheGeneration.get();
+        CompletableFuture<TrainerSummary> loading = new CompletableFuture<>();
+        CompletableFuture<TrainerSummary> existing = summaryCache.asMap().putIfAbsent(username, loading);
+        if (existing != null) {
+            return Optional.ofNullable(existing.join());
+        }
+        try {
+            TrainerSummary summary = trainerSummaryRepository.findSummary(username, null, null).orElse(null);
+            loading.complete(summary);
+            if (cacheGeneration.get() != generation) {
+                summaryCache.asMap().remove(username, loading);
+            }
+            return Optional.ofNullable(summary);
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        flusher.shutdown();
+    }
+}
@@ -0,0 +1,152 @@
+package com.company.trainerworkload.benchmark;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the footprint of 100k trainers with three years of history in the previous
+ * map-of-MonthSummary layout and the compact int[12] layout, on heap and as BSON.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of the build benchmarks is the heap cost of
+ * all trainers, the encode benchmarks return the total BSON size. {@link #main} also prints
+ * the retained heap and BSON sizes directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TrainerSummaryFootprintBenchmark {
+
+    private static final int TRAINERS = 100_000;
+    private static final int[] YEARS = {2024, 2025, 2026};
+
+    @Benchmark
+    public List<LegacyTrainerSummary> buildLegacyLayout() {
+        List<LegacyTrainerSummary> summaries = new ArrayList<>(TRAINERS);
+        for (int i = 0; i < TRAINERS; i++) {
+            LegacyTrainerSummary summary = new LegacyTrainerSummary();
+            for (int year : YEARS) {
+                LegacyYearSummary yearSummary = summary.years.computeIfAbsent(year, k -> new LegacyYearSummary());
+                for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                    yearSummary.months.computeIfAbsent(month, k -> new LegacyMonthSummary())
+                            .trainingSummaryDuration = duration(i, month);
+                }
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public List<TrainerSummary> buildCompactLayout() {
+        List<TrainerSummary> summaries = new ArrayList<>(TRAINERS);
+        for (int i = 0; i < TRAINERS; i++) {
+            TrainerSummary summary = new TrainerSummary();
+            for (int year : YEARS) {
+                YearSummary yearSummary = summary.getYears().computeIfAbsent(year, k -> new YearSummary());
+                for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                    yearSummary.setDuration(month, duration(i, month));
+                }
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public long encodeLegacyBson() {
+        long bytes = 0;
+        for (int i = 0; i < TRAINERS; i++) {
+            Document years = new Document();
+            for (int year : YEARS) {
+                Document months = new Document();
+                for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                    months.append(String.valueOf(month), new Document("trainingSummaryDuration", duration(i, month)));
+                }
+                years.append(String.valueOf(year), new Document("months", months));
+            }
+            bytes += bsonSize(new Document("username", "trainer." + i).append("years", years));
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public long encodeCompactBson() {
+        long bytes = 0;
+        for (int i = 0; i < TRAINERS; i++) {
+            Document years = new Document();
+            for (int year : YEARS) {
+                List<Integer> months = new ArrayList<>(YearSummary.MONTHS_IN_YEAR);
+                for (int month = 1; month <= YearSummary.MONTHS_IN_YEAR; month++) {
+                    months.add(duration(i, month));
+                }
+                years.append(String.valueOf(year), new Document("months", months));
+            }
+            bytes += bsonSize(new Document("username", "trainer." + i).append("years", years));
+        }
+        return bytes;
+    }
+
+    private static int duration(int trainer, int month) {
+        return (trainer + month) % 240;
+    }
+
+    private static int bsonSize(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+    }
+
+    public static class LegacyTrainerSummary {
+        final Map<Integer, LegacyYearSummary> years = new ConcurrentHashMap<>();
+    }
+
+    public static class LegacyYearSummary {
+        final Map<Integer, LegacyMonthSummary> months = new ConcurrentHashMap<>();
+    }
+
+    public static class LegacyMonthSummary {
+        int trainingSummaryDuration;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        TrainerSummaryFootprintBenchmark benchmark = new TrainerSummaryFootprintBenchmark();
+        System.out.printf("Retained heap, legacy layout:  %,d bytes%n", retainedHeap(benchmark::buildLegacyLayout));
+        System.out.printf("Retained heap, compact layout: %,d bytes%n", retainedHeap(benchmark::buildCompactLayout));
+        System.out.printf("BSON, legacy layout:  %,d bytes%n", benchmark.encodeLegacyBson());
+        System.out.printf("BSON, compact layout: %,d bytes%n", benchmark.encodeCompactBson());
+
+        Options options = new OptionsBuilder()
+                .include(TrainerSummaryFootprintBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static long retainedHeap(Supplier<List<?>> builder) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        List<?> retained = builder.get();
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        if (retained.isEmpty()) {
+            throw new IllegalStateException("Nothing was built");
+        }
+        return after - before;
+    }
+}
@@ -4,7 +4,6 @@ import com.company.trainerworkload.component.ComponentTestBase;
 import com.company.trainerworkload.dao.TrainerSummaryRepository;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
 import com.company.trainerworkload.entity.ActionType;
-import com.company.trainerworkload.entity.MonthSummary;
 import com.company.trainerworkload.entity.TrainerSummary;
 import com.company.trainerworkload.entity.YearSummary;
 import io.cucumber.java.Before;
@@ -49,11 +48,8 @@ public class WorkloadStepDefinitions extends ComponentTestBase {
         summary.setTrainerLastName("Doe");
         summary.setTrainerStatus(true);
 
-        MonthSummary monthSummary = new MonthSummary();
-        monthSummary.setTrainingSummaryDuration(duration);
-
         YearSummary yearSummary = new YearSummary();
-        yearSummary.getMonths().put(month, monthSummary);
+        yearSummary.setDuration(month, duration);
 
         summary.getYears().put(year, yearSummary);
 
@@ -110,9 +106,7 @@ public class WorkloadStepDefinitions extends ComponentTestBase {
             TrainerSummary summary = summaryOpt.get();
             int actualDuration = summary.getYears()
                     .get(year)
-                    .getMonths()
-                    .get(month)
-                    .getTrainingSummaryDuration();
+                    .getDuration(month);
 
             assertThat(actualDuration).isEqualTo(expectedDuration);
         });
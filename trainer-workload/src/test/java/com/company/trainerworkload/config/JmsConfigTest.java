@@ -0,0 +1,55 @@
+package com.company.trainerworkload.config;
+
+import jakarta.jms.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JmsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JmsAutoConfiguration.class))
+            .withUserConfiguration(JmsConfig.class)
+            .withBean(ConnectionFactory.class, () -> mock(ConnectionFactory.class));
+
+    @Test
+    void listenerContainers_RunOnVirtualThreadsWhenEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            TaskExecutor taskExecutor = listenerTaskExecutor(context);
+            assertNotNull(taskExecutor);
+
+            CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+            taskExecutor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+            assertTrue(virtual.get(5, TimeUnit.SECONDS));
+        });
+    }
+
+    @Test
+    void listenerContainers_KeepDefaultExecutorWhenDisabled() {
+        contextRunner.run(context -> assertNull(listenerTaskExecutor(context)));
+    }
+
+    private static TaskExecutor listenerTaskExecutor(ApplicationContext context) {
+        DefaultJmsListenerContainerFactory factory =
+                context.getBean("jmsListenerContainerFactory", DefaultJmsListenerContainerFactory.class);
+        SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+        endpoint.setDestination("trainer.workload.queue");
+        endpoint.setMessageListener(message -> {
+        });
+        DefaultMessageListenerContainer container = factory.createListenerContainer(endpoint);
+        return (TaskExecutor) ReflectionTestUtils.getField(container, "taskExecutor");
+    }
+}
@@ -0,0 +1,74 @@
+package com.company.trainerworkload.config;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.entity.ActionType;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Message;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadMessageConverterTest {
+
+    /** Wire format v1 as produced by the gym-crm converter. */
+    private static final byte[] BINARY_V1_FIXTURE = HexFormat.of().parseHex(
+            "0101000c6a616e652e747261696e65720100044a616e65010007547261696e6572010100004d8d0000003c01");
+
+    @Mock
+    private MessageConverter jsonConverter;
+
+    @Test
+    void fromMessage_shouldDecodeBinaryMessage() throws Exception {
+        BytesMessage message = mock(BytesMessage.class);
+        when(message.getStringProperty(WorkloadMessageConverter.FORMAT_PROPERTY)).thenReturn(WorkloadMessageConverter.BINARY_V1);
+        when(message.getStringProperty(WorkloadMessageConverter.EVENT_ID_PROPERTY)).thenReturn("event-1");
+        when(message.getBodyLength()).thenReturn((long) BINARY_V1_FIXTURE.length);
+        doAnswer(invocation -> {
+            byte[] target = invocation.getArgument(0);
+            System.arraycopy(BINARY_V1_FIXTURE, 0, target, 0, BINARY_V1_FIXTURE.length);
+            return BINARY_V1_FIXTURE.length;
+        }).when(message).readBytes(any(byte[].class));
+
+        TrainerWorkloadRequest request = (TrainerWorkloadRequest) new WorkloadMessageConverter(jsonConverter, false)
+                .fromMessage(message);
+
+        assertEquals("jane.trainer", request.getTrainerUsername());
+        assertEquals("Jane", request.getTrainerFirstName());
+        assertEquals("Trainer", request.getTrainerLastName());
+        assertTrue(request.isActive());
+        assertEquals(LocalDate.of(2024, 5, 10), request.getTrainingDate());
+        assertEquals(60, request.getTrainingDuration());
+        assertEquals(ActionType.ADD, request.getActionType());
+        assertEquals("event-1", request.getEventId());
+        verifyNoInteractions(jsonConverter);
+    }
+
+    @Test
+    void fromMessage_shouldDelegateJsonMessages() throws Exception {
+        Message message = mock(TextMessage.class);
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest();
+        when(jsonConverter.fromMessage(message)).thenReturn(request);
+
+        assertSame(request, new WorkloadMessageConverter(jsonConverter, false).fromMessage(message));
+    }
+
+    @Test
+    void decode_shouldRejectUnknownVersion() {
+        byte[] payload = BINARY_V1_FIXTURE.clone();
+        payload[0] = 9;
+
+        assertThrows(MessageConversionException.class, () -> WorkloadMessageConverter.decode(payload));
+    }
+}
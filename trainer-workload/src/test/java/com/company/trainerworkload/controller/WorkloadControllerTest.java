@@ -1,10 +1,13 @@
 package com.company.trainerworkload.controller;
 
-import com.company.trainerworkload.dao.WorkloadRepositoryImpl;
+import com.company.trainerworkload.dto.TrainerSummaryResponse;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
 import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
 import com.company.trainerworkload.service.TrainerWorkloadService;
 import com.company.trainerworkload.service.TrainerWorkloadServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,8 +16,10 @@ import org.springframework.http.ResponseEntity;
 
 import java.security.Principal;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -22,14 +27,12 @@ import static org.mockito.Mockito.*;
 class WorkloadControllerTest {
 
     private TrainerWorkloadService trainerWorkloadService;
-    private WorkloadRepositoryImpl workloadRepository;
     private WorkloadController workloadController;
 
     @BeforeEach
     void setUp() {
         trainerWorkloadService = Mockito.mock(TrainerWorkloadServiceImpl.class);
-        workloadRepository = Mockito.mock(WorkloadRepositoryImpl.class);
-        workloadController = new WorkloadController(trainerWorkloadService, workloadRepository);
+        workloadController = new WorkloadController(trainerWorkloadService);
     }
 
     @Test
@@ -46,18 +49,18 @@ class WorkloadControllerTest {
     void getSummary_whenPrincipalDoesNotMatch() {
         Principal principal = () -> "otherUser";
 
-        ResponseEntity<TrainerSummary> response = workloadController.getSummary("john", principal);
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", null, null, principal);
 
         assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-        verify(workloadRepository, never()).findByUsername(anyString());
+        verify(trainerWorkloadService, never()).getSummary(anyString(), any(), any());
     }
 
     @Test
     void getSummary_whenSummaryIsNull() {
         Principal principal = () -> "john";
-        when(workloadRepository.findByUsername("john")).thenReturn(Optional.empty());
+        when(trainerWorkloadService.getSummary("john", null, null)).thenReturn(Optional.empty());
 
-        ResponseEntity<TrainerSummary> response = workloadController.getSummary("john", principal);
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", null, null, principal);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
@@ -70,11 +73,54 @@ class WorkloadControllerTest {
         summary.setTrainerLastName("Doe");
         summary.setTrainerStatus(true);
 
-        when(workloadRepository.findByUsername("john")).thenReturn(Optional.of(summary));
+        when(trainerWorkloadService.getSummary("john", null, null)).thenReturn(Optional.of(summary));
 
-        ResponseEntity<TrainerSummary> response = workloadController.getSummary("john", principal);
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", null, null, principal);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(summary, response.getBody());
+        assertEquals("John", response.getBody().getTrainerFirstName());
+        assertTrue(response.getBody().isTrainerStatus());
+    }
+
+    @Test
+    void getSummary_withYearAndMonth_shouldRequestProjection() {
+        Principal principal = () -> "john";
+        TrainerSummary summary = new TrainerSummary();
+        summary.getYears().put(2026, new YearSummary());
+        when(trainerWorkloadService.getSummary("john", 2026, 3)).thenReturn(Optional.of(summary));
+
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", 2026, 3, principal);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Set.of(3), response.getBody().getYears().get(2026).getMonths().keySet());
+        assertEquals(0, response.getBody().getYears().get(2026).getMonths().get(3).getTrainingSummaryDuration());
+    }
+
+    @Test
+    void getSummary_shouldKeepTheMonthMapJsonShape() throws Exception {
+        Principal principal = () -> "john";
+        TrainerSummary summary = new TrainerSummary();
+        summary.setTrainerUsername("john");
+        summary.getYears().put(2024, new YearSummary(new int[]{0, 0, 0, 0, 0, 45, 30, 0, 0, 0, 0, 0}));
+        when(trainerWorkloadService.getSummary("john", null, null)).thenReturn(Optional.of(summary));
+
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", null, null, principal);
+
+        JsonNode json = new ObjectMapper().valueToTree(response.getBody());
+        assertEquals("john", json.get("trainerUsername").asText());
+        JsonNode months = json.get("years").get("2024").get("months");
+        assertEquals(2, months.size());
+        assertEquals(45, months.get("6").get("trainingSummaryDuration").asInt());
+        assertEquals(30, months.get("7").get("trainingSummaryDuration").asInt());
+    }
+
+    @Test
+    void getSummary_withMonthButNoYear_shouldReturnBadRequest() {
+        Principal principal = () -> "john";
+
+        ResponseEntity<TrainerSummaryResponse> response = workloadController.getSummary("john", null, 3, principal);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(trainerWorkloadService, never()).getSummary(anyString(), any(), any());
     }
 }
@@ -0,0 +1,107 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.config.MongoConfig;
+import com.company.trainerworkload.entity.TrainerSummary;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerSummaryIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private TrainerSummaryIndexInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.indexOps(TrainerSummary.class)).thenReturn(indexOperations);
+        initializer = new TrainerSummaryIndexInitializer(mongoTemplate);
+    }
+
+    @Test
+    void afterPropertiesSet_shouldMergeDuplicatesBeforeCreatingTheUniqueIndex() {
+        Document legacy = new Document("_id", "a").append("username", "john.doe").append("firstName", "Jon")
+                .append("years", new Document("2024", new Document("months",
+                        new Document("6", new Document("trainingSummaryDuration", 45)))));
+        Document compact = new Document("_id", "b").append("username", "john.doe").append("firstName", "John")
+                .append("status", true)
+                .append("years", new Document("2024", new Document("months", List.of(0, 0, 0, 0, 0, 15, 30, 0, 0, 0, 0, 0)))
+                        .append("2025", new Document("months", List.of(10, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0))));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("trainer_summaries"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(new Document("_id", "john.doe").append("ids", List.of("a", "b"))), new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("trainer_summaries"))).thenReturn(List.of(legacy, compact));
+
+        initializer.afterPropertiesSet();
+
+        ArgumentCaptor<Query> keptCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<Query> removedCaptor = ArgumentCaptor.forClass(Query.class);
+        var inOrder = inOrder(mongoTemplate, indexOperations);
+        inOrder.verify(mongoTemplate).updateFirst(keptCaptor.capture(), updateCaptor.capture(), eq("trainer_summaries"));
+        inOrder.verify(mongoTemplate).remove(removedCaptor.capture(), eq("trainer_summaries"));
+        inOrder.verify(indexOperations, atLeastOnce()).ensureIndex(any(IndexDefinition.class));
+
+        assertEquals("a", keptCaptor.getValue().getQueryObject().get("_id"));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals("John", set.get("firstName"));
+        Document years = (Document) set.get("years");
+        assertEquals(List.of(0, 0, 0, 0, 0, 60, 30, 0, 0, 0, 0, 0), List.copyOf((Collection<?>) ((Document) years.get("2024")).get("months")));
+        assertEquals(10, ((List<?>) ((Document) years.get("2025")).get("months")).get(0));
+        Document removed = (Document) removedCaptor.getValue().getQueryObject().get("_id");
+        assertEquals(List.of("b"), List.copyOf((Collection<?>) removed.get("$in")));
+    }
+
+    @Test
+    void afterPropertiesSet_shouldCreateTheUniqueUsernameIndex() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("trainer_summaries"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        initializer.afterPropertiesSet();
+
+        ArgumentCaptor<IndexDefinition> indexCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, atLeastOnce()).ensureIndex(indexCaptor.capture());
+        Document usernameIndex = indexCaptor.getAllValues().stream()
+                .filter(index -> "username_idx".equals(index.getIndexOptions().get("name")))
+                .findFirst().orElseThrow().getIndexOptions();
+        assertTrue(usernameIndex.getBoolean("unique"));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), any(String.class));
+    }
+}
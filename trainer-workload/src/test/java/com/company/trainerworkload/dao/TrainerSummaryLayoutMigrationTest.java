@@ -0,0 +1,79 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.entity.TrainerSummary;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerSummaryLayoutMigrationTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private TrainerSummaryLayoutMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new TrainerSummaryLayoutMigration(mongoTemplate, 500);
+    }
+
+    @Test
+    void afterPropertiesSet_shouldRewriteLegacyDocumentsOnly() {
+        Document legacy = new Document("_id", "a").append("years", new Document("2024",
+                new Document("months", new Document("6", new Document("trainingSummaryDuration", 45)))));
+        Document compact = new Document("_id", "b").append("years", new Document("2024",
+                new Document("months", List.of(0, 0, 0, 0, 0, 45, 0, 0, 0, 0, 0, 0))));
+
+        when(mongoTemplate.exists(any(Query.class), eq(TrainerSummaryLayoutMigration.MIGRATIONS_COLLECTION))).thenReturn(false);
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("trainer_summaries")))
+                .thenReturn(Stream.of(legacy, compact));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "trainer_summaries")).thenReturn(bulkOperations);
+
+        migration.afterPropertiesSet();
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), updateCaptor.capture());
+        verify(bulkOperations).execute();
+        assertEquals(List.of(0, 0, 0, 0, 0, 45, 0, 0, 0, 0, 0, 0),
+                ((Document) updateCaptor.getValue().getUpdateObject().get("$set")).get("years.2024.months"));
+        verify(mongoTemplate).insert(any(Document.class), eq(TrainerSummaryLayoutMigration.MIGRATIONS_COLLECTION));
+    }
+
+    @Test
+    void afterPropertiesSet_shouldSkipWhenAlreadyApplied() {
+        when(mongoTemplate.exists(any(Query.class), eq(TrainerSummaryLayoutMigration.MIGRATIONS_COLLECTION))).thenReturn(true);
+
+        migration.afterPropertiesSet();
+
+        verify(mongoTemplate, never()).stream(any(Query.class), any(), any(String.class));
+    }
+
+    @Test
+    void toCompactLayout_shouldIgnoreCompactDocuments() {
+        Document compact = new Document("years", new Document("2024", new Document("months", List.of(1, 2, 3))));
+
+        assertNull(TrainerSummaryLayoutMigration.toCompactLayout(compact));
+    }
+}
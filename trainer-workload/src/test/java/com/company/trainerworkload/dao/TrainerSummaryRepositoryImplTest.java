@@ -0,0 +1,262 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.ActionType;
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerSummaryRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private TrainerSummaryRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TrainerSummaryRepositoryImpl(mongoTemplate, 168);
+    }
+
+    @Test
+    void applyDeltas_shouldUpsertEachTrainerInOneBulkWrite() {
+        WorkloadDelta delta = new WorkloadDelta("john.doe");
+        delta.apply(new TrainerWorkloadRequest("john.doe", "John", "Doe", true, LocalDate.of(2024, 6, 1), 60, ActionType.ADD));
+        delta.apply(new TrainerWorkloadRequest("john.doe", "John", "Doe", false, LocalDate.of(2024, 6, 20), 15, ActionType.DELETE));
+        delta.apply(new TrainerWorkloadRequest("john.doe", "John", "Doe", false, LocalDate.of(2024, 7, 2), 30, ActionType.ADD));
+
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "trainer_summaries")).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+
+        repository.applyDeltas(List.of(delta));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(bulkOperations).upsert(queryCaptor.capture(), updateCaptor.capture());
+        verify(bulkOperations).execute();
+
+        assertEquals("john.doe", queryCaptor.getValue().getQueryObject().get("username"));
+        Document set = setStage(updateCaptor.getValue());
+        assertEquals(List.of(0, 0, 0, 0, 0, 45, 30, 0, 0, 0, 0, 0), monthChanges(set, 2024));
+        assertEquals(new Document("$literal", false), set.get("status"));
+    }
+
+    @Test
+    void applyDelta_shouldUpsertWithIncrement() {
+        WorkloadDelta delta = new WorkloadDelta("jane.doe");
+        delta.apply(new TrainerWorkloadRequest("jane.doe", "Jane", "Doe", true, LocalDate.of(2025, 1, 15), 35, ActionType.ADD));
+
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.upsert(any(Query.class), any(AggregationUpdate.class), eq("trainer_summaries")))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        repository.applyDelta(delta);
+
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).upsert(any(Query.class), updateCaptor.capture(), eq("trainer_summaries"));
+        Document set = setStage(updateCaptor.getValue());
+        assertEquals(List.of(35, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0), monthChanges(set, 2025));
+        assertEquals(new Document("$literal", "Jane"), set.get("firstName"));
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(TrainerSummary.class));
+    }
+
+    @Test
+    void findSummary_withYearAndMonth_shouldProjectSingleMonth() {
+        TrainerSummary summary = new TrainerSummary();
+        YearSummary year = new YearSummary();
+        year.setDuration(2, 20);
+        year.setDuration(3, 45);
+        summary.getYears().put(2026, year);
+        when(mongoTemplate.findOne(any(Query.class), eq(TrainerSummary.class))).thenReturn(summary);
+
+        TrainerSummary result = repository.findSummary("john.doe", 2026, 3).orElseThrow();
+
+        assertEquals(45, result.getYears().get(2026).getDuration(3));
+        assertEquals(0, result.getYears().get(2026).getDuration(2));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(TrainerSummary.class));
+        Document fields = queryCaptor.getValue().getFieldsObject();
+        assertEquals(1, fields.get("years.2026"));
+        assertEquals(1, fields.get("username"));
+        assertFalse(fields.containsKey("years"));
+    }
+
+    @Test
+    void findSummary_withoutYear_shouldLoadWholeHistoryWithoutEventIds() {
+        when(mongoTemplate.findOne(any(Query.class), eq(TrainerSummary.class))).thenReturn(null);
+
+        assertTrue(repository.findSummary("john.doe", null, null).isEmpty());
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(queryCaptor.capture(), eq(TrainerSummary.class));
+        assertEquals(new Document("appliedEvents", 0), queryCaptor.getValue().getFieldsObject());
+    }
+
+    @Test
+    void replaceSummaries_shouldSetWholeWorkloadInOneBulkWriteKeepingEventIds() {
+        TrainerSummary summary = new TrainerSummary();
+        summary.setTrainerUsername("john.doe");
+        summary.getYears().put(2024, new YearSummary(new int[]{0, 0, 0, 0, 0, 45, 30, 0, 0, 0, 0, 0}));
+
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "trainer_summaries")).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+
+        repository.replaceSummaries(List.of(summary));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).upsert(queryCaptor.capture(), updateCaptor.capture());
+        verify(bulkOperations).execute();
+        assertEquals("john.doe", queryCaptor.getValue().getQueryObject().get("username"));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals("john.doe", set.get("username"));
+        assertTrue(set.containsKey("years"));
+        assertFalse(set.containsKey("appliedEvents"));
+    }
+
+    @Test
+    void applyDelta_shouldLeaveOutAlreadyAppliedEventsInsteadOfFilteringTheTrainer() {
+        WorkloadDelta delta = new WorkloadDelta("jane.doe");
+        delta.apply(event("event-1", 35));
+        delta.apply(event("event-2", 10));
+
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.upsert(any(Query.class), any(AggregationUpdate.class), eq("trainer_summaries")))
+                .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+        repository.applyDelta(delta);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> updateCaptor = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).upsert(queryCaptor.capture(), updateCaptor.capture(), eq("trainer_summaries"));
+        assertEquals(new Document("username", "jane.doe"), queryCaptor.getValue().getQueryObject());
+
+        List<Document> pipeline = updateCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(3, pipeline.size());
+        Document alreadyApplied = (Document) ((Document) pipeline.get(0).get("$set")).get("alreadyAppliedEventIds");
+        List<?> intersected = (List<?>) alreadyApplied.get("$setIntersection");
+        assertEquals(new Document("$ifNull", List.of("$appliedEvents.id", List.of())), intersected.get(0));
+        assertEquals(new Document("$literal", List.of("event-1", "event-2")), intersected.get(1));
+        assertEquals(new Document("$unset", "alreadyAppliedEventIds"), pipeline.get(2));
+
+        Document set = setStage(updateCaptor.getValue());
+        List<?> januaryChange = (List<?>) ((Document) monthChanges(set, 2025).get(0)).get("$subtract");
+        assertEquals(45, januaryChange.get(0));
+        assertEquals(new Document("$add", List.of(appliedChange("event-1", 35), appliedChange("event-2", 10))), januaryChange.get(1));
+        assertTrue(((Document) set.get("firstName")).containsKey("$cond"));
+    }
+
+    @Test
+    void applyDelta_shouldKeepAppliedEventIdsForTheRetentionInsteadOfACount() {
+        WorkloadDelta delta = new WorkloadDelta("jane.doe");
+        delta.apply(event("event-1", 35));
+
+        Document applied = (Document) setStage(repository.toUpdate(delta)).get("appliedEvents");
+        List<?> concatenated = (List<?>) applied.get("$concatArrays");
+
+        Document retained = (Document) ((Document) concatenated.get(0)).get("$filter");
+        Document cutoff = new Document("$subtract", List.of("$$NOW", Duration.ofHours(168).toMillis()));
+        assertEquals(new Document("$gte", List.of("$$event.at", cutoff)), retained.get("cond"));
+
+        Document recorded = (Document) ((Document) concatenated.get(1)).get("$map");
+        assertEquals(new Document("$setDifference", List.of(new Document("$literal", List.of("event-1")), "$alreadyAppliedEventIds")),
+                recorded.get("input"));
+        assertEquals(new Document("id", "$$id").append("at", "$$NOW"), recorded.get("in"));
+    }
+
+    @Test
+    void applyDelta_withoutEventIds_shouldApplyUnconditionally() {
+        WorkloadDelta delta = new WorkloadDelta("jane.doe");
+        delta.apply(new TrainerWorkloadRequest("jane.doe", "Jane", "Doe", true, LocalDate.of(2025, 1, 15), 35, ActionType.ADD));
+
+        List<Document> pipeline = repository.toUpdate(delta).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(1, pipeline.size());
+        Document set = (Document) pipeline.get(0).get("$set");
+        assertFalse(set.containsKey("appliedEvents"));
+        assertEquals(new Document("$literal", "Jane"), set.get("firstName"));
+    }
+
+    @Test
+    void findAppliedEventIds_shouldReturnOnlyRequestedIds() {
+        when(mongoTemplate.getCollectionName(TrainerSummary.class)).thenReturn("trainer_summaries");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("trainer_summaries")))
+                .thenReturn(List.of(new Document("appliedEvents", List.of(new Document("id", "event-0"), new Document("id", "event-1")))));
+
+        assertEquals(Set.of("event-1"), repository.findAppliedEventIds(Set.of("event-1", "event-2")));
+    }
+
+    @Test
+    void applyDeltas_shouldSkipEmptyBatch() {
+        repository.applyDeltas(List.of());
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(String.class));
+    }
+
+    private static TrainerWorkloadRequest event(String eventId, int duration) {
+        TrainerWorkloadRequest request = new TrainerWorkloadRequest("jane.doe", "Jane", "Doe", true, LocalDate.of(2025, 1, 15), duration, ActionType.ADD);
+        request.setEventId(eventId);
+        return request;
+    }
+
+    private static Document appliedChange(String eventId, int duration) {
+        return new Document("$cond", List.of(
+                new Document("$in", List.of(new Document("$literal", eventId), "$alreadyAppliedEventIds")), duration, 0));
+    }
+
+    /**
+     * Returns the stage that sets the trainer details and months, which is the only stage without event ids.
+     */
+    private static Document setStage(AggregationUpdate update) {
+        List<Document> pipeline = update.toPipeline(Aggregation.DEFAULT_CONTEXT);
+        return (Document) pipeline.get(pipeline.size() == 1 ? 0 : 1).get("$set");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> monthChanges(Document set, int year) {
+        Document perMonth = (Document) ((Document) ((Document) set.get("years." + year + ".months")).get("$let")).get("in");
+        Document sum = (Document) ((Document) perMonth.get("$map")).get("in");
+        Document changeAt = (Document) ((List<Object>) sum.get("$add")).get(1);
+        return (List<Object>) ((List<Object>) changeAt.get("$arrayElemAt")).get(0);
+    }
+}
@@ -1,12 +1,19 @@
 package com.company.trainerworkload.dao;
 
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.ActionType;
 import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.entity.YearSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
-import java.util.Map;
+import java.time.LocalDate;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -15,12 +22,14 @@ public class WorkloadRepositoryImplTest {
     private WorkloadRepositoryImpl workloadRepository;
 
     @BeforeEach
-    void setUp() throws Exception {
+    void setUp() {
         workloadRepository = new WorkloadRepositoryImpl();
-        Field databaseField = WorkloadRepositoryImpl.class.getDeclaredField("database");
-        databaseField.setAccessible(true);
-        Map<String, TrainerSummary> database = (Map<String, TrainerSummary>) databaseField.get(null);
-        database.clear();
+    }
+
+    private static WorkloadDelta delta(String username, int duration, ActionType actionType, LocalDate date) {
+        WorkloadDelta delta = new WorkloadDelta(username);
+        delta.apply(new TrainerWorkloadRequest(username, "John", "Doe", true, date, duration, actionType));
+        return delta;
     }
 
     @Test
@@ -59,4 +68,59 @@ public class WorkloadRepositoryImplTest {
         assertTrue(result.isPresent());
         assertEquals("Janet", result.get().getTrainerFirstName());
     }
+
+    @Test
+    void applyDelta_shouldAccumulateMonthDurations() {
+        LocalDate date = LocalDate.of(2025, 8, 21);
+        workloadRepository.applyDelta(delta("john.doe", 100, ActionType.ADD, date));
+        workloadRepository.applyDelta(delta("john.doe", 100, ActionType.DELETE, date));
+        workloadRepository.applyDelta(delta("john.doe", 30, ActionType.ADD, date.plusMonths(1)));
+
+        TrainerSummary summary = workloadRepository.findByUsername("john.doe").orElseThrow();
+
+        assertEquals("John", summary.getTrainerFirstName());
+        assertEquals(0, summary.getYears().get(2025).getDuration(8));
+        assertEquals(30, summary.getYears().get(2025).getDuration(9));
+        assertEquals(1, summary.getYears().size());
+    }
+
+    @Test
+    void findByUsername_shouldReturnDetachedSnapshot() {
+        workloadRepository.applyDelta(delta("john.doe", 60, ActionType.ADD, LocalDate.of(2025, 8, 21)));
+
+        YearSummary year = workloadRepository.findByUsername("john.doe").orElseThrow().getYears().get(2025);
+        year.setDuration(8, 1000);
+
+        assertEquals(60, workloadRepository.findByUsername("john.doe").orElseThrow()
+                .getYears().get(2025).getDuration(8));
+    }
+
+    @Test
+    void applyDelta_shouldNotLoseConcurrentUpdates() throws InterruptedException {
+        int threads = 8;
+        int updatesPerThread = 1000;
+        LocalDate date = LocalDate.of(2025, 8, 21);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < updatesPerThread; j++) {
+                    workloadRepository.applyDelta(delta("john.doe", 1, ActionType.ADD, date));
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * updatesPerThread, workloadRepository.findByUsername("john.doe").orElseThrow()
+                .getYears().get(2025).getDuration(8));
+    }
 }
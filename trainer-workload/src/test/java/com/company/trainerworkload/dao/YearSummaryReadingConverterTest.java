@@ -0,0 +1,40 @@
+package com.company.trainerworkload.dao;
+
+import com.company.trainerworkload.entity.YearSummary;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class YearSummaryReadingConverterTest {
+
+    private final YearSummaryReadingConverter converter = new YearSummaryReadingConverter();
+
+    @Test
+    void convert_shouldReadCompactLayout() {
+        Document source = new Document("months", List.of(10, 20, 0, 0, 0, 0, 0, 0, 0, 0, 0, 120));
+
+        YearSummary yearSummary = converter.convert(source);
+
+        assertArrayEquals(new int[]{10, 20, 0, 0, 0, 0, 0, 0, 0, 0, 0, 120}, yearSummary.getMonths());
+    }
+
+    @Test
+    void convert_shouldReadLegacyMonthMapLayout() {
+        Document source = new Document("months", new Document("6", new Document("trainingSummaryDuration", 45))
+                .append("12", new Document("trainingSummaryDuration", 30)));
+
+        YearSummary yearSummary = converter.convert(source);
+
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 45, 0, 0, 0, 0, 0, 30}, yearSummary.getMonths());
+    }
+
+    @Test
+    void convert_shouldDefaultMissingMonthsToZero() {
+        YearSummary yearSummary = converter.convert(new Document());
+
+        assertArrayEquals(new int[12], yearSummary.getMonths());
+    }
+}
@@ -0,0 +1,149 @@
+package com.company.trainerworkload.listener;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.entity.ActionType;
+import com.company.trainerworkload.service.TrainerWorkloadService;
+import com.company.trainerworkload.service.WorkloadEventDeduplicator;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchWorkloadListenerTest {
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    @Mock
+    private TrainerWorkloadService trainerWorkloadService;
+
+    @Mock
+    private WorkloadEventDeduplicator workloadEventDeduplicator;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageConsumer consumer;
+
+    @Mock
+    private Message first;
+
+    @Mock
+    private Message second;
+
+    private BatchWorkloadListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new BatchWorkloadListener(connectionFactory, messageConverter, trainerWorkloadService,
+                workloadEventDeduplicator, 2, 1000, 1, "ActiveMQ.DLQ");
+    }
+
+    private TrainerWorkloadRequest createRequest(String username) {
+        return new TrainerWorkloadRequest(username, "John", "Doe", true,
+                LocalDate.of(2024, 6, 15), 60, ActionType.ADD);
+    }
+
+    @Test
+    void receiveBatch_shouldStopAtBatchSize() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first, second);
+
+        assertEquals(List.of(first, second), listener.receiveBatch(consumer));
+        verify(consumer, times(2)).receive(anyLong());
+    }
+
+    @Test
+    void receiveBatch_shouldStopWhenQueueIsDrained() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first, (Message) null);
+
+        assertEquals(List.of(first), listener.receiveBatch(consumer));
+    }
+
+    @Test
+    void processBatch_shouldCommitAfterWrite() throws Exception {
+        TrainerWorkloadRequest firstRequest = createRequest("john.doe");
+        TrainerWorkloadRequest secondRequest = createRequest("john.doe");
+        when(messageConverter.fromMessage(first)).thenReturn(firstRequest);
+        when(messageConverter.fromMessage(second)).thenReturn(secondRequest);
+
+        listener.processBatch(session, List.of(first, second));
+
+        InOrder inOrder = inOrder(trainerWorkloadService, session);
+        inOrder.verify(trainerWorkloadService).updateWorkloads(List.of(firstRequest, secondRequest));
+        inOrder.verify(session).commit();
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    void processBatch_shouldRollbackWhenWriteFails() throws Exception {
+        when(messageConverter.fromMessage(first)).thenReturn(createRequest("john.doe"));
+        doThrow(new RuntimeException("Mongo down")).when(trainerWorkloadService).updateWorkloads(anyList());
+
+        listener.processBatch(session, List.of(first));
+
+        verify(session).rollback();
+        verify(session, never()).commit();
+    }
+
+    @Test
+    void processBatch_shouldDeadLetterInvalidMessages() throws Exception {
+        TrainerWorkloadRequest valid = createRequest("john.doe");
+        Queue deadLetterQueue = mock(Queue.class);
+        MessageProducer producer = mock(MessageProducer.class);
+        when(messageConverter.fromMessage(first)).thenReturn(createRequest(""));
+        when(messageConverter.fromMessage(second)).thenReturn(valid);
+        when(session.createQueue("ActiveMQ.DLQ")).thenReturn(deadLetterQueue);
+        when(session.createProducer(deadLetterQueue)).thenReturn(producer);
+
+        listener.processBatch(session, List.of(first, second));
+
+        verify(producer).send(first);
+        verify(trainerWorkloadService).updateWorkloads(List.of(valid));
+        verify(session).commit();
+    }
+
+    @Test
+    void processBatch_shouldDropProcessedAndRepeatedEvents() throws Exception {
+        TrainerWorkloadRequest processed = createRequest("john.doe");
+        processed.setEventId("event-1");
+        TrainerWorkloadRequest fresh = createRequest("john.doe");
+        fresh.setEventId("event-2");
+        TrainerWorkloadRequest repeated = createRequest("john.doe");
+        repeated.setEventId("event-2");
+        Message third = mock(Message.class);
+        when(messageConverter.fromMessage(first)).thenReturn(processed);
+        when(messageConverter.fromMessage(second)).thenReturn(fresh);
+        when(messageConverter.fromMessage(third)).thenReturn(repeated);
+        when(workloadEventDeduplicator.findProcessed(List.of("event-1", "event-2", "event-2"))).thenReturn(Set.of("event-1"));
+
+        listener.processBatch(session, List.of(first, second, third));
+
+        InOrder inOrder = inOrder(trainerWorkloadService, workloadEventDeduplicator, session);
+        inOrder.verify(trainerWorkloadService).updateWorkloads(List.of(fresh));
+        inOrder.verify(workloadEventDeduplicator).rememberApplied(List.of("event-2"));
+        inOrder.verify(session).commit();
+    }
+}
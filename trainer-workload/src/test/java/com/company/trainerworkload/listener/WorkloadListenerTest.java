@@ -3,18 +3,22 @@ package com.company.trainerworkload.listener;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
 import com.company.trainerworkload.entity.ActionType;
 import com.company.trainerworkload.service.TrainerWorkloadService;
+import com.company.trainerworkload.service.WorkloadEventDeduplicator;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +27,9 @@ class WorkloadListenerTest {
     @Mock
     private TrainerWorkloadService trainerWorkloadService;
 
+    @Mock
+    private WorkloadEventDeduplicator workloadEventDeduplicator;
+
     @InjectMocks
     private WorkloadListener workloadListener;
 
@@ -109,4 +116,26 @@ class WorkloadListenerTest {
         assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
         assertTrue(thrown.getCause().getMessage().contains("Action type is required"));
     }
+
+    @Test
+    void receiveMessage_shouldRecordEventIdAfterUpdate() {
+        request.setEventId("event-1");
+
+        workloadListener.receiveMessage(request, message);
+
+        InOrder inOrder = inOrder(trainerWorkloadService, workloadEventDeduplicator);
+        inOrder.verify(trainerWorkloadService).updateWorkload(request);
+        inOrder.verify(workloadEventDeduplicator).rememberApplied(Set.of("event-1"));
+    }
+
+    @Test
+    void receiveMessage_shouldSkipAlreadyProcessedEvent() {
+        request.setEventId("event-1");
+        when(workloadEventDeduplicator.isProcessed("event-1")).thenReturn(true);
+
+        workloadListener.receiveMessage(request, message);
+
+        verify(trainerWorkloadService, never()).updateWorkload(any());
+        verify(workloadEventDeduplicator, never()).rememberApplied(any());
+    }
 }
@@ -0,0 +1,73 @@
+package com.company.trainerworkload.listener;
+
+import com.company.trainerworkload.dto.TrainerWorkloadRebuildChunk;
+import com.company.trainerworkload.dto.TrainerWorkloadSnapshot;
+import com.company.trainerworkload.entity.TrainerSummary;
+import com.company.trainerworkload.service.TrainerWorkloadService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadRebuildListenerTest {
+
+    @Mock
+    private TrainerWorkloadService trainerWorkloadService;
+
+    @InjectMocks
+    private WorkloadRebuildListener workloadRebuildListener;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void receiveChunk_shouldReplaceSummariesOfAllTrainers() {
+        TrainerWorkloadSnapshot withTrainings = snapshot("john.doe");
+        withTrainings.getYears().put(2024, new int[]{0, 0, 0, 0, 0, 45, 30, 0, 0, 0, 0, 0});
+        TrainerWorkloadSnapshot withoutTrainings = snapshot("jane.doe");
+
+        workloadRebuildListener.receiveChunk(chunk(withTrainings, withoutTrainings));
+
+        ArgumentCaptor<List<TrainerSummary>> summariesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(trainerWorkloadService).replaceSummaries(summariesCaptor.capture());
+        List<TrainerSummary> summaries = summariesCaptor.getValue();
+        assertEquals(2, summaries.size());
+        assertEquals("john.doe", summaries.get(0).getTrainerUsername());
+        assertEquals(45, summaries.get(0).getYears().get(2024).getDuration(6));
+        assertEquals(30, summaries.get(0).getYears().get(2024).getDuration(7));
+        assertTrue(summaries.get(1).getYears().isEmpty());
+    }
+
+    @Test
+    void receiveChunk_shouldRejectTrainerWithoutUsername() {
+        TrainerWorkloadRebuildChunk chunk = chunk(snapshot("john.doe"), snapshot(" "));
+
+        assertThrows(IllegalArgumentException.class, () -> workloadRebuildListener.receiveChunk(chunk));
+
+        verify(trainerWorkloadService, never()).replaceSummaries(anyList());
+    }
+
+    private static TrainerWorkloadSnapshot snapshot(String username) {
+        TrainerWorkloadSnapshot snapshot = new TrainerWorkloadSnapshot();
+        snapshot.setTrainerUsername(username);
+        snapshot.setTrainerFirstName("John");
+        snapshot.setTrainerLastName("Doe");
+        snapshot.setActive(true);
+        return snapshot;
+    }
+
+    private static TrainerWorkloadRebuildChunk chunk(TrainerWorkloadSnapshot... snapshots) {
+        TrainerWorkloadRebuildChunk chunk = new TrainerWorkloadRebuildChunk();
+        chunk.setRebuildId(1L);
+        chunk.setChunkNumber(1);
+        chunk.setTrainers(List.of(snapshots));
+        return chunk;
+    }
+}
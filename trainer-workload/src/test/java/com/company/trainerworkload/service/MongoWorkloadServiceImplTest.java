@@ -2,22 +2,29 @@ package com.company.trainerworkload.service;
 
 import com.company.trainerworkload.dao.TrainerSummaryRepository;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
 import com.company.trainerworkload.entity.ActionType;
-import com.company.trainerworkload.entity.MonthSummary;
 import com.company.trainerworkload.entity.TrainerSummary;
-import com.company.trainerworkload.entity.YearSummary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,109 +48,131 @@ class MongoWorkloadServiceImplTest {
         return request;
     }
 
+    private WorkloadDelta captureDelta() {
+        ArgumentCaptor<WorkloadDelta> deltaCaptor = ArgumentCaptor.forClass(WorkloadDelta.class);
+        verify(repository).applyDelta(deltaCaptor.capture());
+        verify(repository, never()).findByTrainerUsername(anyString());
+        verify(repository, never()).save(any(TrainerSummary.class));
+        return deltaCaptor.getValue();
+    }
+
     @Test
-    void updateWorkload_forNewTrainer_shouldCreateAndSaveDocument() {
+    void updateWorkload_shouldApplyAtomicDeltaWithoutReadingDocument() {
         TrainerWorkloadRequest request = createRequest("john.doe", 60, ActionType.ADD, LocalDate.now());
-        when(repository.findByTrainerUsername("john.doe")).thenReturn(Optional.empty());
 
         service.updateWorkload(request);
 
-        ArgumentCaptor<TrainerSummary> summaryCaptor = ArgumentCaptor.forClass(TrainerSummary.class);
-        verify(repository).save(summaryCaptor.capture());
-        assertEquals("john.doe", summaryCaptor.getValue().getTrainerUsername());
+        WorkloadDelta delta = captureDelta();
+        assertEquals("john.doe", delta.getTrainerUsername());
+        assertEquals("John", delta.getTrainerFirstName());
+        assertEquals("Doe", delta.getTrainerLastName());
+        assertTrue(delta.isActive());
     }
 
     @Test
-    void updateWorkload_ActionTypeADD_ShouldAddDurationToExistingMonth() {
+    void updateWorkload_ActionTypeADD_ShouldIncrementMonth() {
         LocalDate date = LocalDate.of(2024, 6, 15);
         TrainerWorkloadRequest request = createRequest("jane.doe", 30, ActionType.ADD, date);
 
-        TrainerSummary existingSummary = new TrainerSummary();
-        existingSummary.setTrainerUsername("jane.doe");
-
-        MonthSummary existingMonthSummary = new MonthSummary();
-        existingMonthSummary.setTrainingSummaryDuration(45);
-
-        YearSummary existingYearSummary = new YearSummary();
-        existingYearSummary.getMonths().put(6, existingMonthSummary);
-
-        existingSummary.getYears().put(2024, existingYearSummary);
-
-        when(repository.findByTrainerUsername("jane.doe")).thenReturn(Optional.of(existingSummary));
-
         service.updateWorkload(request);
 
-        ArgumentCaptor<TrainerSummary> summaryCaptor = ArgumentCaptor.forClass(TrainerSummary.class);
-        verify(repository).save(summaryCaptor.capture());
-
-        TrainerSummary savedSummary = summaryCaptor.getValue();
-
-        MonthSummary updatedMonth = savedSummary.getYears().get(2024).getMonths().get(6);
-        assertEquals(75, updatedMonth.getTrainingSummaryDuration());
+        assertEquals(Map.of(YearMonth.of(2024, 6), 30), captureDelta().getDurationChanges());
     }
 
-
     @Test
-    void updateWorkload_ActionTypeDELETE_ShouldSubtractDuration() {
+    void updateWorkload_ActionTypeDELETE_ShouldDecrementMonth() {
         LocalDate date = LocalDate.of(2024, 6, 15);
         TrainerWorkloadRequest request = createRequest("jane.doe", 20, ActionType.DELETE, date);
 
-        TrainerSummary existingSummary = new TrainerSummary();
-        existingSummary.setTrainerUsername("jane.doe");
-
-        MonthSummary existingMonthSummary = new MonthSummary();
-        existingMonthSummary.setTrainingSummaryDuration(50);
-
-        YearSummary existingYearSummary = new YearSummary();
-        existingYearSummary.getMonths().put(6, existingMonthSummary);
-
-        existingSummary.getYears().put(2024, existingYearSummary);
-
-        when(repository.findByTrainerUsername("jane.doe")).thenReturn(Optional.of(existingSummary));
-
         service.updateWorkload(request);
 
-        ArgumentCaptor<TrainerSummary> summaryCaptor = ArgumentCaptor.forClass(TrainerSummary.class);
-        verify(repository).save(summaryCaptor.capture());
-
-        TrainerSummary savedSummary = summaryCaptor.getValue();
-
-        MonthSummary updatedMonth = savedSummary.getYears().get(2024).getMonths().get(6);
-        assertEquals(30, updatedMonth.getTrainingSummaryDuration());
+        assertEquals(Map.of(YearMonth.of(2024, 6), -20), captureDelta().getDurationChanges());
     }
 
     @Test
-    void updateWorkload_NewYear_ShouldCreateYearAndMonthAndAddDuration() {
-        LocalDate date = LocalDate.of(2025, 1, 15);
-        TrainerWorkloadRequest request = createRequest("jane.doe", 35, ActionType.ADD, date);
+    void updateWorkload_withWriteBehind_shouldWaitForFlushInsteadOfWriting() {
+        WorkloadWriteBehindBuffer buffer = mock(WorkloadWriteBehindBuffer.class);
+        service.setWriteBehindBuffer(buffer);
+        TrainerWorkloadRequest request = createRequest("john.doe", 60, ActionType.ADD, LocalDate.now());
+        when(buffer.enqueue(List.of(request))).thenReturn(CompletableFuture.completedFuture(null));
 
-        TrainerSummary existingSummary = new TrainerSummary();
-        existingSummary.setTrainerUsername("jane.doe");
+        service.updateWorkload(request);
 
-        MonthSummary monthSummary = new MonthSummary();
-        monthSummary.setTrainingSummaryDuration(50);
+        verify(buffer).enqueue(List.of(request));
+        verify(repository, never()).applyDelta(any(WorkloadDelta.class));
+    }
 
-        YearSummary yearSummary = new YearSummary();
-        yearSummary.getMonths().put(6, monthSummary);
+    @Test
+    void updateWorkload_withWriteBehind_shouldFailWhenFlushFails() {
+        WorkloadWriteBehindBuffer buffer = mock(WorkloadWriteBehindBuffer.class);
+        service.setWriteBehindBuffer(buffer);
+        TrainerWorkloadRequest request = createRequest("john.doe", 60, ActionType.ADD, LocalDate.now());
+        when(buffer.enqueue(List.of(request))).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Mongo down")));
 
-        existingSummary.getYears().put(2024, yearSummary);
+        assertThrows(IllegalStateException.class, () -> service.updateWorkload(request));
+    }
 
-        when(repository.findByTrainerUsername("jane.doe")).thenReturn(Optional.of(existingSummary));
+    @Test
+    void updateWorkload_withWriteBehind_shouldFlushItselfInsteadOfFailingWhenTheWaitElapses() {
+        WorkloadWriteBehindBuffer buffer = mock(WorkloadWriteBehindBuffer.class);
+        service.setWriteBehindBuffer(buffer);
+        service.setFlushWaitMs(10);
+        TrainerWorkloadRequest request = createRequest("john.doe", 60, ActionType.ADD, LocalDate.now());
+        CompletableFuture<Void> flush = new CompletableFuture<>();
+        when(buffer.enqueue(List.of(request))).thenReturn(flush);
+        doAnswer(invocation -> flush.complete(null)).when(buffer).flush();
 
         service.updateWorkload(request);
 
-        ArgumentCaptor<TrainerSummary> summaryCaptor = ArgumentCaptor.forClass(TrainerSummary.class);
-        verify(repository).save(summaryCaptor.capture());
+        verify(buffer).flush();
+    }
 
-        TrainerSummary savedSummary = summaryCaptor.getValue();
+    @Test
+    void getSummary_shouldDelegateToProjectionQuery() {
+        TrainerSummary summary = new TrainerSummary();
+        when(repository.findSummary("john.doe", 2026, 3)).thenReturn(Optional.of(summary));
 
-        assertEquals(50, savedSummary.getYears().get(2024).getMonths().get(6).getTrainingSummaryDuration());
+        assertEquals(Optional.of(summary), service.getSummary("john.doe", 2026, 3));
+        verify(repository, never()).findByTrainerUsername(anyString());
+    }
 
-        YearSummary newYear = savedSummary.getYears().get(2025);
-        assertNotNull(newYear);
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateWorkloads_shouldCoalescePerTrainerAndMonth() {
+        LocalDate june = LocalDate.of(2024, 6, 15);
+        List<TrainerWorkloadRequest> requests = List.of(
+                createRequest("jane.doe", 30, ActionType.ADD, june),
+                createRequest("john.doe", 60, ActionType.ADD, june),
+                createRequest("jane.doe", 45, ActionType.ADD, june.plusDays(3)),
+                createRequest("jane.doe", 20, ActionType.DELETE, june),
+                createRequest("jane.doe", 50, ActionType.ADD, LocalDate.of(2024, 7, 1)));
+
+        service.updateWorkloads(requests);
+
+        ArgumentCaptor<Collection<WorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).applyDeltas(deltasCaptor.capture());
+        verify(repository, never()).save(any(TrainerSummary.class));
+
+        List<WorkloadDelta> deltas = new ArrayList<>(deltasCaptor.getValue());
+        assertEquals(2, deltas.size());
+        assertEquals("jane.doe", deltas.get(0).getTrainerUsername());
+        assertEquals(55, deltas.get(0).getDurationChanges().get(YearMonth.of(2024, 6)));
+        assertEquals(50, deltas.get(0).getDurationChanges().get(YearMonth.of(2024, 7)));
+        assertEquals(60, deltas.get(1).getDurationChanges().get(YearMonth.of(2024, 6)));
+    }
 
-        MonthSummary newMonth = newYear.getMonths().get(1);
-        assertNotNull(newMonth);
-        assertEquals(35, newMonth.getTrainingSummaryDuration());
+    @Test
+    void replaceSummaries_withWriteBehind_shouldFlushPendingEventsFirst() {
+        WorkloadWriteBehindBuffer buffer = mock(WorkloadWriteBehindBuffer.class);
+        service.setWriteBehindBuffer(buffer);
+        TrainerSummary summary = new TrainerSummary();
+        summary.setTrainerUsername("john.doe");
+
+        service.replaceSummaries(List.of(summary));
+
+        InOrder inOrder = inOrder(buffer, repository);
+        inOrder.verify(buffer).flush();
+        inOrder.verify(repository).replaceSummaries(List.of(summary));
+        inOrder.verify(buffer).evict(List.of("john.doe"));
     }
 }
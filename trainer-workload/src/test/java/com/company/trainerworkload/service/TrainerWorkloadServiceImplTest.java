@@ -2,8 +2,8 @@ package com.company.trainerworkload.service;
 
 import com.company.trainerworkload.dao.WorkloadRepositoryImpl;
 import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
 import com.company.trainerworkload.entity.ActionType;
-import com.company.trainerworkload.entity.MonthSummary;
 import com.company.trainerworkload.entity.TrainerSummary;
 import com.company.trainerworkload.entity.YearSummary;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +12,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,26 +45,35 @@ class TrainerWorkloadServiceImplTest {
     @Test
     void updateWorkload_whenDeletingFromExisting() {
         LocalDate trainingDate = LocalDate.of(2025, 8, 21);
-        createRequest("john.doe", 100, ActionType.ADD, trainingDate);
         TrainerWorkloadRequest deleteRequest = createRequest("john.doe", 40, ActionType.DELETE, trainingDate);
 
+        trainerWorkloadService.updateWorkload(deleteRequest);
+
+        ArgumentCaptor<WorkloadDelta> deltaCaptor = ArgumentCaptor.forClass(WorkloadDelta.class);
+        verify(workloadRepository).applyDelta(deltaCaptor.capture());
+
+        WorkloadDelta delta = deltaCaptor.getValue();
+        assertEquals("john.doe", delta.getTrainerUsername());
+        assertEquals(-40, delta.getDurationChanges().get(YearMonth.of(2025, 8)));
+    }
+
+    @Test
+    void getSummary_withYearAndMonth_shouldReturnOnlyThatMonth() {
         TrainerSummary existingSummary = new TrainerSummary();
         existingSummary.setTrainerUsername("john.doe");
-        existingSummary.getYears()
-                .computeIfAbsent(2025, k -> new YearSummary())
-                .getMonths()
-                .computeIfAbsent(8, k -> new MonthSummary())
-                .setTrainingSummaryDuration(100);
+        YearSummary yearSummary = existingSummary.getYears().computeIfAbsent(2025, k -> new YearSummary());
+        yearSummary.setDuration(7, 30);
+        yearSummary.setDuration(8, 60);
+        existingSummary.getYears().put(2024, new YearSummary());
 
         when(workloadRepository.findByUsername("john.doe")).thenReturn(Optional.of(existingSummary));
 
-        trainerWorkloadService.updateWorkload(deleteRequest);
-
-        ArgumentCaptor<TrainerSummary> summaryCaptor = ArgumentCaptor.forClass(TrainerSummary.class);
-        verify(workloadRepository).save(summaryCaptor.capture());
+        TrainerSummary projection = trainerWorkloadService.getSummary("john.doe", 2025, 8).orElseThrow();
 
-        TrainerSummary savedSummary = summaryCaptor.getValue();
-        int duration = savedSummary.getYears().get(2025).getMonths().get(8).getTrainingSummaryDuration();
-        assertEquals(60, duration);
+        assertEquals("john.doe", projection.getTrainerUsername());
+        assertEquals(1, projection.getYears().size());
+        assertEquals(0, projection.getYears().get(2025).getDuration(7));
+        assertEquals(60, projection.getYears().get(2025).getDuration(8));
+        assertEquals(2, existingSummary.getYears().size());
     }
 }
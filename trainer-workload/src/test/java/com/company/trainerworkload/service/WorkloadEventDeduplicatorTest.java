@@ -0,0 +1,56 @@
+package com.company.trainerworkload.service;
+
+import com.company.trainerworkload.dao.TrainerSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadEventDeduplicatorTest {
+
+    @Mock
+    private TrainerSummaryRepository repository;
+
+    private WorkloadEventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new WorkloadEventDeduplicator(repository, 100, 60);
+    }
+
+    @Test
+    void findProcessed_shouldLookUpCacheMissesInOneQuery() {
+        when(repository.findAppliedEventIds(Set.of("event-1", "event-2"))).thenReturn(Set.of("event-1"));
+
+        assertEquals(Set.of("event-1"), deduplicator.findProcessed(List.of("event-1", "event-2")));
+        assertTrue(deduplicator.isProcessed("event-1"));
+
+        verify(repository, times(1)).findAppliedEventIds(any());
+    }
+
+    @Test
+    void rememberApplied_shouldCacheEventIdsWithoutWriting() {
+        deduplicator.rememberApplied(Arrays.asList("event-1", null));
+
+        assertTrue(deduplicator.isProcessed("event-1"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void isProcessed_shouldNeverMatchEventsWithoutId() {
+        assertFalse(deduplicator.isProcessed(null));
+        deduplicator.rememberApplied(Arrays.asList(null, null));
+
+        verifyNoInteractions(repository);
+    }
+}
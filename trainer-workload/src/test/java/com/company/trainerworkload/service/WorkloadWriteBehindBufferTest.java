@@ -0,0 +1,145 @@
+package com.company.trainerworkload.service;
+
+import com.company.trainerworkload.dao.TrainerSummaryRepository;
+import com.company.trainerworkload.dto.TrainerWorkloadRequest;
+import com.company.trainerworkload.dto.WorkloadDelta;
+import com.company.trainerworkload.entity.ActionType;
+import com.company.trainerworkload.entity.TrainerSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadWriteBehindBufferTest {
+
+    @Mock
+    private TrainerSummaryRepository repository;
+
+    private WorkloadWriteBehindBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+    }
+
+    private TrainerWorkloadRequest createRequest(String username, int duration, ActionType action) {
+        return new TrainerWorkloadRequest(username, "John", "Doe", true, LocalDate.of(2024, 6, 15), duration, action);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteCoalescedDeltasAndCompleteFuture() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 1000, 100, 60);
+
+        CompletableFuture<Void> first = buffer.enqueue(List.of(createRequest("john.doe", 60, ActionType.ADD)));
+        CompletableFuture<Void> second = buffer.enqueue(List.of(createRequest("john.doe", 15, ActionType.DELETE)));
+        assertFalse(first.isDone());
+        verifyNoInteractions(repository);
+
+        buffer.flush();
+
+        ArgumentCaptor<Collection<WorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).applyDeltas(deltasCaptor.capture());
+        List<WorkloadDelta> deltas = new ArrayList<>(deltasCaptor.getValue());
+        assertEquals(1, deltas.size());
+        assertEquals(45, deltas.get(0).getDurationChanges().get(YearMonth.of(2024, 6)));
+        assertSame(first, second);
+        assertTrue(first.isDone());
+        assertFalse(first.isCompletedExceptionally());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldCoalesceARedeliveredEventOnlyOnce() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 1000, 100, 60);
+        TrainerWorkloadRequest event = createRequest("john.doe", 60, ActionType.ADD);
+        event.setEventId("event-1");
+        TrainerWorkloadRequest redelivered = createRequest("john.doe", 60, ActionType.ADD);
+        redelivered.setEventId("event-1");
+
+        buffer.enqueue(List.of(event));
+        buffer.enqueue(List.of(redelivered));
+        buffer.flush();
+
+        ArgumentCaptor<Collection<WorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).applyDeltas(deltasCaptor.capture());
+        WorkloadDelta delta = deltasCaptor.getValue().iterator().next();
+        assertEquals(60, delta.getDurationChanges().get(YearMonth.of(2024, 6)));
+        assertEquals(1, delta.getEventChanges().size());
+        assertFalse(delta.hasEventsWithoutId());
+    }
+
+    @Test
+    void flush_shouldFailPendingFutureWhenWriteFails() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 1000, 100, 60);
+        doThrow(new RuntimeException("Mongo down")).when(repository).applyDeltas(anyCollection());
+
+        CompletableFuture<Void> flush = buffer.enqueue(List.of(createRequest("john.doe", 60, ActionType.ADD)));
+        buffer.flush();
+
+        assertTrue(flush.isCompletedExceptionally());
+        CompletableFuture<Void> next = buffer.enqueue(List.of(createRequest("john.doe", 60, ActionType.ADD)));
+        assertNotSame(flush, next);
+    }
+
+    @Test
+    void enqueue_shouldFlushWhenThresholdIsReached() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 2, 100, 60);
+
+        buffer.enqueue(List.of(createRequest("john.doe", 60, ActionType.ADD)));
+        CompletableFuture<Void> flush = buffer.enqueue(List.of(createRequest("jane.doe", 30, ActionType.ADD)));
+
+        assertDoesNotThrow(() -> flush.get(5, TimeUnit.SECONDS));
+        verify(repository).applyDeltas(anyCollection());
+    }
+
+    @Test
+    void findSummary_shouldCacheUntilNextFlush() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 1000, 100, 60);
+        TrainerSummary summary = new TrainerSummary();
+        when(repository.findSummary("john.doe", null, null)).thenReturn(Optional.of(summary));
+
+        assertEquals(Optional.of(summary), buffer.findSummary("john.doe"));
+        assertEquals(Optional.of(summary), buffer.findSummary("john.doe"));
+        verify(repository, times(1)).findSummary("john.doe", null, null);
+
+        buffer.enqueue(List.of(createRequest("john.doe", 60, ActionType.ADD)));
+        buffer.flush();
+        buffer.findSummary("john.doe");
+
+        verify(repository, times(2)).findSummary("john.doe", null, null);
+    }
+
+    @Test
+    void findSummary_shouldNotCacheSummaryLoadedAcrossAFlush() {
+        buffer = new WorkloadWriteBehindBuffer(repository, 1000, 100, 60);
+        TrainerSummary summary = new TrainerSummary();
+        when(repository.findSummary("john.doe", null, null)).thenAnswer(invocation -> {
+            buffer.evict(List.of("john.doe"));
+            return Optional.of(summary);
+        });
+
+        assertEquals(Optional.of(summary), buffer.findSummary("john.doe"));
+        assertEquals(Optional.of(summary), buffer.findSummary("john.doe"));
+
+        verify(repository, times(2)).findSummary("john.doe", null, null);
+    }
+}